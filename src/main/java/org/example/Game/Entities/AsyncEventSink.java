@@ -0,0 +1,491 @@
+package org.example.Game.Entities;
+
+import org.example.Game.Entities.ENUMS.DifficultyType;
+import org.example.Game.Entities.ENUMS.GameNotice;
+import org.example.Game.Entities.Interfaces.IDivision;
+import org.example.Game.Entities.Interfaces.IGameEventSink;
+import org.example.Game.Entities.Interfaces.IItem;
+import org.example.Structures.Interfaces.QueueADT;
+
+import java.io.BufferedOutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * The AsyncEventSink class passes the events of a game to another sink on a worker thread, so the game does not wait
+ * for them to be shown. Events are queued in the order they happen and handed over one by one in that order. When the
+ * events are printed to a buffered stream, it is flushed whenever the queue runs empty, so the output is written in a
+ * few large blocks instead of one line at a time.
+ *
+ * <p>Events only carry values taken when they happen, so they show the game as it was then even if it has moved on
+ * when they are handed over. Anything printed directly to the console, such as the menus, is not ordered with the
+ * queued events; {@link #flush()} waits until every event queued so far has been handed over.</p>
+ *
+ * <p>A sink that fails while handling an event does not stop the worker. The first failure is kept and thrown by the
+ * next {@link #flush()} or {@link #close()}, on the thread of the game.</p>
+ */
+public class AsyncEventSink implements IGameEventSink, AutoCloseable {
+
+    /**
+     * The size of the buffer of the console stream.
+     */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * The task that stops the worker.
+     */
+    private static final Runnable STOP = () -> {
+    };
+
+    /**
+     * The sink the events are handed over to.
+     */
+    private final IGameEventSink delegate;
+
+    /**
+     * The stream flushed when the queue runs empty; null if there is none.
+     */
+    private final PrintStream out;
+
+    /**
+     * The events waiting to be handed over.
+     */
+    private final LinkedBlockingQueue<Runnable> queue;
+
+    /**
+     * The thread that hands the events over.
+     */
+    private final Thread worker;
+
+    /**
+     * Whether the sink was closed; events received after that are ignored.
+     */
+    private volatile boolean closed;
+
+    /**
+     * The first failure of the sink the events are handed over to, not yet thrown; null if there is none.
+     */
+    private volatile RuntimeException failure;
+
+    /**
+     * Constructs a sink that prints the events to the standard output through a buffer, as
+     * {@link ConsoleEventSink} does.
+     */
+    public AsyncEventSink() {
+        this(new PrintStream(new BufferedOutputStream(System.out, BUFFER_SIZE), false));
+    }
+
+    /**
+     * Constructs a sink that prints the events to the given stream, as {@link ConsoleEventSink} does, flushing it
+     * whenever the queue runs empty.
+     *
+     * @param out the stream the events are printed to.
+     */
+    public AsyncEventSink(PrintStream out) {
+        this(new ConsoleEventSink(out), out);
+    }
+
+    /**
+     * Constructs a sink that hands the events over to the given sink.
+     *
+     * @param delegate the sink the events are handed over to.
+     */
+    public AsyncEventSink(IGameEventSink delegate) {
+        this(delegate, null);
+    }
+
+    /**
+     * Constructs a sink that hands the events over to the given sink, flushing the given stream whenever the queue
+     * runs empty.
+     *
+     * @param delegate the sink the events are handed over to.
+     * @param out the stream the sink writes to; null if there is none.
+     */
+    public AsyncEventSink(IGameEventSink delegate, PrintStream out) {
+        this.delegate = delegate;
+        this.out = out;
+        this.queue = new LinkedBlockingQueue<>();
+        this.worker = new Thread(this::drain, "game-events");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Waits until every event received so far has been handed over, the sink they are handed over to has flushed
+     * them and the stream is flushed.
+     *
+     * @throws IllegalStateException if handling an event failed since the last flush.
+     */
+    @Override
+    public void flush() {
+        CountDownLatch done = new CountDownLatch(1);
+        boolean queued = submit(() -> {
+            try {
+                delegate.flush();
+                flushOutput();
+            } finally {
+                done.countDown();
+            }
+        });
+        if (queued) {
+            try {
+                done.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        throwFailure();
+    }
+
+    /**
+     * Hands over every event received so far and stops the worker. Events received afterwards are ignored.
+     *
+     * @throws IllegalStateException if handling an event failed since the last flush.
+     */
+    @Override
+    public void close() {
+        boolean stopping;
+        synchronized (queue) {
+            stopping = !closed;
+            if (stopping) {
+                closed = true;
+                queue.add(STOP);
+            }
+        }
+        if (stopping) {
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        throwFailure();
+    }
+
+    /**
+     * Gets the log of the movements kept by the sink the events are handed over to. Call {@link #flush()} before
+     * reading it, so every event queued so far is in it and it is no longer written by the worker.
+     *
+     * @return the log of the movements; null if that sink keeps none.
+     */
+    @Override
+    public QueueADT<String> getMovementLog() {
+        return delegate.getMovementLog();
+    }
+
+    /**
+     * Queues the event for the worker.
+     *
+     * @param notice the event.
+     */
+    @Override
+    public void notice(GameNotice notice) {
+        submit(() -> delegate.notice(notice));
+    }
+
+    /**
+     * Queues the event for the worker.
+     *
+     * @param automatic whether the game is played automatically.
+     */
+    @Override
+    public void gameStarted(boolean automatic) {
+        submit(() -> delegate.gameStarted(automatic));
+    }
+
+    /**
+     * Queues the event for the worker.
+     *
+     * @param difficulty the difficulty the game is played on.
+     */
+    @Override
+    public void difficultySelected(DifficultyType difficulty) {
+        submit(() -> delegate.difficultySelected(difficulty));
+    }
+
+    /**
+     * Queues the event for the worker.
+     *
+     * @param division the division of the fight.
+     */
+    @Override
+    public void fightStarted(IDivision division) {
+        submit(() -> delegate.fightStarted(division));
+    }
+
+    /**
+     * Queues the event for the worker.
+     *
+     * @param division the division of the fight.
+     */
+    @Override
+    public void fightEnded(IDivision division) {
+        submit(() -> delegate.fightEnded(division));
+    }
+
+    /**
+     * Queues the event for the worker.
+     *
+     * @param enemyName the name of the enemy.
+     * @param power the power To Cruz attacked with.
+     * @param powerLeft the power the enemy has left; zero or below if it was defeated.
+     */
+    @Override
+    public void enemyAttacked(String enemyName, int power, int powerLeft) {
+        submit(() -> delegate.enemyAttacked(enemyName, power, powerLeft));
+    }
+
+    /**
+     * Queues the event for the worker.
+     *
+     * @param enemyName the name of the enemy.
+     * @param division the division of To Cruz.
+     * @param power the power the enemy attacked with.
+     */
+    @Override
+    public void toCruzAttacked(String enemyName, IDivision division, int power) {
+        submit(() -> delegate.toCruzAttacked(enemyName, division, power));
+    }
+
+    /**
+     * Queues the event for the worker.
+     *
+     * @param division the division of To Cruz.
+     */
+    @Override
+    public void toCruzCounterattacked(IDivision division) {
+        submit(() -> delegate.toCruzCounterattacked(division));
+    }
+
+    /**
+     * Queues the event for the worker.
+     *
+     * @param enemyName the name of the enemy.
+     * @param from the division the enemy left.
+     * @param to the division the enemy entered.
+     */
+    @Override
+    public void enemyMoved(String enemyName, IDivision from, IDivision to) {
+        submit(() -> delegate.enemyMoved(enemyName, from, to));
+    }
+
+    /**
+     * Queues the event for the worker.
+     *
+     * @param enemyName the name of the enemy.
+     * @param division the division of To Cruz.
+     * @param power the power the enemy attacked with.
+     */
+    @Override
+    public void toCruzAmbushed(String enemyName, IDivision division, int power) {
+        submit(() -> delegate.toCruzAmbushed(enemyName, division, power));
+    }
+
+    /**
+     * Queues the event for the worker.
+     *
+     * @param enemyName the name of the enemy.
+     * @param division the division of the enemy.
+     */
+    @Override
+    public void enemyStayed(String enemyName, IDivision division) {
+        submit(() -> delegate.enemyStayed(enemyName, division));
+    }
+
+    /**
+     * Queues the event for the worker.
+     *
+     * @param division the division of To Cruz.
+     */
+    @Override
+    public void divisionAttacked(IDivision division) {
+        submit(() -> delegate.divisionAttacked(division));
+    }
+
+    /**
+     * Queues the event for the worker.
+     *
+     * @param item the item.
+     * @param division the division the item was in.
+     */
+    @Override
+    public void itemCollected(IItem item, IDivision division) {
+        submit(() -> delegate.itemCollected(item, division));
+    }
+
+    /**
+     * Queues the event for the worker.
+     *
+     * @param healthKits the number of health kits he carries now.
+     */
+    @Override
+    public void healthKitAdded(int healthKits) {
+        submit(() -> delegate.healthKitAdded(healthKits));
+    }
+
+    /**
+     * Queues the event for the worker.
+     *
+     * @param health the health of To Cruz with the vest.
+     */
+    @Override
+    public void vestConsumed(int health) {
+        submit(() -> delegate.vestConsumed(health));
+    }
+
+    /**
+     * Queues the event for the worker.
+     *
+     * @param health the health of To Cruz after using it.
+     */
+    @Override
+    public void healthKitUsed(int health) {
+        submit(() -> delegate.healthKitUsed(health));
+    }
+
+    /**
+     * Queues the event for the worker.
+     *
+     * @param division the division the target was in.
+     */
+    @Override
+    public void targetCaptured(IDivision division) {
+        submit(() -> delegate.targetCaptured(division));
+    }
+
+    /**
+     * Queues the event for the worker.
+     *
+     * @param division the division To Cruz entered.
+     */
+    @Override
+    public void toCruzMoved(IDivision division) {
+        submit(() -> delegate.toCruzMoved(division));
+    }
+
+    /**
+     * Queues the event for the worker.
+     *
+     * @param division the division To Cruz entered.
+     */
+    @Override
+    public void moveCompleted(IDivision division) {
+        submit(() -> delegate.moveCompleted(division));
+    }
+
+    /**
+     * Queues the event for the worker.
+     *
+     * @param health the health To Cruz finished with.
+     */
+    @Override
+    public void missionFinalized(int health) {
+        submit(() -> delegate.missionFinalized(health));
+    }
+
+    /**
+     * Queues the event for the worker.
+     *
+     * @param health the health To Cruz finished with.
+     */
+    @Override
+    public void missionSucceeded(int health) {
+        submit(() -> delegate.missionSucceeded(health));
+    }
+
+    /**
+     * Queues the event for the worker.
+     *
+     * @param health the health To Cruz fell with.
+     */
+    @Override
+    public void toCruzFallen(int health) {
+        submit(() -> delegate.toCruzFallen(health));
+    }
+
+    /**
+     * Queues the event for the worker.
+     *
+     * @param health the health To Cruz fell with.
+     */
+    @Override
+    public void gameOver(int health) {
+        submit(() -> delegate.gameOver(health));
+    }
+
+    /**
+     * Queues the event for the worker.
+     *
+     * @param message the message of the error.
+     */
+    @Override
+    public void saveFailed(String message) {
+        submit(() -> delegate.saveFailed(message));
+    }
+
+    /**
+     * Queues an event, unless the sink was closed.
+     *
+     * @param event the task that hands the event over.
+     * @return true if the event was queued; false if the sink was closed.
+     */
+    private boolean submit(Runnable event) {
+        synchronized (queue) {
+            if (closed) {
+                return false;
+            }
+            queue.add(event);
+            return true;
+        }
+    }
+
+    /**
+     * Hands the queued events over until the sink is closed, flushing the stream whenever the queue runs empty.
+     */
+    private void drain() {
+        try {
+            while (true) {
+                Runnable event = queue.take();
+                if (event == STOP) {
+                    break;
+                }
+                try {
+                    event.run();
+                } catch (RuntimeException e) {
+                    if (failure == null) {
+                        failure = e;
+                    }
+                }
+                if (queue.isEmpty()) {
+                    flushOutput();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushOutput();
+    }
+
+    /**
+     * Throws the first failure of the sink the events are handed over to, if there is one, and forgets it.
+     *
+     * @throws IllegalStateException if handling an event failed.
+     */
+    private void throwFailure() {
+        RuntimeException e = failure;
+        if (e != null) {
+            failure = null;
+            throw new IllegalStateException("Handling a game event failed", e);
+        }
+    }
+
+    /**
+     * Flushes the stream, if there is one.
+     */
+    private void flushOutput() {
+        if (out != null) {
+            out.flush();
+        }
+    }
+}
@@ -1,7 +1,12 @@
 package org.example.Game.Entities;
 
+import org.example.Structures.Implementations.AdjacencyList;
+import org.example.Structures.Implementations.AllPairsShortestPaths;
 import org.example.Structures.Implementations.ArrayUnorderedList;
 import org.example.Structures.Implementations.Network;
+import org.example.Structures.Interfaces.AdjacencyADT;
+
+import java.util.Iterator;
 
 /**
  * The Building class extends the Network class, representing a specific implementation of a graph structure
@@ -13,12 +18,221 @@ import org.example.Structures.Implementations.Network;
 public class Building<T> extends Network<T> {
 
     /**
-     * Constructs a new Building object by calling the constructor of the parent Network class.
+     * Whether shortest path queries are answered from the all-pairs table.
+     */
+    private boolean pathCacheEnabled = false;
+
+    /**
+     * The all-pairs table, or null if it has to be built again before the next query.
+     */
+    private AllPairsShortestPaths pathCache = null;
+
+    /**
+     * Constructs a new Building object. Floor plans connect every division to only a few others, so the connections
+     * are kept in an {@link AdjacencyList} instead of a matrix.
      */
     public Building() {
-        super();
+        super(new AdjacencyList());
+    }
+
+    /**
+     * Constructs a new Building object that keeps its connections in the given storage.
+     *
+     * @param adjacency The empty storage for the connections between divisions.
+     */
+    public Building(AdjacencyADT adjacency) {
+        super(adjacency);
+    }
+
+
+    /**
+     * Answers later shortest path queries from an all-pairs table of distances and next hops, so a repeated query
+     * costs O(path length). The table is built on the first query and kept up to date as the building changes.
+     */
+    public void enablePathCache() {
+        pathCacheEnabled = true;
+    }
+
+    /**
+     * Stops using the all-pairs table and releases it.
+     */
+    public void disablePathCache() {
+        pathCacheEnabled = false;
+        pathCache = null;
+    }
+
+    /**
+     * Checks if shortest path queries are answered from the all-pairs table.
+     *
+     * @return true if the table is enabled, false otherwise.
+     */
+    public boolean isPathCacheEnabled() {
+        return pathCacheEnabled;
+    }
+
+    /**
+     * Returns the all-pairs table, building it if the building changed in a way it could not follow.
+     *
+     * @return The up to date table.
+     */
+    private AllPairsShortestPaths getPathCache() {
+        if (pathCache == null) {
+            pathCache = new AllPairsShortestPaths(this);
+        }
+        return pathCache;
     }
 
+    /**
+     * Inserts or replaces an edge. A new or cheaper edge is merged into the all-pairs table, while a more expensive
+     * one discards it.
+     *
+     * @param index1 The index of the first vertex.
+     * @param index2 The index of the second vertex.
+     * @param weight The weight of the edge.
+     */
+    @Override
+    public void addEdge(int index1, int index2, double weight) {
+        if (pathCache != null && indexIsValid(index1) && indexIsValid(index2)) {
+            if (weight <= adjacency.getWeight(index1, index2)) {
+                pathCache.edgeDecreased(index1, index2, weight);
+            } else {
+                pathCache = null;
+            }
+        }
+        super.addEdge(index1, index2, weight);
+    }
+
+    /**
+     * Removes an edge. The all-pairs table is kept when no shortest path used the edge and discarded otherwise.
+     *
+     * @param index1 The index of the first vertex.
+     * @param index2 The index of the second vertex.
+     */
+    @Override
+    public void removeEdge(int index1, int index2) {
+        if (pathCache != null && indexIsValid(index1) && indexIsValid(index2)
+                && !pathCache.keepsAfterRemovingEdge(index1, index2, adjacency.getWeight(index1, index2))) {
+            pathCache = null;
+        }
+        super.removeEdge(index1, index2);
+    }
+
+    /**
+     * Adds a vertex without a value. The all-pairs table grows by one unreachable vertex, unless the vertex takes the
+     * slot of a removed one, which the table already treats as unreachable.
+     */
+    @Override
+    public void addVertex() {
+        int slots = numVertices;
+        super.addVertex();
+        if (pathCache != null && numVertices > slots) {
+            pathCache.vertexAdded();
+        }
+    }
+
+    /**
+     * Adds a vertex. The all-pairs table grows by one unreachable vertex, unless the vertex takes the slot of a
+     * removed one, which the table already treats as unreachable.
+     *
+     * @param vertex The vertex to add.
+     */
+    @Override
+    public void addVertex(T vertex) {
+        int slots = numVertices;
+        super.addVertex(vertex);
+        if (pathCache != null && numVertices > slots) {
+            pathCache.vertexAdded();
+        }
+    }
+
+    /**
+     * Removes the vertex at the given index. Its edges disappear and the later vertices may change index, so the
+     * all-pairs table is discarded.
+     *
+     * @param index The index of the vertex to remove.
+     */
+    @Override
+    public void removeVertex(int index) {
+        if (indexIsValid(index)) {
+            pathCache = null;
+        }
+        super.removeVertex(index);
+    }
+
+    /**
+     * Removes several vertices at once, such as every division of a sealed floor, and discards the all-pairs table.
+     *
+     * @param toRemove The vertices to remove.
+     */
+    @Override
+    public void removeVertices(Iterable<T> toRemove) {
+        pathCache = null;
+        super.removeVertices(toRemove);
+    }
+
+    /**
+     * Removes every tombstone left by lazy removal. The vertices change index, so the all-pairs table is discarded.
+     *
+     * @return The new index of every old index, or -1 for the removed vertices.
+     */
+    @Override
+    public int[] compact() {
+        if (removedCount > 0) {
+            pathCache = null;
+        }
+        return super.compact();
+    }
+
+    /**
+     * Returns the weight of the shortest path between two vertices, read from the all-pairs table when it is enabled.
+     *
+     * @param startIndex  The index of the starting vertex.
+     * @param targetIndex The index of the target vertex.
+     * @return The weight of the path, or {@link Double}.POSITIVE_INFINITY if there is none.
+     */
+    @Override
+    public double shortestPathWeight(int startIndex, int targetIndex) {
+        if (!pathCacheEnabled) {
+            return super.shortestPathWeight(startIndex, targetIndex);
+        }
+        if (!indexIsValid(startIndex) || !indexIsValid(targetIndex) || startIndex == targetIndex) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return getPathCache().getWeight(startIndex, targetIndex);
+    }
+
+    /**
+     * Returns the indices of the shortest path between two vertices. When the all-pairs table is enabled the path is
+     * read by following the next hops, without searching the building.
+     *
+     * @param startIndex  The index of the starting vertex.
+     * @param targetIndex The index of the target vertex.
+     * @return An iterator over the indices of the path, empty if there is none.
+     */
+    @Override
+    protected Iterator<Integer> iteratorShortestPathIndices(int startIndex, int targetIndex) {
+        if (!pathCacheEnabled) {
+            return super.iteratorShortestPathIndices(startIndex, targetIndex);
+        }
+
+        ArrayUnorderedList<Integer> path = new ArrayUnorderedList<>();
+        if (!indexIsValid(startIndex) || !indexIsValid(targetIndex) || startIndex == targetIndex) {
+            return path.iterator();
+        }
+
+        AllPairsShortestPaths table = getPathCache();
+        if (table.getNextHop(startIndex, targetIndex) == -1) {
+            return path.iterator();
+        }
+
+        int index = startIndex;
+        path.addToRear(index);
+        while (index != targetIndex) {
+            index = table.getNextHop(index, targetIndex);
+            path.addToRear(index);
+        }
+        return path.iterator();
+    }
 
     /**
      * Checks if the graph contains the specified vertex.
@@ -27,12 +241,7 @@ public class Building<T> extends Network<T> {
      * @return true if the vertex exists in the graph, false otherwise.
      */
     public boolean containsVertex(T vertex) {
-        for (int i = 0; i < this.numVertices; i++) {
-            if (vertices[i].equals(vertex)) {
-                return true;
-            }
-        }
-        return false;
+        return getIndex(vertex) != -1;
     }
 
     /**
@@ -43,7 +252,9 @@ public class Building<T> extends Network<T> {
     public ArrayUnorderedList<T> getAllVertices() {
         ArrayUnorderedList<T> vertexList = new ArrayUnorderedList<>();
         for (int i = 0; i < numVertices; i++) {
-            vertexList.addToRear(vertices[i]);
+            if (!removed[i]) {
+                vertexList.addToRear(vertices[i]);
+            }
         }
         return vertexList;
     }
@@ -71,22 +282,20 @@ public class Building<T> extends Network<T> {
         checkVertexExists(vertex);
         ArrayUnorderedList<T> neighbors = new ArrayUnorderedList<>();
         int index = getIndex(vertex);
-        for (int i = 0; i < numVertices; i++) {
-            if (networkAdjMatrix[index][i] != Double.POSITIVE_INFINITY) {
-                neighbors.addToRear(vertices[i]);
-            }
+        for (int e = adjacency.firstEdge(index); e != -1; e = adjacency.nextEdge(index, e)) {
+            neighbors.addToRear(vertices[adjacency.edgeTarget(index, e)]);
         }
         return neighbors;
     }
 
     /**
-     * Checks if a given index is within the valid range of vertex indices.
+     * Checks if a given index belongs to a vertex of the building, that is, within range and not removed.
      *
      * @param index The index to check for validity.
      * @return true if the index is valid, false otherwise.
      */
     public boolean indexIsValid(int index) {
-        return index >= 0 && index < numVertices;
+        return super.indexIsValid(index);
     }
 
 
@@ -97,10 +306,8 @@ public class Building<T> extends Network<T> {
      * @param vertexIndex The index of the vertex to find neighbors for.
      */
     private void appendNeighbors(StringBuilder result, int vertexIndex) {
-        for (int j = 0; j < numVertices; j++) {
-            if (networkAdjMatrix[vertexIndex][j] != Double.POSITIVE_INFINITY) {
-                result.append(vertices[j]).append(" ");
-            }
+        for (int e = adjacency.firstEdge(vertexIndex); e != -1; e = adjacency.nextEdge(vertexIndex, e)) {
+            result.append(vertices[adjacency.edgeTarget(vertexIndex, e)]).append(" ");
         }
     }
 
@@ -113,6 +320,9 @@ public class Building<T> extends Network<T> {
     public String toString() {
         StringBuilder result = new StringBuilder();
         for (int i = 0; i < numVertices; i++) {
+            if (removed[i]) {
+                continue;
+            }
             result.append(vertices[i]).append(" -> ");
             appendNeighbors(result, i);
             result.append("\n");
@@ -0,0 +1,284 @@
+package org.example.Game.Entities;
+
+import org.example.Game.Entities.ENUMS.DifficultyType;
+import org.example.Game.Entities.ENUMS.GameNotice;
+import org.example.Game.Entities.Interfaces.IDivision;
+import org.example.Game.Entities.Interfaces.IGameEventSink;
+
+import java.io.PrintStream;
+
+/**
+ * The ConsoleEventSink class shows the events of a game as the messages the player reads on the console.
+ */
+public class ConsoleEventSink implements IGameEventSink {
+
+    /**
+     * The line that frames the messages of the game.
+     */
+    private static final String LINE = "════════════════════════════════════════════════════";
+
+    /**
+     * The line that frames the attack of an enemy that moved into the division of To Cruz.
+     */
+    private static final String SHORT_LINE = "═══════════════════════════════════════════════";
+
+    /**
+     * The line that frames the end of a mission.
+     */
+    private static final String LONG_LINE = "════════════════════════════════════════════════════════════════════════════════";
+
+    /**
+     * The stream the messages are printed to.
+     */
+    private final PrintStream out;
+
+    /**
+     * Constructs a sink that prints to the standard output.
+     */
+    public ConsoleEventSink() {
+        this(System.out);
+    }
+
+    /**
+     * Constructs a sink that prints to the given stream.
+     *
+     * @param out the stream the messages are printed to.
+     */
+    public ConsoleEventSink(PrintStream out) {
+        this.out = out;
+    }
+
+    /**
+     * Prints the message of a notice.
+     *
+     * @param notice the event.
+     */
+    @Override
+    public void notice(GameNotice notice) {
+        out.println(notice.getMessage());
+    }
+
+    /**
+     * Prints the banner of a new game.
+     *
+     * @param automatic whether the game is played automatically.
+     */
+    @Override
+    public void gameStarted(boolean automatic) {
+        out.println(LINE);
+        out.println(automatic ? "               STARTING AUTOMATIC GAME              "
+                : "               STARTING MANUAL GAME                 ");
+        out.println(LINE);
+    }
+
+    /**
+     * Prints the difficulty the game is loaded with.
+     *
+     * @param difficulty the difficulty the game is played on.
+     */
+    @Override
+    public void difficultySelected(DifficultyType difficulty) {
+        out.println("Loading game with difficulty: " + difficulty);
+    }
+
+    /**
+     * Prints the banner of the fight in a division.
+     *
+     * @param division the division of the fight.
+     */
+    @Override
+    public void fightStarted(IDivision division) {
+        out.println(LINE);
+        out.println("           IN-GAME Current Division Fight           ");
+        out.println(LINE);
+    }
+
+    /**
+     * Prints the line that closes the fight in a division.
+     *
+     * @param division the division of the fight.
+     */
+    @Override
+    public void fightEnded(IDivision division) {
+        out.println(LINE);
+    }
+
+    /**
+     * Prints the attack of To Cruz on an enemy and the power the enemy has left.
+     *
+     * @param enemyName the name of the enemy.
+     * @param power the power To Cruz attacked with.
+     * @param powerLeft the power the enemy has left.
+     */
+    @Override
+    public void enemyAttacked(String enemyName, int power, int powerLeft) {
+        out.println(LINE);
+        out.println("To Cruz attacked " + enemyName + " with power " + power);
+        if (powerLeft <= 0) {
+            out.println(enemyName + " has been defeated!");
+        } else {
+            out.println(enemyName + " has " + powerLeft + " power left.");
+        }
+        out.println(LINE);
+    }
+
+    /**
+     * Prints that the enemies left attacked To Cruz.
+     *
+     * @param division the division of To Cruz.
+     */
+    @Override
+    public void toCruzCounterattacked(IDivision division) {
+        out.println("ToCruz attacked by enemies!");
+    }
+
+    /**
+     * Prints the move of an enemy.
+     *
+     * @param enemyName the name of the enemy.
+     * @param from the division the enemy left.
+     * @param to the division the enemy entered.
+     */
+    @Override
+    public void enemyMoved(String enemyName, IDivision from, IDivision to) {
+        out.println(LINE);
+        out.printf("Enemy '%s' moved from '%s' to '%s'.%n", enemyName, from.getName(), to.getName());
+        out.println(LINE);
+    }
+
+    /**
+     * Prints that an enemy moved into the division of To Cruz and attacked him.
+     *
+     * @param enemyName the name of the enemy.
+     * @param division the division of To Cruz.
+     * @param power the power the enemy attacked with.
+     */
+    @Override
+    public void toCruzAmbushed(String enemyName, IDivision division, int power) {
+        out.println(SHORT_LINE);
+        out.println("ToCruz attacked by new enemy in this division!");
+        out.println(SHORT_LINE);
+    }
+
+    /**
+     * Prints that an enemy could not move.
+     *
+     * @param enemyName the name of the enemy.
+     * @param division the division of the enemy.
+     */
+    @Override
+    public void enemyStayed(String enemyName, IDivision division) {
+        out.printf("Enemy '%s' remains in '%s' as there are no nearby divisions.%n", enemyName, division.getName());
+    }
+
+    /**
+     * Prints that To Cruz attacked the enemies in his division.
+     *
+     * @param division the division of To Cruz.
+     */
+    @Override
+    public void divisionAttacked(IDivision division) {
+        out.println("To Cruz attacked enemies in the current division!");
+    }
+
+    /**
+     * Prints the number of health kits To Cruz carries.
+     *
+     * @param healthKits the number of health kits he carries now.
+     */
+    @Override
+    public void healthKitAdded(int healthKits) {
+        out.println("Health kit added! Current kits: " + healthKits);
+    }
+
+    /**
+     * Prints the health of To Cruz with the vest.
+     *
+     * @param health the health of To Cruz with the vest.
+     */
+    @Override
+    public void vestConsumed(int health) {
+        out.println("Bulletproof vest consumed! Current health: " + health);
+    }
+
+    /**
+     * Prints the health of To Cruz after using a health kit.
+     *
+     * @param health the health of To Cruz after using it.
+     */
+    @Override
+    public void healthKitUsed(int health) {
+        out.println("Used a health kit! New health: " + health);
+    }
+
+    /**
+     * Prints that the target was captured.
+     *
+     * @param division the division the target was in.
+     */
+    @Override
+    public void targetCaptured(IDivision division) {
+        out.println("Target captured successfully!");
+    }
+
+    /**
+     * Prints the division To Cruz entered.
+     *
+     * @param division the division To Cruz entered.
+     */
+    @Override
+    public void toCruzMoved(IDivision division) {
+        out.println("You moved to the new division: " + division.getName());
+    }
+
+    /**
+     * Prints the division To Cruz entered, once the fight there is over.
+     *
+     * @param division the division To Cruz entered.
+     */
+    @Override
+    public void moveCompleted(IDivision division) {
+        out.println("You have successfully moved to the new division: " + division.getName());
+    }
+
+    /**
+     * Prints the banner of a successful mission.
+     *
+     * @param health the health To Cruz finished with.
+     */
+    @Override
+    public void missionSucceeded(int health) {
+        out.println(LONG_LINE);
+        out.println("                       🎯 Mission Status: Success! 🚀                          ");
+        out.println(LONG_LINE);
+        out.println("\nThe mission is successful! Great job agent!!");
+        out.println("To Cruz have finished with a total of " + health + " health points!");
+        out.println("\n══════════════════════════════════════════════════════════════════════════════");
+    }
+
+    /**
+     * Prints the banner of the fall of To Cruz.
+     *
+     * @param health the health To Cruz fell with.
+     */
+    @Override
+    public void gameOver(int health) {
+        out.println(LONG_LINE);
+        out.println("                    ☠️  GAME OVER: TO CRUZ HAS FALLEN! ☠️                       ");
+        out.println(LONG_LINE);
+        out.println("The brave hero, To Cruz, has succumbed to his injuries.");
+        out.println("His health has dropped to zero. The mission ends here.");
+        out.println("To Cruz ended the mission with " + health + " health points.");
+        out.println(LONG_LINE);
+    }
+
+    /**
+     * Prints an error saving the mission.
+     *
+     * @param message the message of the error.
+     */
+    @Override
+    public void saveFailed(String message) {
+        out.println("Error saving mission records: " + message);
+    }
+}
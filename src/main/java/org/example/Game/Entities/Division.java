@@ -53,6 +53,16 @@ public class Division implements IDivision {
         return name.equals(division.name);
     }
 
+    /**
+     * Returns a hash code based on the name of the division, consistent with {@link #equals(Object)}.
+     *
+     * @return The hash code of the division's name.
+     */
+    @Override
+    public int hashCode() {
+        return name.hashCode();
+    }
+
     /**
      * Compares this division to another division.
      *
@@ -64,4 +74,4 @@ public class Division implements IDivision {
     public int compareTo(IDivision other) {
         return this.name.compareTo(other.getName());
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
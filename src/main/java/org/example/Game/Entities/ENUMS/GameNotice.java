@@ -0,0 +1,130 @@
+package org.example.Game.Entities.ENUMS;
+
+/**
+ * The GameNotice enum represents the events of the game that carry no data, such as an action that could not be
+ * taken. Each notice keeps the message the console shows for it, so sending one never builds a string.
+ */
+public enum GameNotice {
+    /**
+     * NO_ENEMIES_TO_ATTACK means To Cruz attacked a division with no enemies.
+     */
+    NO_ENEMIES_TO_ATTACK("No enemies available in this division to attack!"),
+
+    /**
+     * NO_ENEMIES_TO_COUNTERATTACK means no enemy was left in the division to attack To Cruz back.
+     */
+    NO_ENEMIES_TO_COUNTERATTACK("No enemies available in this division, to attack To Cruz!"),
+
+    /**
+     * NO_ITEMS_TO_COLLECT means To Cruz tried to pick up items in a division with none.
+     */
+    NO_ITEMS_TO_COLLECT("No items available to pick up in this division."),
+
+    /**
+     * HEALTH_KITS_FULL means a life kit was found while To Cruz carried as many health kits as he can.
+     */
+    HEALTH_KITS_FULL("Cannot add more health kits. Maximum capacity reached."),
+
+    /**
+     * VEST_ALREADY_IN_USE means a bulletproof vest was found while To Cruz was wearing one.
+     */
+    VEST_ALREADY_IN_USE("You are already using a bulletproof vest! Cannot use another one."),
+
+    /**
+     * INVALID_VEST means the item given as a bulletproof vest was not one.
+     */
+    INVALID_VEST("The item is not a valid bulletproof vest."),
+
+    /**
+     * HEALTH_ALREADY_FULL means To Cruz tried to use a health kit at full health.
+     */
+    HEALTH_ALREADY_FULL("Life is already full! Cannot use a health kit."),
+
+    /**
+     * NO_HEALTH_KITS means To Cruz tried to use a health kit without carrying any.
+     */
+    NO_HEALTH_KITS("No health kits available!"),
+
+    /**
+     * INVALID_HEALTH_KIT means the health kit used had no recovery points; it is lost anyway.
+     */
+    INVALID_HEALTH_KIT("The item is not a valid health kit!"),
+
+    /**
+     * TARGET_GUARDED means To Cruz tried to capture the target while enemies were in his division.
+     */
+    TARGET_GUARDED("Cannot capture the target. Enemies are present in this division."),
+
+    /**
+     * NO_TARGET means To Cruz tried to capture the target outside its division.
+     */
+    NO_TARGET("No target available in this division."),
+
+    /**
+     * NO_NEARBY_DIVISIONS means To Cruz tried to move from a division with no connections.
+     */
+    NO_NEARBY_DIVISIONS("No nearby divisions to move to."),
+
+    /**
+     * MOVE_BLOCKED means To Cruz tried to leave a division that still had enemies.
+     */
+    MOVE_BLOCKED("There are enemies in the current division. You cannot move yet."),
+
+    /**
+     * MOVE_FAILED means the division chosen by the player could not be entered.
+     */
+    MOVE_FAILED("Failed to move to the new division."),
+
+    /**
+     * NO_TO_CRUZ means the mission was finalized before To Cruz was created.
+     */
+    NO_TO_CRUZ("ToCruz is not initialized."),
+
+    /**
+     * TARGET_NOT_CAPTURED means the mission was finalized before To Cruz captured the target.
+     */
+    TARGET_NOT_CAPTURED("Mission cannot be finalized. ToCruz has not captured the target."),
+
+    /**
+     * NOT_IN_ENTRY_POINT means the mission was finalized with To Cruz away from every entry point.
+     */
+    NOT_IN_ENTRY_POINT("Mission cannot be finalized. ToCruz is not in an entry point."),
+
+    /**
+     * RECORDS_SAVED means the records of the mission were written to their file.
+     */
+    RECORDS_SAVED("Mission records saved to JSON!"),
+
+    /**
+     * MOVEMENTS_SAVED means the movement log of the mission was written to the last mission info.
+     */
+    MOVEMENTS_SAVED("Last Mission Info saved to JSON!"),
+
+    /**
+     * EXITING means the player left the game from a menu.
+     */
+    EXITING("Exiting...");
+
+    /**
+     * The message the console shows for the notice.
+     */
+    private final String message;
+
+    /**
+     * Constructor for the GameNotice enum.
+     *
+     * @param message The message the console shows for the notice.
+     */
+    GameNotice(String message) {
+        this.message = message;
+    }
+
+    /**
+     * Retrieves the message the console shows for this notice.
+     *
+     * @return The message of the notice.
+     */
+    public String getMessage() {
+        return message;
+    }
+}
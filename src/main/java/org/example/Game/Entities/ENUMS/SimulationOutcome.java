@@ -0,0 +1,21 @@
+package org.example.Game.Entities.ENUMS;
+
+/**
+ * The SimulationOutcome enum represents how a simulated automatic mission ended.
+ */
+public enum SimulationOutcome {
+    /**
+     * SUCCESS means To Cruz captured the target and finished the mission in an entry point.
+     */
+    SUCCESS,
+
+    /**
+     * FALLEN means To Cruz's health dropped to zero or below.
+     */
+    FALLEN,
+
+    /**
+     * UNFINISHED means To Cruz was still alive when the turn limit was reached, or had no way left to go.
+     */
+    UNFINISHED
+}
@@ -6,11 +6,13 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.example.Game.Entities.ENUMS.DifficultyType;
+import org.example.Game.Entities.ENUMS.GameNotice;
 import org.example.Game.Entities.ENUMS.ItemType;
 import org.example.Game.Entities.Interfaces.*;
 import org.example.Structures.Implementations.ArrayUnorderedList;
 import org.example.Structures.Implementations.LinkedQueue;
 import org.example.Structures.Implementations.LinkedStack;
+import org.example.Structures.Implementations.NetworkBuilder;
 import org.example.Structures.Interfaces.QueueADT;
 import org.example.Structures.Interfaces.StackADT;
 import org.example.Structures.Interfaces.UnorderedListADT;
@@ -72,18 +74,32 @@ public class Game {
     private final Building<IDivision> building;
 
     /**
-     * A queue that stores information about the last mission.
+     * The sink the events of the game are sent to.
      */
-    private final QueueADT<String> lastMissionInfo;
+    private IGameEventSink events;
 
 
     /**
      * Constructor to initialize the game with the given mission path and scanner.
+     * The events of the game are printed to the console and written to the last mission info.
      *
      * @param missionPath The path to the mission data (usually a file location).
      * @param scanner     A scanner to capture user input during the game.
      */
     public Game(String missionPath, Scanner scanner) {
+        this(missionPath, scanner, null);
+    }
+
+    /**
+     * Constructor to initialize the game with the given mission path, scanner and event sink.
+     * The last mission info is only written if the sink keeps a movement log, as a {@link MissionLogSink} does.
+     *
+     * @param missionPath The path to the mission data (usually a file location).
+     * @param scanner     A scanner to capture user input during the game.
+     * @param events      The sink the events of the game are sent to; null to print them to the console and write
+     *                    them to the last mission info.
+     */
+    public Game(String missionPath, Scanner scanner, IGameEventSink events) {
         this.missionPath = missionPath;
         this.missionRecordsPath = "missionsRecords.json";
         this.lastMissionInfoPath = "lastMissionInfo.json";
@@ -92,7 +108,47 @@ public class Game {
         this.scanner = scanner;
         this.difficulty = null;
         this.building = new Building<>();
-        this.lastMissionInfo = new LinkedQueue<>();
+        this.events = (events == null) ? new MissionLogSink(new LinkedQueue<>(), new ConsoleEventSink()) : events;
+    }
+
+    /**
+     * Sets the sink the events of the game and of To Cruz are sent to.
+     *
+     * @param events The sink the events of the game are sent to.
+     */
+    public void setEventSink(IGameEventSink events) {
+        this.events = events;
+        if (toCruz != null) {
+            toCruz.setEventSink(events);
+        }
+    }
+
+    /**
+     * Sets the source of the random choices of the game, such as where the enemies move. Playing the same choices
+     * with a source of the same seed plays the same game.
+     *
+     * @param random The source of the random choices.
+     */
+    public void setRandom(IRandomSource random) {
+        mission.setRandom(random);
+    }
+
+    /**
+     * Gets the source of the random choices of the game.
+     *
+     * @return The source of the random choices of the mission.
+     */
+    public IRandomSource getRandom() {
+        return mission.getRandom();
+    }
+
+    /**
+     * Gets the sink the events of the game are sent to.
+     *
+     * @return The sink of the events of the game.
+     */
+    public IGameEventSink getEventSink() {
+        return events;
     }
 
     /**
@@ -113,6 +169,15 @@ public class Game {
         return toCruz;
     }
 
+    /**
+     * Retrieves the mission being played, for instance to simulate it with a {@link MissionSimulator}.
+     *
+     * @return The current mission.
+     */
+    public Mission getMission() {
+        return mission;
+    }
+
     /**
      * Retrieves the current difficulty level of the game.
      *
@@ -153,27 +218,24 @@ public class Game {
         mission.setMissionTarget(target);
 
 
-        // Parse divisions
+        // Parse divisions and connections, then load both buildings in one pass
+        NetworkBuilder<IDivision> buildingBuilder = new NetworkBuilder<>();
         JsonNode building = root.get("edificio");
         for (JsonNode divisionNode : building) {
             String divisionName = divisionNode.asText();
-            Division division = new Division(divisionName);
-            mission.getDivisions().addVertex(division);
-            this.building.addVertex(division);
+            buildingBuilder.addVertex(new Division(divisionName));
         }
 
-
-        // Parse connections
         JsonNode connections = root.get("ligacoes");
         for (JsonNode connection : connections) {
             String from = connection.get(0).asText();
             String to = connection.get(1).asText();
-            IDivision fromDivision = new Division(from);
-            IDivision toDivision = new Division(to);
-            mission.getDivisions().addEdge(fromDivision, toDivision);
-            this.building.addEdge(fromDivision, toDivision);
+            buildingBuilder.addEdge(new Division(from), new Division(to));
         }
 
+        buildingBuilder.build(mission.getDivisions());
+        buildingBuilder.build(this.building);
+
         // Parse enemies
         JsonNode enemies = root.get("inimigos");
         for (JsonNode enemyNode : enemies) {
@@ -181,7 +243,7 @@ public class Game {
             int power = enemyNode.get("poder").asInt();
             String division = enemyNode.get("divisao").asText();
             IEnemy enemy = new Enemy(name, power, new Division(division));
-            mission.getEnemies().addToRear(enemy);
+            mission.addEnemy(enemy);
         }
 
         // Parse entry points
@@ -202,11 +264,11 @@ public class Game {
             if (type.equals("kit de vida")) {
                 int recoveryPoints = itemNode.get("pontos-recuperados").asInt();
                 IItem item = Item.createLifeKit(division, recoveryPoints);
-                mission.getItems().addToRear(item);
+                mission.addItem(item);
             } else if (type.equals("colete")) {
                 int extraPoints = itemNode.get("pontos-extra").asInt();
                 IItem item = Item.createBulletProofVest(division, extraPoints);
-                mission.getItems().addToRear(item);
+                mission.addItem(item);
             }
         }
 
@@ -326,7 +388,7 @@ public class Game {
 
         objectMapper.writerWithDefaultPrettyPrinter().writeValue(file, rootNode);
 
-        System.out.println("Mission records saved to JSON!");
+        events.notice(GameNotice.RECORDS_SAVED);
     }
 
     /**
@@ -368,7 +430,7 @@ public class Game {
 
         objectMapper.writerWithDefaultPrettyPrinter().writeValue(file, rootNode);
 
-        System.out.println("Last Mission Info saved to JSON!");
+        events.notice(GameNotice.MOVEMENTS_SAVED);
     }
 
     /**
@@ -435,7 +497,7 @@ public class Game {
             }
 
             IDivision startingDivision = entryPoints.getElement(entryPointChoice);
-            toCruz = new ToCruz(power, null, startingDivision);
+            toCruz = new ToCruz(power, null, startingDivision, events);
             toCruz.setCurrentDivision(startingDivision);
             toCruz.setMaxHealthKits(maxHealthKits);
             this.difficulty = difficulty;
@@ -586,6 +648,7 @@ public class Game {
                 pathCloneForDisplay.enqueue(division);
                 pathCloneForVerification.enqueue(division);
             }
+            int finalPoints = mission.getRoutePoints();
 
             IDivision previous = null;
             while (!pathCloneForDisplay.isEmpty()) {
@@ -624,7 +687,7 @@ public class Game {
                 System.out.println("                        🎯 Mission Status: Success! 🚀                          ");
                 System.out.println("════════════════════════════════════════════════════════════════════════════════");
                 System.out.println("\nThe mission is successful! According to the automatic simulation,");
-                System.out.println("To Cruz will finish with a total of " + mission.getPoints() + " health points!");
+                System.out.println("To Cruz will finish with a total of " + finalPoints + " health points!");
                 System.out.println("\n════════════════════════════════════════════════════════════════════════════════");
             } else {
                 System.out.println("It is not possible to find a path back to the entry point.");
@@ -845,16 +908,15 @@ public class Game {
         UnorderedListADT<IEnemy> enemiesInDivision = mission.getEnemiesByDivision(currentDivision);
 
         if (!enemiesInDivision.isEmpty()) {
-            System.out.println("Cannot capture the target. Enemies are present in this division.");
+            events.notice(GameNotice.TARGET_GUARDED);
             return;
         }
         if (target != null && target.getDivision().equals(currentDivision)) {
             toCruz.setTarget(target);
             mission.getTarget().takeTarget();
-            System.out.println("Target captured successfully!");
-            lastMissionInfo.enqueue("To Cruz captured the target in " + currentDivision.getName());
+            events.targetCaptured(currentDivision);
         } else {
-            System.out.println("No target available in this division.");
+            events.notice(GameNotice.NO_TARGET);
         }
     }
 
@@ -864,21 +926,26 @@ public class Game {
      */
     public void collectItems() {
         IDivision currentDivision = toCruz.getCurrentDivision();
-        UnorderedListADT<IItem> itemsInDivision = mission.getItemsByDivision(currentDivision);
+        UnorderedListADT<IItem> itemsInDivision = new ArrayUnorderedList<>();
+
+        // Copy the items first, since collecting them removes them from the division
+        for (IItem item : mission.getItemsByDivision(currentDivision)) {
+            itemsInDivision.addToRear(item);
+        }
 
         for (IItem item : itemsInDivision) {
             if (item.getType() == ItemType.LIFE_KIT) {
                 toCruz.addHealthKit(item);
-                lastMissionInfo.enqueue("To Cruz collected a life kit in " + currentDivision.getName() + " with " + item.getRecoveryPoints() + " recovery points.");
-                mission.getItems().remove(item);
+                events.itemCollected(item, currentDivision);
+                mission.removeItem(item);
             } else if (item.getType() == ItemType.BULLET_PROOF_VEST) {
                 toCruz.consumeBulletProofVest(item);
-                lastMissionInfo.enqueue("To Cruz collected a bullet proof vest in " + currentDivision.getName() + " with " + item.getExtraPoints() + " extra points.");
-                mission.getItems().remove(item);
+                events.itemCollected(item, currentDivision);
+                mission.removeItem(item);
             }
         }
         if (itemsInDivision.isEmpty()) {
-            System.out.println("No items available to pick up in this division.");
+            events.notice(GameNotice.NO_ITEMS_TO_COLLECT);
         }
     }
 
@@ -889,7 +956,12 @@ public class Game {
      */
     public void attackEnemiesInCurrentDivision() {
         IDivision currentDivision = toCruz.getCurrentDivision();
-        UnorderedListADT<IEnemy> enemiesInDivision = mission.getEnemiesByDivision(currentDivision);
+        UnorderedListADT<IEnemy> enemiesInDivision = new ArrayUnorderedList<>();
+
+        // Copy the enemies first, since the defeated ones are removed from the division
+        for (IEnemy enemy : mission.getEnemiesByDivision(currentDivision)) {
+            enemiesInDivision.addToRear(enemy);
+        }
 
         if (!enemiesInDivision.isEmpty()) {
             toCruz.attackEnemies(enemiesInDivision, mission);
@@ -899,10 +971,9 @@ public class Game {
             for (IEnemy enemy : allEnemiesOutsideCurrentDivision) {
                 moveEnemyToRandomNearbyDivision(enemy, currentDivision);
             }
-            lastMissionInfo.enqueue("To Cruz attacked enemies in " + currentDivision.getName());
-            System.out.println("To Cruz attacked enemies in the current division!");
+            events.divisionAttacked(currentDivision);
         } else {
-            System.out.println("No enemies available in this division to attack!");
+            events.notice(GameNotice.NO_ENEMIES_TO_ATTACK);
         }
     }
 
@@ -917,12 +988,12 @@ public class Game {
         if (!enemiesInDivision.isEmpty()) {
             for (IEnemy enemy : enemiesInDivision) {
                 enemy.attackToCruz(toCruz);
-                lastMissionInfo.enqueue("To Cruz attacked by " + enemy.getName() + " in " + currentDivision.getName() + " with " + enemy.getPower() + " power.");
+                events.toCruzAttacked(enemy.getName(), currentDivision, enemy.getPower());
             }
 
-            System.out.println("ToCruz attacked by enemies!");
+            events.toCruzCounterattacked(currentDivision);
         } else {
-            System.out.println("No enemies available in this division, to attack To Cruz!");
+            events.notice(GameNotice.NO_ENEMIES_TO_COUNTERATTACK);
         }
     }
 
@@ -936,7 +1007,7 @@ public class Game {
         ArrayUnorderedList<IDivision> nearbyDivisions = building.getNeighbors(currentDivision);
 
         if (nearbyDivisions.isEmpty()) {
-            System.out.println("No nearby divisions to move to.");
+            events.notice(GameNotice.NO_NEARBY_DIVISIONS);
             return;
         }
 
@@ -948,10 +1019,9 @@ public class Game {
         IDivision newDivision = nearbyDivisions.getElement(choice - 1);
 
         if (moveToNewDivision(newDivision)) {
-            System.out.println("You have successfully moved to the new division: " + newDivision.getName());
-            lastMissionInfo.enqueue("To Cruz moved to " + newDivision.getName());
+            events.moveCompleted(newDivision);
         } else {
-            System.out.println("Failed to move to the new division.");
+            events.notice(GameNotice.MOVE_FAILED);
         }
     }
 
@@ -967,26 +1037,18 @@ public class Game {
         ArrayUnorderedList<IDivision> nearbyDivisions = building.getNeighbors(currentDivision);
 
         if (!nearbyDivisions.isEmpty()) {
-            int randomIndex = (int) (Math.random() * nearbyDivisions.size());
+            int randomIndex = mission.getRandom().nextInt(nearbyDivisions.size());
             IDivision newDivision = nearbyDivisions.getElement(randomIndex);
 
-            enemy.setCurrentDivision(newDivision);
-            System.out.println("════════════════════════════════════════════════════");
-            System.out.printf("Enemy '%s' moved from '%s' to '%s'.%n",
-                    enemy.getName(), currentDivision.getName(), newDivision.getName());
-            System.out.println("════════════════════════════════════════════════════");
-            lastMissionInfo.enqueue("Enemy " + enemy.getName() + " moved from " + currentDivision.getName() + " to " + newDivision.getName());
+            mission.moveEnemy(enemy, newDivision);
+            events.enemyMoved(enemy.getName(), currentDivision, newDivision);
 
             if (newDivision.equals(toCruzCurrentDivision)) {
                 enemy.attackToCruz(toCruz);
-                System.out.println("═══════════════════════════════════════════════");
-                System.out.println("ToCruz attacked by new enemy in this division!");
-                System.out.println("═══════════════════════════════════════════════");
-                lastMissionInfo.enqueue("To Cruz attacked by new enemy in" + newDivision.getName());
+                events.toCruzAmbushed(enemy.getName(), newDivision, enemy.getPower());
             }
         } else {
-            System.out.printf("Enemy '%s' remains in '%s' as there are no nearby divisions.%n",
-                    enemy.getName(), currentDivision.getName());
+            events.enemyStayed(enemy.getName(), currentDivision);
         }
     }
 
@@ -1000,13 +1062,12 @@ public class Game {
      */
     public boolean moveToNewDivision(IDivision newDivision) {
         if (hasEnemiesInCurrentDivision()) {
-            System.out.println("There are enemies in the current division. You cannot move yet.");
+            events.notice(GameNotice.MOVE_BLOCKED);
             return false;
         }
 
         toCruz.setCurrentDivision(newDivision);
-        System.out.println("You moved to the new division: " + newDivision.getName());
-        lastMissionInfo.enqueue("To Cruz moved to " + newDivision.getName());
+        events.toCruzMoved(newDivision);
 
         printInGameDivisionFight();
         return true;
@@ -1053,13 +1114,12 @@ public class Game {
      * This method invokes the attackEnemiesInCurrentDivision() method to perform the attack.
      */
     public void printInGameDivisionFight() {
-        System.out.println("════════════════════════════════════════════════════");
-        System.out.println("           IN-GAME Current Division Fight           ");
-        System.out.println("════════════════════════════════════════════════════");
+        IDivision currentDivision = toCruz.getCurrentDivision();
+        events.fightStarted(currentDivision);
 
         attackEnemiesInCurrentDivision();
 
-        System.out.println("════════════════════════════════════════════════════");
+        events.fightEnded(currentDivision);
     }
 
     /**
@@ -1071,12 +1131,12 @@ public class Game {
      */
     public boolean finalizeMission() {
         if (toCruz == null) {
-            System.out.println("ToCruz is not initialized.");
+            events.notice(GameNotice.NO_TO_CRUZ);
             return false;
         }
 
         if (toCruz.getTarget() == null) {
-            System.out.println("Mission cannot be finalized. ToCruz has not captured the target.");
+            events.notice(GameNotice.TARGET_NOT_CAPTURED);
             return false;
         }
 
@@ -1084,32 +1144,23 @@ public class Game {
         IDivision currentDivision = toCruz.getCurrentDivision();
 
         if (!entryPoints.contains(currentDivision)) {
-            System.out.println("Mission cannot be finalized. ToCruz is not in an entry point.");
+            events.notice(GameNotice.NOT_IN_ENTRY_POINT);
             return false;
         }
 
         int healthRecord = toCruz.getHealth();
         mission.getRecords().add(new Record(new Date(), healthRecord));
 
-        lastMissionInfo.enqueue("Mission finalized with " + healthRecord + " health points.");
+        events.missionFinalized(healthRecord);
 
         try {
             saveMissionRecordsToJson();
         } catch (IOException e) {
-            System.out.println("Error saving mission records: " + e.getMessage());
-        }
-        try {
-            saveLastMissionMovements(lastMissionInfo);
-        } catch (IOException e) {
-            System.out.println("Error saving mission records: " + e.getMessage());
+            events.saveFailed(e.getMessage());
         }
+        saveMovementLog();
 
-        System.out.println("════════════════════════════════════════════════════════════════════════════════");
-        System.out.println("                       🎯 Mission Status: Success! 🚀                          ");
-        System.out.println("════════════════════════════════════════════════════════════════════════════════");
-        System.out.println("\nThe mission is successful! Great job agent!!");
-        System.out.println("To Cruz have finished with a total of " + toCruz.getHealth() + " health points!");
-        System.out.println("\n══════════════════════════════════════════════════════════════════════════════");
+        events.missionSucceeded(toCruz.getHealth());
         return true;
     }
 
@@ -1121,21 +1172,29 @@ public class Game {
      */
     public boolean toCruzDies() {
         if (toCruz.getHealth() <= 0) {
-            lastMissionInfo.enqueue("To Cruz has fallen with " + toCruz.getHealth() + " health points.");
-            try {
-                saveLastMissionMovements(lastMissionInfo);
-            } catch (IOException e) {
-                System.out.println("Error saving mission records: " + e.getMessage());
-            }
-            System.out.println("════════════════════════════════════════════════════════════════════════════════");
-            System.out.println("                    ☠️  GAME OVER: TO CRUZ HAS FALLEN! ☠️                       ");
-            System.out.println("════════════════════════════════════════════════════════════════════════════════");
-            System.out.println("The brave hero, To Cruz, has succumbed to his injuries.");
-            System.out.println("His health has dropped to zero. The mission ends here.");
-            System.out.println("To Cruz ended the mission with " + toCruz.getHealth() + " health points.");
-            System.out.println("════════════════════════════════════════════════════════════════════════════════");
+            events.toCruzFallen(toCruz.getHealth());
+            saveMovementLog();
+            events.gameOver(toCruz.getHealth());
             return true;
         }
         return false;
     }
-}
\ No newline at end of file
+
+    /**
+     * Saves the movement log kept by the event sink as the last mission info, once every event sent
+     * so far has been handled. Nothing is saved if the sink keeps no log.
+     */
+    private void saveMovementLog() {
+        events.flush();
+        QueueADT<String> log = events.getMovementLog();
+        if (log == null) {
+            return;
+        }
+
+        try {
+            saveLastMissionMovements(log);
+        } catch (IOException e) {
+            events.saveFailed(e.getMessage());
+        }
+    }
+}
\ No newline at end of file
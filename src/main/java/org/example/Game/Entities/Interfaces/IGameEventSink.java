@@ -0,0 +1,346 @@
+package org.example.Game.Entities.Interfaces;
+
+import org.example.Game.Entities.ENUMS.DifficultyType;
+import org.example.Game.Entities.ENUMS.GameNotice;
+import org.example.Structures.Interfaces.QueueADT;
+
+/**
+ * Interface representing the contract for the receivers of the events of a game.
+ *
+ * The game, To Cruz and the menu report what happens through a sink instead of printing it, so the same game can be
+ * shown on the console, logged, or played without any output. Events only carry names, divisions, items and numbers
+ * as they are when the event happens, and never a message, so a sink that ignores them costs no string building.
+ *
+ * Every event is passed on to the next sink, if there is one, unless the sink handles it, so a sink only implements
+ * the events it cares about and one without a next sink ignores the rest.
+ */
+public interface IGameEventSink {
+
+    /**
+     * Gets the sink the events this sink does not handle are passed on to.
+     *
+     * @return the next sink; null if the events are ignored.
+     */
+    default IGameEventSink getNext() {
+        return null;
+    }
+
+    /**
+     * Gets the log of the movements of the mission kept by this sink or the ones after it, which the game saves as the
+     * last mission info when the mission ends.
+     *
+     * @return the log of the movements; null if no sink keeps one.
+     */
+    default QueueADT<String> getMovementLog() {
+        IGameEventSink next = getNext();
+        return (next == null) ? null : next.getMovementLog();
+    }
+
+    /**
+     * Waits until every event received so far has been handled, so the movement log is complete.
+     */
+    default void flush() {
+        IGameEventSink next = getNext();
+        if (next != null) {
+            next.flush();
+        }
+    }
+
+    /**
+     * Receives an event that carries no data.
+     *
+     * @param notice the event.
+     */
+    default void notice(GameNotice notice) {
+        IGameEventSink next = getNext();
+        if (next != null) {
+            next.notice(notice);
+        }
+    }
+
+    /**
+     * Receives the start of a game from the menu.
+     *
+     * @param automatic whether the game is played automatically.
+     */
+    default void gameStarted(boolean automatic) {
+        IGameEventSink next = getNext();
+        if (next != null) {
+            next.gameStarted(automatic);
+        }
+    }
+
+    /**
+     * Receives the difficulty chosen for a game.
+     *
+     * @param difficulty the difficulty the game is played on.
+     */
+    default void difficultySelected(DifficultyType difficulty) {
+        IGameEventSink next = getNext();
+        if (next != null) {
+            next.difficultySelected(difficulty);
+        }
+    }
+
+    /**
+     * Receives the start of the fight To Cruz faces when entering a division.
+     *
+     * @param division the division of the fight.
+     */
+    default void fightStarted(IDivision division) {
+        IGameEventSink next = getNext();
+        if (next != null) {
+            next.fightStarted(division);
+        }
+    }
+
+    /**
+     * Receives the end of the fight To Cruz faces when entering a division.
+     *
+     * @param division the division of the fight.
+     */
+    default void fightEnded(IDivision division) {
+        IGameEventSink next = getNext();
+        if (next != null) {
+            next.fightEnded(division);
+        }
+    }
+
+    /**
+     * Receives an attack of To Cruz on an enemy.
+     *
+     * @param enemyName the name of the enemy.
+     * @param power the power To Cruz attacked with.
+     * @param powerLeft the power the enemy has left; zero or below if it was defeated.
+     */
+    default void enemyAttacked(String enemyName, int power, int powerLeft) {
+        IGameEventSink next = getNext();
+        if (next != null) {
+            next.enemyAttacked(enemyName, power, powerLeft);
+        }
+    }
+
+    /**
+     * Receives an attack on To Cruz by an enemy left in his division.
+     *
+     * @param enemyName the name of the enemy.
+     * @param division the division of To Cruz.
+     * @param power the power the enemy attacked with.
+     */
+    default void toCruzAttacked(String enemyName, IDivision division, int power) {
+        IGameEventSink next = getNext();
+        if (next != null) {
+            next.toCruzAttacked(enemyName, division, power);
+        }
+    }
+
+    /**
+     * Receives the end of the attacks on To Cruz by the enemies left in his division.
+     *
+     * @param division the division of To Cruz.
+     */
+    default void toCruzCounterattacked(IDivision division) {
+        IGameEventSink next = getNext();
+        if (next != null) {
+            next.toCruzCounterattacked(division);
+        }
+    }
+
+    /**
+     * Receives the move of an enemy to a connected division.
+     *
+     * @param enemyName the name of the enemy.
+     * @param from the division the enemy left.
+     * @param to the division the enemy entered.
+     */
+    default void enemyMoved(String enemyName, IDivision from, IDivision to) {
+        IGameEventSink next = getNext();
+        if (next != null) {
+            next.enemyMoved(enemyName, from, to);
+        }
+    }
+
+    /**
+     * Receives an attack on To Cruz by an enemy that moved into his division.
+     *
+     * @param enemyName the name of the enemy.
+     * @param division the division of To Cruz.
+     * @param power the power the enemy attacked with.
+     */
+    default void toCruzAmbushed(String enemyName, IDivision division, int power) {
+        IGameEventSink next = getNext();
+        if (next != null) {
+            next.toCruzAmbushed(enemyName, division, power);
+        }
+    }
+
+    /**
+     * Receives an enemy that could not move because its division has no connections.
+     *
+     * @param enemyName the name of the enemy.
+     * @param division the division of the enemy.
+     */
+    default void enemyStayed(String enemyName, IDivision division) {
+        IGameEventSink next = getNext();
+        if (next != null) {
+            next.enemyStayed(enemyName, division);
+        }
+    }
+
+    /**
+     * Receives the end of an attack of To Cruz on the enemies in his division, after the others moved.
+     *
+     * @param division the division of To Cruz.
+     */
+    default void divisionAttacked(IDivision division) {
+        IGameEventSink next = getNext();
+        if (next != null) {
+            next.divisionAttacked(division);
+        }
+    }
+
+    /**
+     * Receives an item picked up by To Cruz, which leaves the building whether he could keep it or not.
+     *
+     * @param item the item.
+     * @param division the division the item was in.
+     */
+    default void itemCollected(IItem item, IDivision division) {
+        IGameEventSink next = getNext();
+        if (next != null) {
+            next.itemCollected(item, division);
+        }
+    }
+
+    /**
+     * Receives a health kit kept by To Cruz.
+     *
+     * @param healthKits the number of health kits he carries now.
+     */
+    default void healthKitAdded(int healthKits) {
+        IGameEventSink next = getNext();
+        if (next != null) {
+            next.healthKitAdded(healthKits);
+        }
+    }
+
+    /**
+     * Receives a bulletproof vest worn by To Cruz.
+     *
+     * @param health the health of To Cruz with the vest.
+     */
+    default void vestConsumed(int health) {
+        IGameEventSink next = getNext();
+        if (next != null) {
+            next.vestConsumed(health);
+        }
+    }
+
+    /**
+     * Receives a health kit used by To Cruz.
+     *
+     * @param health the health of To Cruz after using it.
+     */
+    default void healthKitUsed(int health) {
+        IGameEventSink next = getNext();
+        if (next != null) {
+            next.healthKitUsed(health);
+        }
+    }
+
+    /**
+     * Receives the capture of the target.
+     *
+     * @param division the division the target was in.
+     */
+    default void targetCaptured(IDivision division) {
+        IGameEventSink next = getNext();
+        if (next != null) {
+            next.targetCaptured(division);
+        }
+    }
+
+    /**
+     * Receives the move of To Cruz to a division, before the fight there.
+     *
+     * @param division the division To Cruz entered.
+     */
+    default void toCruzMoved(IDivision division) {
+        IGameEventSink next = getNext();
+        if (next != null) {
+            next.toCruzMoved(division);
+        }
+    }
+
+    /**
+     * Receives the end of a move chosen by the player, after the fight in the division entered.
+     *
+     * @param division the division To Cruz entered.
+     */
+    default void moveCompleted(IDivision division) {
+        IGameEventSink next = getNext();
+        if (next != null) {
+            next.moveCompleted(division);
+        }
+    }
+
+    /**
+     * Receives a finished mission, before its records are saved.
+     *
+     * @param health the health To Cruz finished with.
+     */
+    default void missionFinalized(int health) {
+        IGameEventSink next = getNext();
+        if (next != null) {
+            next.missionFinalized(health);
+        }
+    }
+
+    /**
+     * Receives a finished mission, after its records are saved.
+     *
+     * @param health the health To Cruz finished with.
+     */
+    default void missionSucceeded(int health) {
+        IGameEventSink next = getNext();
+        if (next != null) {
+            next.missionSucceeded(health);
+        }
+    }
+
+    /**
+     * Receives the fall of To Cruz, before the movements of the mission are saved.
+     *
+     * @param health the health To Cruz fell with.
+     */
+    default void toCruzFallen(int health) {
+        IGameEventSink next = getNext();
+        if (next != null) {
+            next.toCruzFallen(health);
+        }
+    }
+
+    /**
+     * Receives the fall of To Cruz, after the movements of the mission are saved.
+     *
+     * @param health the health To Cruz fell with.
+     */
+    default void gameOver(int health) {
+        IGameEventSink next = getNext();
+        if (next != null) {
+            next.gameOver(health);
+        }
+    }
+
+    /**
+     * Receives an error saving the records or the movements of a mission.
+     *
+     * @param message the message of the error.
+     */
+    default void saveFailed(String message) {
+        IGameEventSink next = getNext();
+        if (next != null) {
+            next.saveFailed(message);
+        }
+    }
+}
@@ -43,7 +43,7 @@ public interface IMission {
     Building<IDivision> getDivisions();
 
     /**
-     * This method gets the enemies in the mission
+     * This method gets the enemies in the mission, as a read-only list
      *
      * @return UnorderedListADT<IEnemy> unordered list of enemies
      */
@@ -92,12 +92,66 @@ public interface IMission {
     void setMissionTarget(ITarget target);
 
     /**
-     * This method gets the items in the mission
+     * This method gets the items in the mission, as a read-only list
      *
      * @return UnorderedListADT<IItem> with the items
      */
     UnorderedListADT<IItem> getItems();
 
+    /**
+     * This method adds an enemy to the mission, keeping the impact of its division up to date
+     *
+     * @param enemy the enemy
+     */
+    void addEnemy(IEnemy enemy);
+
+    /**
+     * This method removes an enemy from the mission, keeping the impact of its division up to date
+     *
+     * @param enemy the enemy
+     */
+    void removeEnemy(IEnemy enemy);
+
+    /**
+     * This method changes the power of an enemy, keeping the impact of its division up to date
+     *
+     * @param enemy the enemy
+     * @param power the new power
+     */
+    void setEnemyPower(IEnemy enemy, int power);
+
+    /**
+     * This method moves an enemy to another division, keeping the impact of both divisions up to date
+     *
+     * @param enemy the enemy
+     * @param division the new division
+     */
+    void moveEnemy(IEnemy enemy, IDivision division);
+
+    /**
+     * This method adds an item to the mission, keeping the impact of its division up to date
+     *
+     * @param item the item
+     */
+    void addItem(IItem item);
+
+    /**
+     * This method removes an item from the mission, keeping the impact of its division up to date
+     *
+     * @param item the item
+     */
+    void removeItem(IItem item);
+
+    /**
+     * This method gets the impact of a division on the points, that is, the points of its items minus the power of
+     * its enemies
+     *
+     * @param division the division
+     *
+     * @return the impact of the division
+     */
+    int getImpact(IDivision division);
+
     /**
      * This method gets the life kits in the mission
      *
@@ -148,6 +202,37 @@ public interface IMission {
      */
     QueueADT<IDivision> findBestRouteFromMultipleEntryPoints(UnorderedListADT<IDivision> entryPoints, IDivision targetDivision);
 
+    /**
+     * This method gets the points left at the end of the last route found from multiple entry points, counting the
+     * target once
+     *
+     * @return the points left at the end of the route, or -1 if no route was found
+     */
+    int getRoutePoints();
+
+    /**
+     * This method finds every route between two divisions that no other route beats at once on moves, points left
+     * and items picked up
+     *
+     * @param currentDivision the division where the routes start
+     * @param targetDivision the division where the routes end
+     *
+     * @return UnorderedListADT<IRoute> with the routes, from the one with the fewest moves
+     */
+    UnorderedListADT<IRoute> findParetoRoutes(IDivision currentDivision, IDivision targetDivision);
+
+    /**
+     * This method finds the routes between two divisions that no other route beats at once on moves, points left
+     * and items picked up, keeping at most a given number of partial routes while searching
+     *
+     * @param currentDivision the division where the routes start
+     * @param targetDivision the division where the routes end
+     * @param labelLimit the largest number of partial routes to keep
+     *
+     * @return UnorderedListADT<IRoute> with the routes, from the one with the fewest moves
+     */
+    UnorderedListADT<IRoute> findParetoRoutes(IDivision currentDivision, IDivision targetDivision, int labelLimit);
+
     /**
      * This method verifies if is possible to return to the entry point safely
      *
@@ -158,4 +243,49 @@ public interface IMission {
      */
     QueueADT<IDivision> verifyPathToEntry(QueueADT<IDivision> pathQueue, int initialPoints);
 
+    /**
+     * This method calculates the points left after following a path from the mission points
+     *
+     * @param path the queue with the path, which is left unchanged
+     *
+     * @return the points left, or -1 if they drop to zero along the path
+     */
+    int calculatePathPoints(QueueADT<IDivision> path);
+
+    /**
+     * This method enables or disables the goal-directed (A*) search of the best path to a division
+     *
+     * @param enabled true to aim the search at the target division; false to search in every direction
+     */
+    void setGoalDirectedSearch(boolean enabled);
+
+    /**
+     * This method gets the number of divisions expanded by the last best path search
+     *
+     * @return the number of divisions expanded
+     */
+    int getSearchExpansions();
+
+    /**
+     * This method enables or disables the incremental search of the best path to a division, which repairs the
+     * paths of the previous search when the impacts of the divisions change
+     *
+     * @param enabled true to repair the previous paths; false to search from scratch every time
+     */
+    void setIncrementalSearch(boolean enabled);
+
+    /**
+     * This method gets the source of the random choices of the mission, such as where the enemies move
+     *
+     * @return the source of the random choices
+     */
+    IRandomSource getRandom();
+
+    /**
+     * This method sets the source of the random choices of the mission, so a game can be replayed from its seed
+     *
+     * @param random the source of the random choices
+     */
+    void setRandom(IRandomSource random);
+
 }
\ No newline at end of file
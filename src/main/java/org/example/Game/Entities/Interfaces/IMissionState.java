@@ -0,0 +1,181 @@
+package org.example.Game.Entities.Interfaces;
+
+import org.example.Game.Entities.Building;
+import org.example.Game.Entities.ENUMS.DifficultyType;
+
+public interface IMissionState {
+
+    /**
+     * This method returns the difficulty To Cruz plays on
+     *
+     * @return the difficulty of the state
+     */
+    DifficultyType getDifficulty();
+
+    /**
+     * This method returns the building of the mission, shared by every state
+     *
+     * @return the divisions in the graph
+     */
+    Building<IDivision> getBuilding();
+
+    /**
+     * This method returns the division To Cruz is in
+     *
+     * @return the division of To Cruz
+     */
+    IDivision getToCruzDivision();
+
+    /**
+     * This method returns the health of To Cruz
+     *
+     * @return the health of To Cruz
+     */
+    int getHealth();
+
+    /**
+     * This method returns the number of health kits To Cruz carries
+     *
+     * @return the number of health kits
+     */
+    int getHealthKitCount();
+
+    /**
+     * This method checks if To Cruz is wearing a bulletproof vest
+     *
+     * @return true if he is wearing one, false otherwise
+     */
+    boolean isUsingBulletProofVest();
+
+    /**
+     * This method checks if To Cruz has captured the target
+     *
+     * @return true if the target was captured, false otherwise
+     */
+    boolean isTargetCaptured();
+
+    /**
+     * This method returns the number of enemies of the mission, defeated or not
+     *
+     * @return the number of enemies
+     */
+    int getEnemyCount();
+
+    /**
+     * This method returns the power of an enemy
+     *
+     * @param enemy the position of the enemy in the enemies of the mission
+     * @return the power of the enemy
+     */
+    int getEnemyPower(int enemy);
+
+    /**
+     * This method returns the division of an enemy
+     *
+     * @param enemy the position of the enemy in the enemies of the mission
+     * @return the division of the enemy, or null if it was defeated
+     */
+    IDivision getEnemyDivision(int enemy);
+
+    /**
+     * This method returns the number of enemies in a division
+     *
+     * @param division the division to check
+     * @return the number of enemies in the division
+     */
+    int getEnemiesIn(IDivision division);
+
+    /**
+     * This method returns the number of items of the mission, taken or not
+     *
+     * @return the number of items
+     */
+    int getItemCount();
+
+    /**
+     * This method checks if an item was taken
+     *
+     * @param item the position of the item in the items of the mission
+     * @return true if the item was taken, false otherwise
+     */
+    boolean isItemTaken(int item);
+
+    /**
+     * This method returns the number of items left in a division
+     *
+     * @param division the division to check
+     * @return the number of items in the division
+     */
+    int getItemsIn(IDivision division);
+
+    /**
+     * This method returns the impact of a division: the points of its items minus the power of its enemies
+     *
+     * @param division the division to check
+     * @return the impact of the division
+     */
+    int getImpact(IDivision division);
+
+    /**
+     * This method returns a state where an enemy has another power, and is defeated if it is zero or below
+     *
+     * @param enemy the position of the enemy in the enemies of the mission
+     * @param power the new power of the enemy
+     * @return the new state
+     */
+    IMissionState withEnemyPower(int enemy, int power);
+
+    /**
+     * This method returns a state where an enemy is in another division
+     *
+     * @param enemy the position of the enemy in the enemies of the mission
+     * @param division the new division of the enemy
+     * @return the new state
+     */
+    IMissionState withEnemyMoved(int enemy, IDivision division);
+
+    /**
+     * This method returns a state where an item is no longer in the building
+     *
+     * @param item the position of the item in the items of the mission
+     * @return the new state
+     */
+    IMissionState withItemTaken(int item);
+
+    /**
+     * This method returns a state where To Cruz is in another division
+     *
+     * @param division the new division of To Cruz
+     * @return the new state
+     */
+    IMissionState withToCruzMoved(IDivision division);
+
+    /**
+     * This method returns a state where To Cruz has another health
+     *
+     * @param health the new health of To Cruz
+     * @return the new state
+     */
+    IMissionState withHealth(int health);
+
+    /**
+     * This method returns a state where To Cruz has picked up every item in his division
+     *
+     * @return the new state
+     */
+    IMissionState collectItems();
+
+    /**
+     * This method returns a state where To Cruz has used the health kit on top
+     *
+     * @return the new state
+     */
+    IMissionState useHealthKit();
+
+    /**
+     * This method returns a state where To Cruz has captured the target, if it is in his division
+     *
+     * @return the new state
+     */
+    IMissionState captureTarget();
+}
@@ -0,0 +1,98 @@
+package org.example.Game.Entities.Interfaces;
+
+import org.example.Game.Entities.ENUMS.DifficultyType;
+
+public interface IMissionStatistics {
+
+    /**
+     * Get the difficulty the simulations were played on.
+     *
+     * @return the difficulty of the simulations.
+     */
+    DifficultyType getDifficulty();
+
+    /**
+     * Get the number of simulations recorded.
+     *
+     * @return the number of simulations.
+     */
+    long getRuns();
+
+    /**
+     * Get the number of simulations where To Cruz finished the mission.
+     *
+     * @return the number of successful simulations.
+     */
+    long getSuccesses();
+
+    /**
+     * Get the number of simulations where To Cruz fell.
+     *
+     * @return the number of simulations lost.
+     */
+    long getFallen();
+
+    /**
+     * Get the share of simulations where To Cruz did not fall.
+     *
+     * @return the survival rate, from 0 to 1.
+     */
+    double getSurvivalRate();
+
+    /**
+     * Get the share of simulations where To Cruz finished the mission.
+     *
+     * @return the success rate, from 0 to 1.
+     */
+    double getSuccessRate();
+
+    /**
+     * Get the average health of To Cruz at the end of the simulations.
+     *
+     * @return the average final health.
+     */
+    double getAverageHealth();
+
+    /**
+     * Get the lowest health of To Cruz at the end of a simulation.
+     *
+     * @return the lowest final health.
+     */
+    long getMinHealth();
+
+    /**
+     * Get the highest health of To Cruz at the end of a simulation.
+     *
+     * @return the highest final health.
+     */
+    long getMaxHealth();
+
+    /**
+     * Get the average number of turns of the simulations.
+     *
+     * @return the average number of turns.
+     */
+    double getAverageTurns();
+
+    /**
+     * Get the average number of enemies defeated in the simulations.
+     *
+     * @return the average number of enemies defeated.
+     */
+    double getAverageKills();
+
+    /**
+     * Get the number of ranges of final health counted by {@link #getHealthCount(int)}.
+     *
+     * @return the number of health ranges.
+     */
+    int getHealthBuckets();
+
+    /**
+     * Get the number of simulations whose final health falls in a range.
+     *
+     * @param bucket the position of the range, from 0.
+     * @return the number of simulations in that range.
+     */
+    long getHealthCount(int bucket);
+}
@@ -0,0 +1,33 @@
+package org.example.Game.Entities.Interfaces;
+
+/**
+ * Interface representing the contract for the sources of the random choices of a game, such as where the enemies move.
+ *
+ * A source is seeded, so the same seed always makes the same choices and a game can be replayed from it. A source is
+ * not meant to be shared between threads; each thread takes its own with {@link #split()}.
+ */
+public interface IRandomSource {
+
+    /**
+     * Gets the seed the source started from.
+     *
+     * @return the seed of the source.
+     */
+    long getSeed();
+
+    /**
+     * Draws a number from 0 up to, but not including, the given bound.
+     *
+     * @param bound the number of possible values; must be positive.
+     * @return the number drawn.
+     */
+    int nextInt(int bound);
+
+    /**
+     * Draws a new source, seeded from this one. The new source makes choices of its own, so it can be given to
+     * another thread, and it can be replayed from its seed.
+     *
+     * @return the new source.
+     */
+    IRandomSource split();
+}
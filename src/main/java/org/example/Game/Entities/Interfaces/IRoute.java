@@ -0,0 +1,34 @@
+package org.example.Game.Entities.Interfaces;
+
+import org.example.Structures.Interfaces.UnorderedListADT;
+
+public interface IRoute {
+
+    /**
+     * Get the divisions of the route, from the first to the last.
+     *
+     * @return the divisions of the route.
+     */
+    UnorderedListADT<IDivision> getPath();
+
+    /**
+     * Get the number of moves of the route.
+     *
+     * @return the number of moves of the route.
+     */
+    int getHops();
+
+    /**
+     * Get the points left at the end of the route.
+     *
+     * @return the points left at the end of the route.
+     */
+    int getPoints();
+
+    /**
+     * Get the number of items picked up along the route.
+     *
+     * @return the number of items picked up along the route.
+     */
+    int getPickups();
+}
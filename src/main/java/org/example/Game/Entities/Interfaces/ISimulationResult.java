@@ -0,0 +1,64 @@
+package org.example.Game.Entities.Interfaces;
+
+import org.example.Game.Entities.ENUMS.DifficultyType;
+import org.example.Game.Entities.ENUMS.SimulationOutcome;
+import org.example.Structures.Interfaces.UnorderedListADT;
+
+public interface ISimulationResult {
+
+    /**
+     * Get the seed the enemy movements of the simulation were drawn from.
+     *
+     * @return the seed of the simulation.
+     */
+    long getSeed();
+
+    /**
+     * Get the difficulty the simulation was played on.
+     *
+     * @return the difficulty of the simulation.
+     */
+    DifficultyType getDifficulty();
+
+    /**
+     * Get how the simulated mission ended.
+     *
+     * @return the outcome of the simulation.
+     */
+    SimulationOutcome getOutcome();
+
+    /**
+     * Get the health of To Cruz at the end of the simulation.
+     *
+     * @return the final health of To Cruz.
+     */
+    int getHealth();
+
+    /**
+     * Get the number of actions To Cruz took, counting every attack, pick up, use of a health kit and move.
+     *
+     * @return the number of turns of the simulation.
+     */
+    int getTurns();
+
+    /**
+     * Get the number of enemies To Cruz defeated.
+     *
+     * @return the number of enemies defeated.
+     */
+    int getKills();
+
+    /**
+     * Check if To Cruz captured the target.
+     *
+     * @return true if the target was captured, false otherwise.
+     */
+    boolean isTargetCaptured();
+
+    /**
+     * Get the divisions To Cruz went through, from the entry point to the last one.
+     *
+     * @return the divisions visited, in order.
+     */
+    UnorderedListADT<IDivision> getPath();
+}
@@ -127,6 +127,13 @@ public interface IToCruz {
      */
     void setCurrentDivision(IDivision currentDivision);
 
+    /**
+     * Sets the sink the attacks, items and health kits of the ToCruz character are reported to.
+     *
+     * @param events the sink the events of the character are sent to.
+     */
+    void setEventSink(IGameEventSink events);
+
     /**
      * Adds a health kit to the stack of health kits that the ToCruz character currently has.
      *
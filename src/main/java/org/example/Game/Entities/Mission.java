@@ -4,7 +4,12 @@ import org.example.Game.Entities.ENUMS.ItemType;
 import org.example.Game.Entities.Interfaces.*;
 import org.example.Structures.Implementations.ArrayOrderedList;
 import org.example.Structures.Implementations.ArrayUnorderedList;
+import org.example.Structures.Implementations.DistanceField;
+import org.example.Structures.Implementations.IncrementalPathPlanner;
 import org.example.Structures.Implementations.LinkedQueue;
+import org.example.Structures.Implementations.ParetoPathSearch;
+import org.example.Structures.Implementations.ReadOnlyUnorderedList;
+import org.example.Structures.Implementations.ResourcePathSearch;
 import org.example.Structures.Interfaces.*;
 
 /**
@@ -35,6 +40,11 @@ public class Mission implements IMission {
      */
     private final UnorderedListADT<IEnemy> enemies;
 
+    /**
+     * The read-only view of the enemies, returned by {@link #getEnemies}.
+     */
+    private final UnorderedListADT<IEnemy> enemiesView;
+
     /**
      * The list of entry points for the mission.
      */
@@ -50,6 +60,11 @@ public class Mission implements IMission {
      */
     private final UnorderedListADT<IItem> items;
 
+    /**
+     * The read-only view of the items, returned by {@link #getItems}.
+     */
+    private final UnorderedListADT<IItem> itemsView;
+
     /**
      * The records of the mission, such as actions or progress logs.
      */
@@ -60,6 +75,94 @@ public class Mission implements IMission {
      */
     private int points = 100;
 
+    /**
+     * The points To Cruz is left with at the end of the last route found by
+     * {@link #findBestRouteFromMultipleEntryPoints}; -1 if no route was found.
+     */
+    private int routePoints = -1;
+
+    /**
+     * The search used to find the best paths between divisions.
+     */
+    private final ResourcePathSearch pathSearch;
+
+    /**
+     * The planner that keeps the best paths to a division up to date as the impacts change.
+     */
+    private final IncrementalPathPlanner planner;
+
+    /**
+     * Whether {@link #findBestPath} repairs the paths of the planner instead of searching again.
+     */
+    private boolean incrementalSearch;
+
+    /**
+     * Whether the last search was answered by the planner.
+     */
+    private boolean plannedLast;
+
+    /**
+     * The number of connections from every division to the nearest division with items, kept up to
+     * date as items are added and taken.
+     */
+    private final DistanceField itemField;
+
+    /**
+     * The search used to find the non-dominated routes between divisions.
+     */
+    private final ParetoPathSearch paretoSearch;
+
+    /**
+     * The source of the random choices of the mission, such as where the enemies move.
+     */
+    private IRandomSource random;
+
+    /**
+     * The impact on points of each division, by its index in the divisions graph. It is built from the
+     * items and enemies on first use and then kept up to date by the methods that change them.
+     */
+    private int[] impacts;
+
+    /**
+     * The enemies in each division, by its index in the divisions graph, kept up to date with the impacts.
+     */
+    private UnorderedListADT<IEnemy>[] enemiesAt;
+
+    /**
+     * The items in each division, by its index in the divisions graph, kept up to date with the impacts.
+     */
+    private UnorderedListADT<IItem>[] itemsAt;
+
+    /**
+     * The read-only views of the enemies in each division, returned by {@link #getEnemiesByDivision}.
+     */
+    private UnorderedListADT<IEnemy>[] enemyViews;
+
+    /**
+     * The read-only views of the items in each division, returned by {@link #getItemsByDivision}.
+     */
+    private UnorderedListADT<IItem>[] itemViews;
+
+    /**
+     * The number of division slots the division indexes were built for; -1 if they have not been built.
+     */
+    private int indexedSlots = -1;
+
+    /**
+     * The modification count of the divisions graph when the division indexes were built.
+     */
+    private int indexedModCount;
+
+    /**
+     * An empty read-only list of enemies, returned for divisions that are not part of the mission.
+     */
+    private final UnorderedListADT<IEnemy> noEnemies = new ReadOnlyUnorderedList<>(new ArrayUnorderedList<>());
+
+    /**
+     * An empty read-only list of items, returned for divisions that are not part of the mission.
+     */
+    private final UnorderedListADT<IItem> noItems = new ReadOnlyUnorderedList<>(new ArrayUnorderedList<>());
+
     /**
      * Default constructor that initializes the mission with default values.
      * Creates empty lists for divisions, enemies, entry points, items, and records.
@@ -72,7 +175,14 @@ public class Mission implements IMission {
         this.enemies = new ArrayUnorderedList<>();
         this.entryPoints = new ArrayUnorderedList<>();
         this.items = new ArrayUnorderedList<>();
+        this.enemiesView = new ReadOnlyUnorderedList<>(enemies);
+        this.itemsView = new ReadOnlyUnorderedList<>(items);
         this.records = new ArrayOrderedList<>();
+        this.pathSearch = new ResourcePathSearch(divisions);
+        this.planner = new IncrementalPathPlanner(divisions);
+        this.itemField = new DistanceField(divisions);
+        this.paretoSearch = new ParetoPathSearch(divisions);
+        this.random = new SeededRandom();
     }
 
     /**
@@ -126,13 +236,14 @@ public class Mission implements IMission {
     }
 
     /**
-     * Gets the enemies in the mission.
+     * Gets the enemies in the mission, as a read-only view; they are changed through {@link #addEnemy},
+     * {@link #removeEnemy} and {@link #moveEnemy}, which keep the impacts up to date.
      *
-     * @return The list of enemies in the mission.
+     * @return A read-only list of the enemies in the mission.
      */
     @Override
     public UnorderedListADT<IEnemy> getEnemies() {
-        return enemies;
+        return enemiesView;
     }
 
     /**
@@ -196,36 +307,170 @@ public class Mission implements IMission {
     }
 
     /**
-     * Gets the items in the mission.
+     * Gets the items in the mission, as a read-only view; they are changed through {@link #addItem}
+     * and {@link #removeItem}, which keep the impacts up to date.
      *
-     * @return The list of items in the mission.
+     * @return A read-only list of the items in the mission.
      */
     @Override
     public UnorderedListADT<IItem> getItems() {
-        return items;
+        return itemsView;
     }
 
     /**
-     * Retrieves all enemies in a given division.
+     * Adds an enemy to the mission, to the occupants of its division, and its power to the impact of that division.
      *
-     * @param division The division to search for enemies.
-     * @return A list of enemies in the specified division.
+     * @param enemy The enemy to add.
      */
     @Override
-    public UnorderedListADT<IEnemy> getEnemiesByDivision(IDivision division) {
-        UnorderedListADT<IEnemy> enemiesInDivision = new ArrayUnorderedList<>();
+    public void addEnemy(IEnemy enemy) {
+        indexDivisions();
+        enemies.addToRear(enemy);
+        int index = indexedDivision(enemy.getCurrentDivision());
+        if (index != -1) {
+            enemiesAt[index].addToRear(enemy);
+            changeImpact(index, -enemy.getPower());
+        }
+    }
 
-        for (IEnemy enemy : enemies) {
-            if (enemy.getCurrentDivision().equals(division)) {
-                enemiesInDivision.addToRear(enemy);
+    /**
+     * Removes an enemy from the mission and from the occupants of its division, taking its power out of
+     * the impact of that division.
+     *
+     * @param enemy The enemy to remove.
+     */
+    @Override
+    public void removeEnemy(IEnemy enemy) {
+        indexDivisions();
+        if (!enemies.contains(enemy)) {
+            return;
+        }
+
+        enemies.remove(enemy);
+        int index = indexedDivision(enemy.getCurrentDivision());
+        if (index != -1) {
+            enemiesAt[index].remove(enemy);
+            changeImpact(index, enemy.getPower());
+        }
+    }
+
+    /**
+     * Changes the power of an enemy and updates the impact of its division by the difference.
+     *
+     * @param enemy The enemy whose power changes.
+     * @param power The new power of the enemy.
+     */
+    @Override
+    public void setEnemyPower(IEnemy enemy, int power) {
+        indexDivisions();
+        int previous = enemy.getPower();
+        enemy.setPower(power);
+
+        int index = indexedDivision(enemy.getCurrentDivision());
+        if (index != -1 && enemiesAt[index].contains(enemy)) {
+            changeImpact(index, previous - power);
+        }
+    }
+
+    /**
+     * Moves an enemy to another division, moving it between the occupants and the impacts of both divisions.
+     *
+     * @param enemy The enemy to move.
+     * @param division The new division of the enemy.
+     */
+    @Override
+    public void moveEnemy(IEnemy enemy, IDivision division) {
+        int from = indexedDivision(enemy.getCurrentDivision());
+        boolean tracked = (from != -1) && enemiesAt[from].contains(enemy);
+        enemy.setCurrentDivision(division);
+
+        if (!tracked && !enemies.contains(enemy)) {
+            return;
+        }
+
+        if (tracked) {
+            enemiesAt[from].remove(enemy);
+            changeImpact(from, enemy.getPower());
+        }
+
+        int to = indexedDivision(division);
+        if (to != -1) {
+            enemiesAt[to].addToRear(enemy);
+            changeImpact(to, -enemy.getPower());
+        }
+    }
+
+    /**
+     * Adds an item to the mission, to the occupants of its division, and its points to the impact of that division.
+     *
+     * @param item The item to add.
+     */
+    @Override
+    public void addItem(IItem item) {
+        indexDivisions();
+        items.addToRear(item);
+        int index = indexedDivision(item.getDivision());
+        if (index != -1) {
+            itemsAt[index].addToRear(item);
+            changeImpact(index, itemImpact(item));
+            if (itemField.isCurrent()) {
+                itemField.addSource(index);
             }
         }
+    }
+
+    /**
+     * Removes an item from the mission and from the occupants of its division, taking its points out of
+     * the impact of that division.
+     *
+     * @param item The item to remove.
+     */
+    @Override
+    public void removeItem(IItem item) {
+        indexDivisions();
+        if (!items.contains(item)) {
+            return;
+        }
+
+        items.remove(item);
+        int index = indexedDivision(item.getDivision());
+        if (index != -1) {
+            itemsAt[index].remove(item);
+            changeImpact(index, -itemImpact(item));
+            if (itemsAt[index].isEmpty() && itemField.isCurrent()) {
+                itemField.removeSource(index);
+            }
+        }
+    }
+
+    /**
+     * Gets the impact on points of a division: the points of its items minus the power of its enemies.
+     *
+     * @param division The division to check.
+     * @return The impact of the division; 0 if it is not part of the mission.
+     */
+    @Override
+    public int getImpact(IDivision division) {
+        int index = indexedDivision(division);
+        return (index == -1) ? 0 : impacts[index];
+    }
 
-        return enemiesInDivision;
+    /**
+     * Retrieves all enemies in a given division, as a read-only view of the occupants of that division.
+     * The view is kept by the mission and follows its changes, so nothing is copied or allocated.
+     *
+     * @param division The division to search for enemies.
+     * @return A read-only list of the enemies in the specified division.
+     */
+    @Override
+    public UnorderedListADT<IEnemy> getEnemiesByDivision(IDivision division) {
+        int index = indexedDivision(division);
+        return (index == -1) ? noEnemies : enemyViews[index];
     }
 
     /**
-     * Retrieves all enemies not in the current division and not in a specified division.
+     * Retrieves all enemies not in the current division of To Cruz, in the order they were added to the
+     * mission. The result is a new list, since its callers move the enemies while going through it.
      *
      * @param division The current division to exclude.
      * @param toCruz The object that contains the target division for the enemy search.
@@ -244,86 +489,70 @@ public class Mission implements IMission {
     }
 
     /**
-     * Retrieves all items in a specified division.
+     * Retrieves all items in a specified division, as a read-only view of the occupants of that division.
+     * The view is kept by the mission and follows its changes, so nothing is copied or allocated.
      *
      * @param division The division to search for items.
-     * @return A list of items in the specified division.
+     * @return A read-only list of the items in the specified division.
      */
     @Override
     public UnorderedListADT<IItem> getItemsByDivision(IDivision division) {
-        UnorderedListADT<IItem> itemsInDivision = new ArrayUnorderedList<>();
-
-        for (IItem item : items) {
-            if (item.getDivision().equals(division)) {
-                itemsInDivision.addToRear(item);
-            }
-        }
-
-        return itemsInDivision;
+        int index = indexedDivision(division);
+        return (index == -1) ? noItems : itemViews[index];
     }
 
     /**
      * Finds the best path from a given division to a target division, considering points impact.
+     * The path is the one that reaches the target with the most points left, never letting the points
+     * drop to zero, and is found by a {@link ResourcePathSearch} without changing the mission.
      *
      * @param currentDivision The current division to start the path search.
      * @param targetDivision The division where the path should lead.
-     * @return A queue representing the best path to the target division.
+     * @return A queue representing the best path, from the target division back to the current one,
+     *         or an empty queue if the target cannot be reached.
      */
     @Override
     public QueueADT<IDivision> findBestPath(IDivision currentDivision, IDivision targetDivision) {
-        QueueADT<IDivision> queue = new LinkedQueue<>();
-        ArrayUnorderedList<IDivision> visited = new ArrayUnorderedList<>();
-        ArrayUnorderedList<Integer> pointsRemaining = new ArrayUnorderedList<>();
-        ArrayUnorderedList<IDivision> predecessors = new ArrayUnorderedList<>();
-
-        queue.enqueue(currentDivision);
-        visited.addToFront(currentDivision);
-        pointsRemaining.addToRear(points);
-        predecessors.addToRear(null);
+        QueueADT<IDivision> bestPath = new LinkedQueue<>();
+        int start = divisions.getIndex(currentDivision);
+        int target = divisions.getIndex(targetDivision);
 
-        while (!queue.isEmpty()) {
-            IDivision current = queue.dequeue();
-            int currentPoints = pointsRemaining.getElement(visited.find(current));
+        indexDivisions();
+        if (start == -1 || target == -1) {
+            return bestPath;
+        }
 
-            if (current.equals(targetDivision)) {
-                break;
+        plannedLast = incrementalSearch && planner.plan(start, target, impacts)
+                && planner.getCost(start) < points;
+        if (plannedLast) {
+            int[] path = new int[planner.getHops(start) + 1];
+            int step = start;
+            for (int i = 0; i < path.length; i++) {
+                path[i] = step;
+                step = planner.getNext(step);
             }
-
-            ArrayUnorderedList<IDivision> neighbors = this.getDivisions().getNeighbors(current);
-            for (IDivision neighbor : neighbors) {
-                if (visited.contains(neighbor)) {
-                    continue;
-                }
-
-                int pointsImpact = calculateImpact(neighbor);
-
-                if (currentPoints + pointsImpact > 0) {
-                    int newPoints = currentPoints + pointsImpact;
-
-                    pointsRemaining.addToRear(newPoints);
-                    predecessors.addToRear(current);
-                    queue.enqueue(neighbor);
-                    visited.addToRear(neighbor);
-                    setPoints(newPoints);
-                }
+            for (int i = path.length - 1; i >= 0; i--) {
+                bestPath.enqueue(divisions.getVertex(path[i]));
             }
+            return bestPath;
         }
 
-        QueueADT<IDivision> bestPath = new LinkedQueue<>();
-        IDivision step = targetDivision;
-        while (step != null) {
-            bestPath.enqueue(step);
-            int predecessorIndex = visited.find(step);
-            step = predecessors.getElement(predecessorIndex);
+        if (!pathSearch.search(start, target, points, impacts)) {
+            return bestPath;
+        }
+
+        for (int step = target; step != -1; step = pathSearch.getPredecessor(step)) {
+            bestPath.enqueue(divisions.getVertex(step));
         }
         return bestPath;
     }
 
     /**
      * Finds the best path to a Life Kit from the given division.
-     * This method uses a breadth-first search (BFS) approach to explore the
-     * neighboring divisions, calculating the points remaining based on the
-     * impact of items and enemies encountered along the way.
+     * The path to the nearest division with items is read from the item distance field, one step
+     * down at a time, preferring the division with the highest impact among those one step closer,
+     * starting with the mission points. If the points would drop to zero along that path, the
+     * divisions are searched breadth-first instead, skipping the ones that would do so.
      *
      * @param currentDivision the division from which the pathfinding starts
      * @return an unordered list containing the divisions of the best path to a Life Kit,
@@ -331,51 +560,124 @@ public class Mission implements IMission {
      */
     @Override
     public UnorderedListADT<IDivision> findBestPathToLifeKit(IDivision currentDivision) {
-        QueueADT<IDivision> queue = new LinkedQueue<>();
-        ArrayUnorderedList<IDivision> visited = new ArrayUnorderedList<>();
-        ArrayUnorderedList<Integer> pointsRemaining = new ArrayUnorderedList<>();
-        ArrayUnorderedList<IDivision> predecessors = new ArrayUnorderedList<>();
-
-        queue.enqueue(currentDivision);
-        visited.addToFront(currentDivision);
-        pointsRemaining.addToRear(100);
-        predecessors.addToRear(null);
+        int start = indexedDivision(currentDivision);
+        if (start == -1) {
+            return new ArrayUnorderedList<>();
+        }
+        if (!itemField.isCurrent()) {
+            buildItemField();
+        }
+        if (itemField.getDistance(start) == DistanceField.UNREACHABLE) {
+            return new ArrayUnorderedList<>();
+        }
 
-        while (!queue.isEmpty()) {
-            IDivision current = queue.dequeue();
-            int currentPoints = pointsRemaining.getElement(visited.find(current));
+        ArrayUnorderedList<IDivision> path = new ArrayUnorderedList<>();
+        int step = start;
+        path.addToRear(divisions.getVertex(step));
+        int pointsLeft = points;
 
-            ArrayUnorderedList<IItem> items = (ArrayUnorderedList<IItem>) this.getItemsByDivision(current);
-            if (hasItems(current)) {
-                return reconstructPath(predecessors, visited, current);
+        while (itemField.getDistance(step) > 0) {
+            step = itemField.nextStep(step, impacts);
+            pointsLeft += impacts[step];
+            if (pointsLeft <= 0) {
+                return searchPathToLifeKit(start);
             }
+            path.addToRear(divisions.getVertex(step));
+        }
+        return path;
+    }
 
-            ArrayUnorderedList<IDivision> neighbors = this.getDivisions().getNeighbors(current);
-            for (IDivision neighbor : neighbors) {
-                if (visited.contains(neighbor)) {
-                    continue;
-                }
+    /**
+     * Finds every route between two divisions that no other route beats at once on moves, points
+     * left and items picked up, keeping up to {@link ParetoPathSearch#DEFAULT_LABEL_LIMIT} partial
+     * routes while searching.
+     *
+     * @param currentDivision The division where the routes start.
+     * @param targetDivision The division where the routes end.
+     * @return The routes, from the one with the fewest moves; empty if the target cannot be reached.
+     */
+    @Override
+    public UnorderedListADT<IRoute> findParetoRoutes(IDivision currentDivision, IDivision targetDivision) {
+        return findParetoRoutes(currentDivision, targetDivision, ParetoPathSearch.DEFAULT_LABEL_LIMIT);
+    }
 
-                int pointsImpact = calculateImpact(neighbor);
+    /**
+     * Finds the routes between two divisions that no other route beats at once on moves, points left
+     * and items picked up. Every route starts with the mission points, never lets them drop to zero,
+     * and visits each division at most once. The search keeps at most the given number of partial
+     * routes and stops early if it needs more, returning the routes found until then.
+     *
+     * @param currentDivision The division where the routes start.
+     * @param targetDivision The division where the routes end.
+     * @param labelLimit The largest number of partial routes to keep.
+     * @return The routes, from the one with the fewest moves; empty if the target cannot be reached.
+     */
+    @Override
+    public UnorderedListADT<IRoute> findParetoRoutes(IDivision currentDivision, IDivision targetDivision,
+                                                     int labelLimit) {
+        ArrayUnorderedList<IRoute> routes = new ArrayUnorderedList<>();
+        int start = indexedDivision(currentDivision);
+        int target = divisions.getIndex(targetDivision);
+        if (start == -1 || target == -1) {
+            return routes;
+        }
 
-                if (currentPoints + pointsImpact > 0) {
-                    int newPoints = currentPoints + pointsImpact;
+        int[] pickups = new int[indexedSlots];
+        for (int i = 0; i < indexedSlots; i++) {
+            pickups[i] = itemsAt[i].size();
+        }
 
-                    pointsRemaining.addToRear(newPoints);
-                    predecessors.addToRear(current);
-                    queue.enqueue(neighbor);
-                    visited.addToRear(neighbor);
-                }
+        int count = paretoSearch.search(start, target, points, impacts, pickups, labelLimit);
+        for (int route = 0; route < count; route++) {
+            ArrayUnorderedList<IDivision> path = new ArrayUnorderedList<>();
+            for (int index : paretoSearch.getPath(route)) {
+                path.addToRear(divisions.getVertex(index));
             }
+            routes.addToRear(new Route(path, paretoSearch.getHops(route), paretoSearch.getPoints(route),
+                    paretoSearch.getPickups(route)));
         }
-        return new ArrayUnorderedList<>();
+        return routes;
+    }
+
+    /**
+     * Builds the item distance field from every division that holds items.
+     */
+    private void buildItemField() {
+        int[] sources = new int[indexedSlots];
+        int count = 0;
+        for (int i = 0; i < indexedSlots; i++) {
+            if (!itemsAt[i].isEmpty()) {
+                sources[count++] = i;
+            }
+        }
+        itemField.build(sources, count);
+    }
+
+    /**
+     * Finds the path to the nearest division with items with a breadth-first search, which only
+     * enters the divisions that leave some points.
+     *
+     * @param start the index of the division from which the pathfinding starts
+     * @return an unordered list containing the divisions of the path, or an empty list if no such path exists
+     */
+    private UnorderedListADT<IDivision> searchPathToLifeKit(int start) {
+        ArrayUnorderedList<IDivision> path = new ArrayUnorderedList<>();
+        int step = itemField.findReachableSource(start, points, impacts);
+
+        while (step != -1) {
+            path.addToFront(divisions.getVertex(step));
+            step = itemField.getPredecessor(step);
+        }
+        return path;
     }
 
     /**
      * Finds the best route from multiple entry points to a target division,
      * then finds the best route back from the target division to the entry points.
-     * The method calculates the best route by comparing the available paths based on
-     * the total points (impact of items and enemies) along each route.
+     * The way in comes from a single search started from every entry point at once, each one entered
+     * with the mission points plus its own impact, so the entry that reaches the target with the most
+     * points wins. The way back comes from a single search started from the target with the points left
+     * there, ending at the entry point reached with the most points, which are kept as the route points.
      *
      * @param entryPoints an unordered list of possible entry points to start the journey
      * @param targetDivision the target division where the path should end
@@ -384,60 +686,66 @@ public class Mission implements IMission {
      */
     @Override
     public QueueADT<IDivision> findBestRouteFromMultipleEntryPoints(UnorderedListADT<IDivision> entryPoints, IDivision targetDivision) {
-        QueueADT<IDivision> bestPathToTarget = null;
-        int maxPointsToTarget = -1;
-
-
-        for (IDivision entryPoint : entryPoints) {
-            QueueADT<IDivision> currentPathToTarget = findBestPath(entryPoint, targetDivision);
-
-            if (currentPathToTarget != null && !currentPathToTarget.isEmpty()) {
-                int currentPointsToTarget = calculatePathPoints(currentPathToTarget);
-
-                if (currentPointsToTarget > maxPointsToTarget) {
-                    maxPointsToTarget = currentPointsToTarget;
-                    bestPathToTarget = currentPathToTarget;
-                }
-            }
+        routePoints = -1;
+        int target = divisions.getIndex(targetDivision);
+        if (target == -1) {
+            return null;
         }
 
-        // Agora que temos o melhor caminho para o alvo, verificamos o melhor caminho de volta
-        QueueADT<IDivision> bestPathFromTarget = null;
-        int maxPointsFromTarget = -1; // Inicializa como -1 para garantir que qualquer caminho válido seja aceito.
-
-        // Encontrar o melhor caminho de volta para os pontos de entrada a partir do alvo
+        indexDivisions();
+        int[] entries = new int[entryPoints.size()];
+        int[] startPoints = new int[entryPoints.size()];
+        int count = 0;
         for (IDivision entryPoint : entryPoints) {
-            QueueADT<IDivision> currentPathFromTarget = findBestPath(targetDivision, entryPoint);
-
-            if (currentPathFromTarget != null && !currentPathFromTarget.isEmpty()) {
-                int currentPointsFromTarget = calculatePathPoints(currentPathFromTarget);
-
-                if (currentPointsFromTarget > maxPointsFromTarget) {
-                    maxPointsFromTarget = currentPointsFromTarget;
-                    bestPathFromTarget = currentPathFromTarget;
-                }
+            int index = divisions.getIndex(entryPoint);
+            if (index != -1) {
+                entries[count] = index;
+                startPoints[count] = points + impacts[index];
+                count++;
             }
         }
 
-        // Se ambos os caminhos são encontrados, podemos retornar o melhor caminho completo (ida e volta)
-        if (bestPathToTarget != null && bestPathFromTarget != null) {
-            // Juntando os dois caminhos (ida e volta) em uma única fila
-            QueueADT<IDivision> completePath = new LinkedQueue<>();
-
-            // Adicionando o caminho de entrada para o alvo
-            while (!bestPathToTarget.isEmpty()) {
-                completePath.enqueue(bestPathToTarget.dequeue());
-            }
-
-            // Adicionando o caminho de volta (do alvo até a entrada)
-            while (!bestPathFromTarget.isEmpty()) {
-                completePath.enqueue(bestPathFromTarget.dequeue());
+        // The way in, read from the target back to the entry point it came from
+        plannedLast = false;
+        if (!pathSearch.search(entries, startPoints, count, target, impacts)) {
+            return null;
+        }
+        QueueADT<IDivision> completePath = new LinkedQueue<>();
+        for (int step = target; step != -1; step = pathSearch.getPredecessor(step)) {
+            completePath.enqueue(divisions.getVertex(step));
+        }
+        int targetPoints = pathSearch.getPoints(target);
+
+        // The way back, towards the entry point that is reached with the most points
+        pathSearch.search(target, -1, targetPoints, impacts);
+        int bestEntry = -1;
+        for (int i = 0; i < count; i++) {
+            if (pathSearch.isReached(entries[i])
+                    && (bestEntry == -1 || pathSearch.getPoints(entries[i]) > pathSearch.getPoints(bestEntry))) {
+                bestEntry = entries[i];
             }
+        }
+        if (bestEntry == -1) {
+            return null;
+        }
 
-            return completePath; // Retorna o caminho completo com maior número de pontos
+        for (int step = bestEntry; step != -1; step = pathSearch.getPredecessor(step)) {
+            completePath.enqueue(divisions.getVertex(step));
         }
+        routePoints = pathSearch.getPoints(bestEntry);
+        return completePath;
+    }
 
-        return null; // Se não houver caminho válido
+    /**
+     * Gets the points To Cruz is left with at the end of the last route found by
+     * {@link #findBestRouteFromMultipleEntryPoints}, as counted by the searches of the way in and the way back.
+     * The target is only counted once, although the route goes through it on both ways.
+     *
+     * @return The points left at the end of the route, or -1 if no route was found.
+     */
+    @Override
+    public int getRoutePoints() {
+        return routePoints;
     }
 
     /**
@@ -483,93 +791,193 @@ public class Mission implements IMission {
     /**
      * Calculates the impact of a division on the remaining points.
      * The impact is calculated based on items found in the division (e.g., LIFE_KIT or BULLET_PROOF_VEST)
-     * and enemies that subtract from the available points.
+     * and enemies that subtract from the available points, and is read from the impact table.
      *
      * @param division The division whose impact on the points is being calculated.
      * @return The impact on points, which could be positive (recovery from items) or negative (damage from enemies).
      */
     private int calculateImpact(IDivision division) {
-        int impact = 0;
-
-        // Add points from items
-        for (IItem item : this.getItemsByDivision(division)) {
-            if (item.getType() == ItemType.LIFE_KIT) {
-                impact += item.getRecoveryPoints();
-            } else if (item.getType() == ItemType.BULLET_PROOF_VEST) {
-                impact += item.getExtraPoints();
+        return getImpact(division);
+    }
+
+    /**
+     * Changes the impact of a division and tells the planner, so it can repair the paths through it.
+     *
+     * @param index The index of the division in the divisions graph.
+     * @param delta The points to add to its impact.
+     */
+    private void changeImpact(int index, int delta) {
+        impacts[index] += delta;
+        planner.gainChanged(index, impacts[index]);
+    }
+
+    /**
+     * Builds the occupants and the impact of every division again if the divisions graph changed since
+     * they were built, since removing and adding divisions can move them to other indexes. Building them
+     * takes a single pass over the items and the enemies, placing each one by its current division.
+     */
+    private void indexDivisions() {
+        if (indexedSlots == divisions.slotCount() && indexedModCount == divisions.modificationCount()) {
+            return;
+        }
+
+        indexedSlots = divisions.slotCount();
+        indexedModCount = divisions.modificationCount();
+        impacts = new int[indexedSlots];
+        enemiesAt = newListArray(indexedSlots);
+        itemsAt = newListArray(indexedSlots);
+        enemyViews = newListArray(indexedSlots);
+        itemViews = newListArray(indexedSlots);
+
+        for (int i = 0; i < indexedSlots; i++) {
+            enemiesAt[i] = new ArrayUnorderedList<>();
+            itemsAt[i] = new ArrayUnorderedList<>();
+            enemyViews[i] = new ReadOnlyUnorderedList<>(enemiesAt[i]);
+            itemViews[i] = new ReadOnlyUnorderedList<>(itemsAt[i]);
+        }
+
+        for (IItem item : items) {
+            int index = divisions.getIndex(item.getDivision());
+            if (index != -1) {
+                itemsAt[index].addToRear(item);
+                impacts[index] += itemImpact(item);
             }
         }
-         //Remove points from enemies
-        for (IEnemy enemy : this.getEnemiesByDivision(division)) {
-            impact -= enemy.getPower();
+
+        for (IEnemy enemy : enemies) {
+            int index = divisions.getIndex(enemy.getCurrentDivision());
+            if (index != -1) {
+                enemiesAt[index].addToRear(enemy);
+                impacts[index] -= enemy.getPower();
+            }
         }
+    }
 
-        return impact;
+    /**
+     * Creates an array of lists with the given length.
+     *
+     * @param length The length of the array.
+     * @param <E> The type of the elements of the lists.
+     * @return A new array of lists, with every entry null.
+     */
+    @SuppressWarnings("unchecked")
+    private static <E> UnorderedListADT<E>[] newListArray(int length) {
+        return (UnorderedListADT<E>[]) new UnorderedListADT<?>[length];
     }
 
     /**
-     * Calculates the total points of a path by summing the impact of each division encountered.
-     * This method ensures that if the points become zero or negative during the path,
-     * it returns -1 to indicate that the path is not viable.
+     * Finds the index of a division, making sure the division indexes are up to date.
+     *
+     * @param division The division to find.
+     * @return The index of the division in the divisions graph; -1 if it is not part of the mission.
+     */
+    private int indexedDivision(IDivision division) {
+        indexDivisions();
+        return divisions.getIndex(division);
+    }
+
+    /**
+     * Gets the points an item adds to the impact of its division.
+     *
+     * @param item The item to check.
+     * @return The recovery points of a LIFE_KIT, the extra points of a BULLET_PROOF_VEST, or 0 otherwise
+     * or if the item has no points.
+     */
+    private int itemImpact(IItem item) {
+        Integer points = null;
+        if (item.getType() == ItemType.LIFE_KIT) {
+            points = item.getRecoveryPoints();
+        } else if (item.getType() == ItemType.BULLET_PROOF_VEST) {
+            points = item.getExtraPoints();
+        }
+        return (points == null) ? 0 : points;
+    }
+
+    /**
+     * Calculates the total points of a path by summing the impact of each division encountered,
+     * starting from the mission points. This method ensures that if the points become zero or
+     * negative during the path, it returns -1 to indicate that the path is not viable.
+     * The path is walked once around the queue, so it is left with the same divisions in the same order.
      *
      * @param path The queue representing the divisions in the path.
      * @return The total points remaining after traversing the path. If the path is invalid, -1 is returned.
      */
-    private int calculatePathPoints(QueueADT<IDivision> path) {
-        int totalPoints = 100;
-        QueueADT<IDivision> pathCopy = new LinkedQueue<>();
+    @Override
+    public int calculatePathPoints(QueueADT<IDivision> path) {
+        int totalPoints = points;
+        int size = path.size();
 
-        while (!path.isEmpty()) {
+        for (int i = 0; i < size; i++) {
             IDivision currentDivision = path.dequeue();
-            pathCopy.enqueue(currentDivision);
+            path.enqueue(currentDivision);
 
-            totalPoints += calculateImpact(currentDivision);
-
-            if (totalPoints <= 0) {
-                return -1;
+            if (totalPoints > 0) {
+                totalPoints += calculateImpact(currentDivision);
             }
         }
 
-        while (!pathCopy.isEmpty()) {
-            path.enqueue(pathCopy.dequeue());
-        }
-        return totalPoints;
+        return (totalPoints > 0) ? totalPoints : -1;
     }
 
     /**
-     * Checks if there are any items in the specified division.
-     * This method helps to verify if an item (e.g., Life Kit) is present in the division.
+     * Enables or disables the goal-directed (A*) search in {@link #findBestPath}. It is aimed at the
+     * target division by the number of connections left to it, and with no item left it finds a path
+     * with the same points and length while expanding fewer divisions. The points of the items that
+     * can still be picked up are taken off the points still to lose, so no path that could reach the
+     * target is dropped; like the search without it, the path is then the best one found, not always
+     * the best one there is.
      *
-     * @param division The division to check for items.
-     * @return True if the division contains any items, false otherwise.
+     * @param enabled true to aim the search at the target division; false to search in every direction.
      */
-    private boolean hasItems(IDivision division) {
-        UnorderedListADT<IItem> itemsInDivision = this.getItemsByDivision(division);
-        return !itemsInDivision.isEmpty();
+    @Override
+    public void setGoalDirectedSearch(boolean enabled) {
+        pathSearch.setGoalDirected(enabled);
     }
 
     /**
-     * Reconstructs the path to the target division based on the predecessors.
-     * This method traces back from the target division to the starting division using the predecessors.
+     * Gets the number of divisions expanded by the last best path search, to compare searches.
      *
-     * @param predecessors A list of divisions that represent the predecessors of each division.
-     * @param visited A list of divisions that have been visited.
-     * @param target The target division to reconstruct the path to.
-     * @return A list representing the reconstructed path to the target division.
+     * @return The number of divisions expanded.
      */
-    private UnorderedListADT<IDivision> reconstructPath(ArrayUnorderedList<IDivision> predecessors,
-                                                        ArrayUnorderedList<IDivision> visited,
-                                                        IDivision target) {
-        UnorderedListADT<IDivision> path = new ArrayUnorderedList<>();
-        IDivision step = target;
+    @Override
+    public int getSearchExpansions() {
+        return plannedLast ? planner.getExpansions() : pathSearch.getExpansions();
+    }
 
-        while (step != null) {
-            path.addToFront(step);
-            int predecessorIndex = visited.find(step);
-            step = predecessors.getElement(predecessorIndex);
-        }
+    /**
+     * Enables or disables the incremental search in {@link #findBestPath}. The planner keeps the best
+     * paths to the last target division between calls and, when enemies move or items are taken, only
+     * settles again the divisions whose paths those changes affect, so the start may also change
+     * freely. With no item left it finds paths with the same points and length as a full search. The
+     * points of an item count as no loss to the planner, so its path does not turn aside to pick one
+     * up, but keeps the points of any item on the way; when the planner finds no path that keeps the
+     * points above zero without items, the full search is used instead.
+     *
+     * @param enabled true to repair the paths between calls; false to search from scratch every time.
+     */
+    @Override
+    public void setIncrementalSearch(boolean enabled) {
+        incrementalSearch = enabled;
+    }
 
-        return path;
+    /**
+     * Gets the source of the random choices of the mission.
+     *
+     * @return The source of the random choices, seeded at random unless one was set.
+     */
+    @Override
+    public IRandomSource getRandom() {
+        return random;
+    }
+
+    /**
+     * Sets the source of the random choices of the mission, so it can be replayed from the seed of the source.
+     *
+     * @param random The source of the random choices.
+     */
+    @Override
+    public void setRandom(IRandomSource random) {
+        this.random = random;
     }
 
 }
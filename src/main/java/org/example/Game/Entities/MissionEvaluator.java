@@ -0,0 +1,138 @@
+package org.example.Game.Entities;
+
+import org.example.Game.Entities.ENUMS.DifficultyType;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * The MissionEvaluator class estimates how hard a mission is by playing many independent automatic missions with a
+ * {@link MissionSimulator} and gathering their outcomes in {@link MissionStatistics}, one for each difficulty.
+ *
+ * <p>The simulations are split in ranges across a {@link ForkJoinPool}. Every range keeps its own
+ * {@link SimulationRun}, so the enemies, items and To Cruz of a simulation are never shared, while the building and
+ * the compiled mission are only read. The outcomes are recorded straight into the statistics, which take no locks.
+ * Simulation i is played with the seed given plus i, so the totals do not depend on how the work was split, and any
+ * simulation can be replayed on its own with {@link MissionSimulator#simulate}.</p>
+ */
+public class MissionEvaluator {
+
+    /**
+     * The number of simulations played by each parallel task.
+     */
+    private static final int RUNS_PER_TASK = 256;
+
+    /**
+     * The simulator the missions are played with.
+     */
+    private final MissionSimulator simulator;
+
+    /**
+     * The pool the simulations run in.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructs an evaluator that runs in the common pool.
+     *
+     * @param simulator the simulator the missions are played with.
+     */
+    public MissionEvaluator(MissionSimulator simulator) {
+        this(simulator, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs an evaluator that runs in the given pool.
+     *
+     * @param simulator the simulator the missions are played with.
+     * @param pool the pool the simulations run in.
+     */
+    public MissionEvaluator(MissionSimulator simulator, ForkJoinPool pool) {
+        this.simulator = simulator;
+        this.pool = pool;
+    }
+
+    /**
+     * Plays a number of simulations on one difficulty.
+     *
+     * @param difficulty the difficulty to play on.
+     * @param runs the number of simulations.
+     * @param seed the seed of the first simulation; each following one adds one to it.
+     * @return the statistics of the simulations.
+     */
+    public MissionStatistics evaluate(DifficultyType difficulty, int runs, long seed) {
+        return evaluate(new DifficultyType[]{difficulty}, runs, seed)[0];
+    }
+
+    /**
+     * Plays a number of simulations on every difficulty.
+     *
+     * @param runs the number of simulations on each difficulty.
+     * @param seed the seed of the first simulation on each difficulty; each following one adds one to it.
+     * @return the statistics of the simulations, in the order of {@link DifficultyType#values()}.
+     */
+    public MissionStatistics[] evaluate(int runs, long seed) {
+        return evaluate(DifficultyType.values(), runs, seed);
+    }
+
+    /**
+     * Plays a number of simulations on each of the given difficulties, all in one task tree.
+     *
+     * @param difficulties the difficulties to play on.
+     * @param runs the number of simulations on each difficulty.
+     * @param seed the seed of the first simulation on each difficulty; each following one adds one to it.
+     * @return the statistics of the simulations, in the order of the difficulties given.
+     */
+    public MissionStatistics[] evaluate(DifficultyType[] difficulties, int runs, long seed) {
+        MissionStatistics[] statistics = new MissionStatistics[difficulties.length];
+        for (int i = 0; i < difficulties.length; i++) {
+            statistics[i] = new MissionStatistics(difficulties[i]);
+        }
+
+        long total = (long) runs * difficulties.length;
+        if (total > 0) {
+            pool.invoke(new SimulationTask(difficulties, statistics, seed, 0, total));
+        }
+        return statistics;
+    }
+
+    /**
+     * Task that plays a range of simulations, splitting it in half until it is small enough. Simulation k of the
+     * range is simulation k / d of difficulty k % d, for d difficulties
+     */
+    private class SimulationTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final DifficultyType[] difficulties;
+        private final MissionStatistics[] statistics;
+        private final long seed;
+        private final long first;
+        private final long last;
+
+        SimulationTask(DifficultyType[] difficulties, MissionStatistics[] statistics, long seed, long first,
+                       long last) {
+            this.difficulties = difficulties;
+            this.statistics = statistics;
+            this.seed = seed;
+            this.first = first;
+            this.last = last;
+        }
+
+        @Override
+        protected void compute() {
+            if (last - first <= RUNS_PER_TASK) {
+                SimulationRun run = new SimulationRun(simulator);
+                for (long k = first; k < last; k++) {
+                    int difficulty = (int) (k % difficulties.length);
+                    long index = k / difficulties.length;
+                    statistics[difficulty].record(run.play(seed + index, difficulties[difficulty]));
+                }
+                return;
+            }
+
+            long middle = (first + last) >>> 1;
+            invokeAll(new SimulationTask(difficulties, statistics, seed, first, middle),
+                    new SimulationTask(difficulties, statistics, seed, middle, last));
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package org.example.Game.Entities;
+
+import org.example.Game.Entities.ENUMS.ItemType;
+import org.example.Game.Entities.Interfaces.IDivision;
+import org.example.Game.Entities.Interfaces.IGameEventSink;
+import org.example.Game.Entities.Interfaces.IItem;
+import org.example.Structures.Interfaces.QueueADT;
+
+/**
+ * The MissionLogSink class writes the movements of a mission to a log, in the words saved by
+ * {@link Game#saveLastMissionMovements}, and passes every event on to another sink. The log is written
+ * on the thread that sends the events, so it should come before a sink that hands them to another
+ * thread, such as {@link AsyncEventSink}.
+ */
+public class MissionLogSink implements IGameEventSink {
+
+    /**
+     * The log the movements are written to.
+     */
+    private final QueueADT<String> log;
+
+    /**
+     * The sink every event is passed on to; null if there is none.
+     */
+    private final IGameEventSink delegate;
+
+    /**
+     * Constructs a sink that writes the movements to the given log.
+     *
+     * @param log the log the movements are written to.
+     * @param delegate the sink every event is passed on to; null to only write the log.
+     */
+    public MissionLogSink(QueueADT<String> log, IGameEventSink delegate) {
+        this.log = log;
+        this.delegate = delegate;
+    }
+
+    /**
+     * Gets the sink every event is passed on to.
+     *
+     * @return the sink the events are passed on to; null if there is none.
+     */
+    @Override
+    public IGameEventSink getNext() {
+        return delegate;
+    }
+
+    /**
+     * Gets the log the movements are written to.
+     *
+     * @return the log of the movements.
+     */
+    @Override
+    public QueueADT<String> getMovementLog() {
+        return log;
+    }
+
+    /**
+     * Logs the attack of an enemy on To Cruz and passes it on.
+     *
+     * @param enemyName the name of the enemy.
+     * @param division the division of To Cruz.
+     * @param power the power the enemy attacked with.
+     */
+    @Override
+    public void toCruzAttacked(String enemyName, IDivision division, int power) {
+        log.enqueue("To Cruz attacked by " + enemyName + " in " + division.getName() + " with " + power + " power.");
+        IGameEventSink.super.toCruzAttacked(enemyName, division, power);
+    }
+
+    /**
+     * Logs the move of an enemy and passes it on.
+     *
+     * @param enemyName the name of the enemy.
+     * @param from the division the enemy left.
+     * @param to the division the enemy entered.
+     */
+    @Override
+    public void enemyMoved(String enemyName, IDivision from, IDivision to) {
+        log.enqueue("Enemy " + enemyName + " moved from " + from.getName() + " to " + to.getName());
+        IGameEventSink.super.enemyMoved(enemyName, from, to);
+    }
+
+    /**
+     * Logs the attack of an enemy that moved into the division of To Cruz and passes it on.
+     *
+     * @param enemyName the name of the enemy.
+     * @param division the division of To Cruz.
+     * @param power the power the enemy attacked with.
+     */
+    @Override
+    public void toCruzAmbushed(String enemyName, IDivision division, int power) {
+        log.enqueue("To Cruz attacked by new enemy in" + division.getName());
+        IGameEventSink.super.toCruzAmbushed(enemyName, division, power);
+    }
+
+    /**
+     * Logs the attack of To Cruz on his division and passes it on.
+     *
+     * @param division the division of To Cruz.
+     */
+    @Override
+    public void divisionAttacked(IDivision division) {
+        log.enqueue("To Cruz attacked enemies in " + division.getName());
+        IGameEventSink.super.divisionAttacked(division);
+    }
+
+    /**
+     * Logs the item picked up and passes it on.
+     *
+     * @param item the item.
+     * @param division the division the item was in.
+     */
+    @Override
+    public void itemCollected(IItem item, IDivision division) {
+        if (item.getType() == ItemType.LIFE_KIT) {
+            log.enqueue("To Cruz collected a life kit in " + division.getName() + " with " + item.getRecoveryPoints() + " recovery points.");
+        } else if (item.getType() == ItemType.BULLET_PROOF_VEST) {
+            log.enqueue("To Cruz collected a bullet proof vest in " + division.getName() + " with " + item.getExtraPoints() + " extra points.");
+        }
+        IGameEventSink.super.itemCollected(item, division);
+    }
+
+    /**
+     * Logs the capture of the target and passes it on.
+     *
+     * @param division the division the target was in.
+     */
+    @Override
+    public void targetCaptured(IDivision division) {
+        log.enqueue("To Cruz captured the target in " + division.getName());
+        IGameEventSink.super.targetCaptured(division);
+    }
+
+    /**
+     * Logs the move of To Cruz and passes it on.
+     *
+     * @param division the division To Cruz entered.
+     */
+    @Override
+    public void toCruzMoved(IDivision division) {
+        log.enqueue("To Cruz moved to " + division.getName());
+        IGameEventSink.super.toCruzMoved(division);
+    }
+
+    /**
+     * Logs the move chosen by the player and passes it on.
+     *
+     * @param division the division To Cruz entered.
+     */
+    @Override
+    public void moveCompleted(IDivision division) {
+        log.enqueue("To Cruz moved to " + division.getName());
+        IGameEventSink.super.moveCompleted(division);
+    }
+
+    /**
+     * Logs the health To Cruz finished with and passes it on.
+     *
+     * @param health the health To Cruz finished with.
+     */
+    @Override
+    public void missionFinalized(int health) {
+        log.enqueue("Mission finalized with " + health + " health points.");
+        IGameEventSink.super.missionFinalized(health);
+    }
+
+    /**
+     * Logs the health To Cruz fell with and passes it on.
+     *
+     * @param health the health To Cruz fell with.
+     */
+    @Override
+    public void toCruzFallen(int health) {
+        log.enqueue("To Cruz has fallen with " + health + " health points.");
+        IGameEventSink.super.toCruzFallen(health);
+    }
+}
@@ -0,0 +1,296 @@
+package org.example.Game.Entities;
+
+import org.example.Game.Entities.ENUMS.DifficultyType;
+import org.example.Game.Entities.ENUMS.ItemType;
+import org.example.Game.Entities.Interfaces.*;
+import org.example.Structures.Implementations.ArrayUnorderedList;
+import org.example.Structures.Implementations.PersistentIntArray;
+import org.example.Structures.Implementations.ResourcePathSearch;
+
+/**
+ * The MissionSimulator class plays automatic missions with the rules of {@link Game} and {@link Mission}, without
+ * reading input or printing anything, so a map can be evaluated over many runs.
+ *
+ * <p>The mission is compiled once into division indexes: the connections of every division, the enemies and items
+ * with their divisions and points, the entry points and the target. To Cruz enters through the entry point of the
+ * automatic route ({@link Mission#findBestRouteFromMultipleEntryPoints}). The simulator only reads the mission and
+ * never changes it after being built, so it can be shared by any number of {@link SimulationRun}s, each of which
+ * keeps its own enemies, items and To Cruz. The starting state of the mission on each difficulty is also kept as a
+ * {@link MissionState}, from which what-ifs can be forked.</p>
+ */
+public class MissionSimulator {
+
+    /**
+     * The default number of turns after which a simulation is stopped.
+     */
+    public static final int DEFAULT_TURN_LIMIT = 1000;
+
+    /**
+     * The health To Cruz cannot heal past with a health kit, as in {@link ToCruz}.
+     */
+    public static final int MAX_HEALTH = 100;
+
+    /**
+     * The building of the mission, shared with it.
+     */
+    protected final Building<IDivision> building;
+
+    /**
+     * The indexes of the divisions connected to each division, by index, in the order of the building.
+     */
+    protected final int[][] neighbours;
+
+    /**
+     * The starting power of each enemy.
+     */
+    protected final int[] enemyPower;
+
+    /**
+     * The starting division index of each enemy.
+     */
+    protected final int[] enemyDivision;
+
+    /**
+     * The division index of each item.
+     */
+    protected final int[] itemDivision;
+
+    /**
+     * The recovery points of each life kit, or the extra points of each bulletproof vest.
+     */
+    protected final int[] itemPoints;
+
+    /**
+     * Whether each item is a life kit; otherwise it is a bulletproof vest.
+     */
+    protected final boolean[] itemIsLifeKit;
+
+    /**
+     * The starting impact of each division: the points of its items minus the power of its enemies.
+     */
+    protected final int[] impacts;
+
+    /**
+     * Whether each division is an entry point.
+     */
+    protected final boolean[] entry;
+
+    /**
+     * The division index of the target.
+     */
+    protected final int targetIndex;
+
+    /**
+     * The division index To Cruz enters through.
+     */
+    protected final int startIndex;
+
+    /**
+     * The health To Cruz starts with, which is the mission points.
+     */
+    protected final int startHealth;
+
+    /**
+     * The number of turns after which a simulation is stopped.
+     */
+    protected final int turnLimit;
+
+    /**
+     * The starting state of the mission on each difficulty, by its position in {@link DifficultyType#values()}.
+     */
+    private final MissionState[] initialStates;
+
+    /**
+     * Constructs a simulator for the given mission, with the default turn limit.
+     *
+     * @param mission The mission to simulate, with its building, enemies, items, entry points and target loaded.
+     * @throws IllegalArgumentException if the target or every entry point is outside the building.
+     */
+    public MissionSimulator(IMission mission) {
+        this(mission, DEFAULT_TURN_LIMIT);
+    }
+
+    /**
+     * Constructs a simulator for the given mission.
+     *
+     * @param mission The mission to simulate, with its building, enemies, items, entry points and target loaded.
+     * @param turnLimit The number of turns after which a simulation is stopped.
+     * @throws IllegalArgumentException if the target or every entry point is outside the building.
+     */
+    public MissionSimulator(IMission mission, int turnLimit) {
+        this.building = mission.getDivisions();
+        this.turnLimit = turnLimit;
+        this.startHealth = mission.getPoints();
+
+        int size = building.slotCount();
+        this.neighbours = new int[size][];
+        for (int i = 0; i < size; i++) {
+            if (!building.indexIsValid(i)) {
+                neighbours[i] = new int[0];
+                continue;
+            }
+            ArrayUnorderedList<IDivision> connected = building.getNeighbors(building.getVertex(i));
+            neighbours[i] = new int[connected.size()];
+            for (int j = 0; j < connected.size(); j++) {
+                neighbours[i][j] = building.getIndex(connected.getElement(j));
+            }
+        }
+
+        this.impacts = new int[size];
+        int enemyCount = 0;
+        for (IEnemy enemy : mission.getEnemies()) {
+            if (building.getIndex(enemy.getCurrentDivision()) != -1) {
+                enemyCount++;
+            }
+        }
+        this.enemyPower = new int[enemyCount];
+        this.enemyDivision = new int[enemyCount];
+        enemyCount = 0;
+        for (IEnemy enemy : mission.getEnemies()) {
+            int index = building.getIndex(enemy.getCurrentDivision());
+            if (index != -1) {
+                enemyPower[enemyCount] = enemy.getPower();
+                enemyDivision[enemyCount] = index;
+                impacts[index] -= enemy.getPower();
+                enemyCount++;
+            }
+        }
+
+        int itemCount = 0;
+        for (IItem item : mission.getItems()) {
+            if (building.getIndex(item.getDivision()) != -1) {
+                itemCount++;
+            }
+        }
+        this.itemDivision = new int[itemCount];
+        this.itemPoints = new int[itemCount];
+        this.itemIsLifeKit = new boolean[itemCount];
+        itemCount = 0;
+        for (IItem item : mission.getItems()) {
+            int index = building.getIndex(item.getDivision());
+            if (index != -1) {
+                itemDivision[itemCount] = index;
+                itemIsLifeKit[itemCount] = item.getType() == ItemType.LIFE_KIT;
+                Integer points = itemIsLifeKit[itemCount] ? item.getRecoveryPoints() : item.getExtraPoints();
+                itemPoints[itemCount] = (points == null) ? 0 : points;
+                impacts[index] += itemPoints[itemCount];
+                itemCount++;
+            }
+        }
+
+        this.targetIndex = (mission.getTarget() == null) ? -1 : building.getIndex(mission.getTarget().getDivision());
+        this.entry = new boolean[size];
+        int[] entries = new int[mission.getEntryPoints().size()];
+        int[] entryPoints = new int[entries.length];
+        int entryCount = 0;
+        for (IDivision division : mission.getEntryPoints()) {
+            int index = building.getIndex(division);
+            if (index != -1) {
+                entry[index] = true;
+                entries[entryCount] = index;
+                entryPoints[entryCount] = startHealth + impacts[index];
+                entryCount++;
+            }
+        }
+        if (targetIndex == -1 || entryCount == 0) {
+            throw new IllegalArgumentException("The target and at least one entry point must be in the building");
+        }
+
+        // Enter where the automatic route does, or through the first entry point if the target cannot be reached
+        ResourcePathSearch search = new ResourcePathSearch(building);
+        int start = entries[0];
+        if (search.search(entries, entryPoints, entryCount, targetIndex, impacts)) {
+            start = targetIndex;
+            while (search.getPredecessor(start) != -1) {
+                start = search.getPredecessor(start);
+            }
+        }
+        this.startIndex = start;
+
+        // The starting states share one set of arrays, since no state ever changes them
+        int[] enemiesIn = new int[size];
+        int[] itemsIn = new int[size];
+        for (int index : enemyDivision) {
+            enemiesIn[index]++;
+        }
+        for (int index : itemDivision) {
+            itemsIn[index]++;
+        }
+        PersistentIntArray power = new PersistentIntArray(enemyPower);
+        PersistentIntArray divisions = new PersistentIntArray(enemyDivision);
+        PersistentIntArray taken = new PersistentIntArray(itemDivision.length);
+        PersistentIntArray enemies = new PersistentIntArray(enemiesIn);
+        PersistentIntArray items = new PersistentIntArray(itemsIn);
+        PersistentIntArray impact = new PersistentIntArray(impacts);
+
+        DifficultyType[] difficulties = DifficultyType.values();
+        this.initialStates = new MissionState[difficulties.length];
+        for (int i = 0; i < difficulties.length; i++) {
+            initialStates[i] = new MissionState(this, difficulties[i], power, divisions, taken, enemies, items, impact,
+                    new PersistentIntArray(difficulties[i].getMaxHealthKits()), 0, startIndex, startHealth,
+                    false, false);
+        }
+    }
+
+    /**
+     * Plays one automatic mission.
+     *
+     * @param seed The seed to draw the enemy movements from. The same seed and difficulty always play the same mission.
+     * @param difficulty The difficulty to play on, which sets the power and the number of health kits of To Cruz.
+     * @return The outcome of the mission.
+     */
+    public SimulationResult simulate(long seed, DifficultyType difficulty) {
+        return new SimulationRun(this).play(seed, difficulty);
+    }
+
+    /**
+     * Plays one automatic mission from the given state.
+     *
+     * @param state The state to play from, which must come from this simulator.
+     * @param seed The seed to draw the enemy movements from. The same state and seed always play the same mission.
+     * @return The outcome of the mission.
+     */
+    public SimulationResult simulate(MissionState state, long seed) {
+        return new SimulationRun(this).play(state, seed);
+    }
+
+    /**
+     * Plays one automatic mission from the given state, drawing the enemy movements from the given source.
+     *
+     * @param state The state to play from, which must come from this simulator.
+     * @param random The source to draw the enemy movements from. A source of the same seed plays the same mission.
+     * @return The outcome of the mission.
+     */
+    public SimulationResult simulate(MissionState state, IRandomSource random) {
+        return new SimulationRun(this).play(state, random);
+    }
+
+    /**
+     * Gets the starting state of the mission: To Cruz at the entry point of the automatic route, before the fight
+     * there, with the enemies and items where the mission had them when the simulator was built.
+     *
+     * @param difficulty The difficulty To Cruz plays on.
+     * @return The starting state, shared by every caller.
+     */
+    public MissionState initialState(DifficultyType difficulty) {
+        return initialStates[difficulty.ordinal()];
+    }
+
+    /**
+     * Gets the building of the mission.
+     *
+     * @return The building the simulations are played in.
+     */
+    public Building<IDivision> getBuilding() {
+        return building;
+    }
+
+    /**
+     * Gets the division To Cruz enters through.
+     *
+     * @return The entry point of the automatic route.
+     */
+    public IDivision getStartDivision() {
+        return building.getVertex(startIndex);
+    }
+}
@@ -0,0 +1,457 @@
+package org.example.Game.Entities;
+
+import org.example.Game.Entities.ENUMS.DifficultyType;
+import org.example.Game.Entities.Interfaces.IDivision;
+import org.example.Game.Entities.Interfaces.IMissionState;
+import org.example.Structures.Implementations.PersistentIntArray;
+
+/**
+ * The MissionState class is an immutable snapshot of a mission being played: the power and division of every enemy,
+ * the items still in the building, and the division, health, health kits and vest of To Cruz. Every change returns a
+ * new state and leaves the old one as it was, so a state can be forked for a what-if, a look-ahead search or a
+ * simulation on another thread without copying it.
+ *
+ * <p>The building and the starting enemies and items are taken from a {@link MissionSimulator} and shared by every
+ * state. What changes is held in {@link PersistentIntArray}s, which share everything but the path to the changed
+ * element, so a change costs O(log n) and never copies the rest of the mission. Enemies and items are identified by
+ * their position among those of the mission the simulator was built from that are in the building. The first state
+ * is given by {@link MissionSimulator#initialState}, and {@link SimulationRun#play(MissionState, long)} plays on from
+ * any state.</p>
+ */
+public class MissionState implements IMissionState {
+
+    /**
+     * The simulator the building and the starting enemies and items come from.
+     */
+    protected final MissionSimulator simulator;
+
+    /**
+     * The difficulty To Cruz plays on.
+     */
+    protected final DifficultyType difficulty;
+
+    /**
+     * The power of each enemy.
+     */
+    protected final PersistentIntArray enemyPower;
+
+    /**
+     * The division index of each enemy; -1 once it is defeated.
+     */
+    protected final PersistentIntArray enemyDivision;
+
+    /**
+     * Whether each item was taken, as 1, or is still in the building, as 0.
+     */
+    protected final PersistentIntArray itemTaken;
+
+    /**
+     * The number of enemies in each division.
+     */
+    protected final PersistentIntArray enemiesIn;
+
+    /**
+     * The number of items left in each division.
+     */
+    protected final PersistentIntArray itemsIn;
+
+    /**
+     * The impact of each division with the enemies and items left.
+     */
+    protected final PersistentIntArray impacts;
+
+    /**
+     * The recovery points of the health kits To Cruz carries, last one on top.
+     */
+    protected final PersistentIntArray healthKits;
+
+    /**
+     * The number of health kits To Cruz carries.
+     */
+    protected final int healthKitCount;
+
+    /**
+     * The division index of To Cruz.
+     */
+    protected final int toCruzDivision;
+
+    /**
+     * The health of To Cruz.
+     */
+    protected final int health;
+
+    /**
+     * Whether To Cruz is wearing a bulletproof vest.
+     */
+    protected final boolean usingBulletProofVest;
+
+    /**
+     * Whether To Cruz has captured the target.
+     */
+    protected final boolean targetCaptured;
+
+    /**
+     * Constructs a state from all its parts.
+     */
+    protected MissionState(MissionSimulator simulator, DifficultyType difficulty, PersistentIntArray enemyPower,
+                           PersistentIntArray enemyDivision, PersistentIntArray itemTaken,
+                           PersistentIntArray enemiesIn, PersistentIntArray itemsIn, PersistentIntArray impacts,
+                           PersistentIntArray healthKits, int healthKitCount, int toCruzDivision, int health,
+                           boolean usingBulletProofVest, boolean targetCaptured) {
+        this.simulator = simulator;
+        this.difficulty = difficulty;
+        this.enemyPower = enemyPower;
+        this.enemyDivision = enemyDivision;
+        this.itemTaken = itemTaken;
+        this.enemiesIn = enemiesIn;
+        this.itemsIn = itemsIn;
+        this.impacts = impacts;
+        this.healthKits = healthKits;
+        this.healthKitCount = healthKitCount;
+        this.toCruzDivision = toCruzDivision;
+        this.health = health;
+        this.usingBulletProofVest = usingBulletProofVest;
+        this.targetCaptured = targetCaptured;
+    }
+
+    /**
+     * Returns the difficulty To Cruz plays on.
+     *
+     * @return the difficulty of the state.
+     */
+    @Override
+    public DifficultyType getDifficulty() {
+        return difficulty;
+    }
+
+    /**
+     * Returns the building of the mission, shared by every state.
+     *
+     * @return the divisions in the graph.
+     */
+    @Override
+    public Building<IDivision> getBuilding() {
+        return simulator.building;
+    }
+
+    /**
+     * Returns the division To Cruz is in.
+     *
+     * @return the division of To Cruz.
+     */
+    @Override
+    public IDivision getToCruzDivision() {
+        return simulator.building.getVertex(toCruzDivision);
+    }
+
+    /**
+     * Returns the health of To Cruz.
+     *
+     * @return the health of To Cruz.
+     */
+    @Override
+    public int getHealth() {
+        return health;
+    }
+
+    /**
+     * Returns the number of health kits To Cruz carries.
+     *
+     * @return the number of health kits.
+     */
+    @Override
+    public int getHealthKitCount() {
+        return healthKitCount;
+    }
+
+    /**
+     * Returns whether To Cruz is wearing a bulletproof vest.
+     *
+     * @return true if he is wearing one, false otherwise.
+     */
+    @Override
+    public boolean isUsingBulletProofVest() {
+        return usingBulletProofVest;
+    }
+
+    /**
+     * Returns whether To Cruz has captured the target.
+     *
+     * @return true if the target was captured, false otherwise.
+     */
+    @Override
+    public boolean isTargetCaptured() {
+        return targetCaptured;
+    }
+
+    /**
+     * Returns the number of enemies of the mission, defeated or not.
+     *
+     * @return the number of enemies.
+     */
+    @Override
+    public int getEnemyCount() {
+        return enemyPower.size();
+    }
+
+    /**
+     * Returns the power of an enemy.
+     *
+     * @param enemy the position of the enemy in the enemies of the mission.
+     * @return the power of the enemy.
+     */
+    @Override
+    public int getEnemyPower(int enemy) {
+        return enemyPower.get(enemy);
+    }
+
+    /**
+     * Returns the division of an enemy.
+     *
+     * @param enemy the position of the enemy in the enemies of the mission.
+     * @return the division of the enemy, or null if it was defeated.
+     */
+    @Override
+    public IDivision getEnemyDivision(int enemy) {
+        int index = enemyDivision.get(enemy);
+        return (index == -1) ? null : simulator.building.getVertex(index);
+    }
+
+    /**
+     * Returns the number of enemies in a division.
+     *
+     * @param division the division to check.
+     * @return the number of enemies in the division; 0 if it is not part of the building.
+     */
+    @Override
+    public int getEnemiesIn(IDivision division) {
+        int index = simulator.building.getIndex(division);
+        return (index == -1) ? 0 : enemiesIn.get(index);
+    }
+
+    /**
+     * Returns the number of items of the mission, taken or not.
+     *
+     * @return the number of items.
+     */
+    @Override
+    public int getItemCount() {
+        return itemTaken.size();
+    }
+
+    /**
+     * Returns whether an item was taken.
+     *
+     * @param item the position of the item in the items of the mission.
+     * @return true if the item was taken, false otherwise.
+     */
+    @Override
+    public boolean isItemTaken(int item) {
+        return itemTaken.get(item) == 1;
+    }
+
+    /**
+     * Returns the number of items left in a division.
+     *
+     * @param division the division to check.
+     * @return the number of items in the division; 0 if it is not part of the building.
+     */
+    @Override
+    public int getItemsIn(IDivision division) {
+        int index = simulator.building.getIndex(division);
+        return (index == -1) ? 0 : itemsIn.get(index);
+    }
+
+    /**
+     * Returns the impact of a division: the points of its items minus the power of its enemies.
+     *
+     * @param division the division to check.
+     * @return the impact of the division; 0 if it is not part of the building.
+     */
+    @Override
+    public int getImpact(IDivision division) {
+        int index = simulator.building.getIndex(division);
+        return (index == -1) ? 0 : impacts.get(index);
+    }
+
+    /**
+     * Returns a state where an enemy has another power. An enemy whose power drops to zero or below is defeated and
+     * leaves its division, as {@link ToCruz#attackEnemies} does; a defeated enemy stays defeated.
+     *
+     * @param enemy the position of the enemy in the enemies of the mission.
+     * @param power the new power of the enemy.
+     * @return the new state.
+     */
+    @Override
+    public MissionState withEnemyPower(int enemy, int power) {
+        int index = enemyDivision.get(enemy);
+        if (index == -1) {
+            return this;
+        }
+
+        int previous = enemyPower.get(enemy);
+        if (power > 0) {
+            return new MissionState(simulator, difficulty, enemyPower.set(enemy, power), enemyDivision, itemTaken,
+                    enemiesIn, itemsIn, impacts.add(index, previous - power), healthKits, healthKitCount,
+                    toCruzDivision, health, usingBulletProofVest, targetCaptured);
+        }
+        return new MissionState(simulator, difficulty, enemyPower.set(enemy, power), enemyDivision.set(enemy, -1),
+                itemTaken, enemiesIn.add(index, -1), itemsIn, impacts.add(index, previous), healthKits,
+                healthKitCount, toCruzDivision, health, usingBulletProofVest, targetCaptured);
+    }
+
+    /**
+     * Returns a state where an enemy is in another division. A defeated enemy is not moved.
+     *
+     * @param enemy the position of the enemy in the enemies of the mission.
+     * @param division the new division of the enemy.
+     * @return the new state.
+     * @throws IllegalArgumentException if the division is not part of the building.
+     */
+    @Override
+    public MissionState withEnemyMoved(int enemy, IDivision division) {
+        int to = indexOf(division);
+        int from = enemyDivision.get(enemy);
+        if (from == -1 || from == to) {
+            return this;
+        }
+
+        int power = enemyPower.get(enemy);
+        return new MissionState(simulator, difficulty, enemyPower, enemyDivision.set(enemy, to), itemTaken,
+                enemiesIn.add(from, -1).add(to, 1), itemsIn, impacts.add(from, power).add(to, -power), healthKits,
+                healthKitCount, toCruzDivision, health, usingBulletProofVest, targetCaptured);
+    }
+
+    /**
+     * Returns a state where an item is no longer in the building, without giving it to To Cruz.
+     *
+     * @param item the position of the item in the items of the mission.
+     * @return the new state.
+     */
+    @Override
+    public MissionState withItemTaken(int item) {
+        if (itemTaken.get(item) == 1) {
+            return this;
+        }
+
+        int index = simulator.itemDivision[item];
+        return new MissionState(simulator, difficulty, enemyPower, enemyDivision, itemTaken.set(item, 1), enemiesIn,
+                itemsIn.add(index, -1), impacts.add(index, -simulator.itemPoints[item]), healthKits, healthKitCount,
+                toCruzDivision, health, usingBulletProofVest, targetCaptured);
+    }
+
+    /**
+     * Returns a state where To Cruz is in another division. No fight takes place; to play the moves with their fights,
+     * use a {@link SimulationRun}.
+     *
+     * @param division the new division of To Cruz.
+     * @return the new state.
+     * @throws IllegalArgumentException if the division is not part of the building.
+     */
+    @Override
+    public MissionState withToCruzMoved(IDivision division) {
+        return new MissionState(simulator, difficulty, enemyPower, enemyDivision, itemTaken, enemiesIn, itemsIn,
+                impacts, healthKits, healthKitCount, indexOf(division), health, usingBulletProofVest,
+                targetCaptured);
+    }
+
+    /**
+     * Returns a state where To Cruz has another health.
+     *
+     * @param health the new health of To Cruz.
+     * @return the new state.
+     */
+    @Override
+    public MissionState withHealth(int health) {
+        return new MissionState(simulator, difficulty, enemyPower, enemyDivision, itemTaken, enemiesIn, itemsIn,
+                impacts, healthKits, healthKitCount, toCruzDivision, health, usingBulletProofVest, targetCaptured);
+    }
+
+    /**
+     * Returns a state where To Cruz has picked up every item in his division, as {@link Game#collectItems} does. A
+     * life kit is kept if he has room for it, and a bulletproof vest adds its points if he is not wearing one
+     * already; either way the item leaves the building.
+     *
+     * @return the new state; this state if his division has no items.
+     */
+    @Override
+    public MissionState collectItems() {
+        if (itemsIn.get(toCruzDivision) == 0) {
+            return this;
+        }
+
+        PersistentIntArray taken = itemTaken;
+        PersistentIntArray kits = healthKits;
+        int kitCount = healthKitCount;
+        int newHealth = health;
+        boolean vest = usingBulletProofVest;
+        int impact = impacts.get(toCruzDivision);
+        for (int i = 0; i < simulator.itemDivision.length; i++) {
+            if (simulator.itemDivision[i] != toCruzDivision || taken.get(i) == 1) {
+                continue;
+            }
+
+            if (simulator.itemIsLifeKit[i]) {
+                if (kitCount < kits.size()) {
+                    kits = kits.set(kitCount++, simulator.itemPoints[i]);
+                }
+            } else if (!vest) {
+                newHealth += simulator.itemPoints[i];
+                vest = true;
+            }
+            taken = taken.set(i, 1);
+            impact -= simulator.itemPoints[i];
+        }
+
+        return new MissionState(simulator, difficulty, enemyPower, enemyDivision, taken, enemiesIn,
+                itemsIn.set(toCruzDivision, 0), impacts.set(toCruzDivision, impact), kits, kitCount, toCruzDivision,
+                newHealth, vest, targetCaptured);
+    }
+
+    /**
+     * Returns a state where To Cruz has used the health kit on top, as {@link ToCruz#useHealthKit} does. Health
+     * cannot be healed past {@link MissionSimulator#MAX_HEALTH}.
+     *
+     * @return the new state; this state if he has no health kits or his health is full.
+     */
+    @Override
+    public MissionState useHealthKit() {
+        if (healthKitCount == 0 || health >= MissionSimulator.MAX_HEALTH) {
+            return this;
+        }
+
+        int newHealth = Math.min(health + healthKits.get(healthKitCount - 1), MissionSimulator.MAX_HEALTH);
+        return new MissionState(simulator, difficulty, enemyPower, enemyDivision, itemTaken, enemiesIn, itemsIn,
+                impacts, healthKits, healthKitCount - 1, toCruzDivision, newHealth, usingBulletProofVest,
+                targetCaptured);
+    }
+
+    /**
+     * Returns a state where To Cruz has captured the target, as {@link Game#collectTarget} does: only if the target
+     * is in his division and no enemies are there.
+     *
+     * @return the new state; this state if the target cannot be captured.
+     */
+    @Override
+    public MissionState captureTarget() {
+        if (targetCaptured || toCruzDivision != simulator.targetIndex || enemiesIn.get(toCruzDivision) > 0) {
+            return this;
+        }
+
+        return new MissionState(simulator, difficulty, enemyPower, enemyDivision, itemTaken, enemiesIn, itemsIn,
+                impacts, healthKits, healthKitCount, toCruzDivision, health, usingBulletProofVest, true);
+    }
+
+    /**
+     * Finds the index of a division in the building.
+     *
+     * @throws IllegalArgumentException if the division is not part of the building.
+     */
+    private int indexOf(IDivision division) {
+        int index = simulator.building.getIndex(division);
+        if (index == -1) {
+            throw new IllegalArgumentException("Division is not part of the building");
+        }
+        return index;
+    }
+}
@@ -0,0 +1,273 @@
+package org.example.Game.Entities;
+
+import org.example.Game.Entities.ENUMS.DifficultyType;
+import org.example.Game.Entities.ENUMS.SimulationOutcome;
+import org.example.Game.Entities.Interfaces.IMissionStatistics;
+import org.example.Game.Entities.Interfaces.ISimulationResult;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The MissionStatistics class gathers the outcomes of many simulated missions on one difficulty: how many ended in
+ * success or with To Cruz fallen, and the final health, turns and enemies defeated. Results may be recorded from any
+ * number of threads at once; every total is a {@link LongAdder} or a {@link LongAccumulator}, so recording never
+ * takes a lock and threads rarely contend.
+ *
+ * <p>Final health is also counted in ranges of {@link #HEALTH_BUCKET_WIDTH} points: the first range holds health of
+ * zero or below, range k holds health from (k - 1) * width + 1 to k * width, and the last range also holds anything
+ * higher.</p>
+ */
+public class MissionStatistics implements IMissionStatistics {
+
+    /**
+     * The width of each range of final health.
+     */
+    public static final int HEALTH_BUCKET_WIDTH = 10;
+
+    /**
+     * The number of ranges of final health.
+     */
+    public static final int HEALTH_BUCKETS = 21;
+
+    /**
+     * The difficulty the simulations were played on.
+     */
+    private final DifficultyType difficulty;
+
+    /**
+     * The number of simulations recorded.
+     */
+    private final LongAdder runs;
+
+    /**
+     * The number of simulations where To Cruz finished the mission.
+     */
+    private final LongAdder successes;
+
+    /**
+     * The number of simulations where To Cruz fell.
+     */
+    private final LongAdder fallen;
+
+    /**
+     * The sum of the final health of every simulation.
+     */
+    private final LongAdder healthSum;
+
+    /**
+     * The sum of the turns of every simulation.
+     */
+    private final LongAdder turnsSum;
+
+    /**
+     * The sum of the enemies defeated in every simulation.
+     */
+    private final LongAdder killsSum;
+
+    /**
+     * The lowest final health.
+     */
+    private final LongAccumulator minHealth;
+
+    /**
+     * The highest final health.
+     */
+    private final LongAccumulator maxHealth;
+
+    /**
+     * The number of simulations in each range of final health.
+     */
+    private final LongAdder[] healthCounts;
+
+    /**
+     * Constructs empty statistics for the given difficulty.
+     *
+     * @param difficulty the difficulty the simulations are played on.
+     */
+    public MissionStatistics(DifficultyType difficulty) {
+        this.difficulty = difficulty;
+        this.runs = new LongAdder();
+        this.successes = new LongAdder();
+        this.fallen = new LongAdder();
+        this.healthSum = new LongAdder();
+        this.turnsSum = new LongAdder();
+        this.killsSum = new LongAdder();
+        this.minHealth = new LongAccumulator(Math::min, Long.MAX_VALUE);
+        this.maxHealth = new LongAccumulator(Math::max, Long.MIN_VALUE);
+        this.healthCounts = new LongAdder[HEALTH_BUCKETS];
+        for (int i = 0; i < HEALTH_BUCKETS; i++) {
+            healthCounts[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records the outcome of one simulation. It may be called from several threads at once.
+     *
+     * @param result the outcome to record.
+     */
+    public void record(ISimulationResult result) {
+        int health = result.getHealth();
+        runs.increment();
+        if (result.getOutcome() == SimulationOutcome.SUCCESS) {
+            successes.increment();
+        } else if (result.getOutcome() == SimulationOutcome.FALLEN) {
+            fallen.increment();
+        }
+        healthSum.add(health);
+        turnsSum.add(result.getTurns());
+        killsSum.add(result.getKills());
+        minHealth.accumulate(health);
+        maxHealth.accumulate(health);
+        healthCounts[bucketOf(health)].increment();
+    }
+
+    /**
+     * Finds the range a final health is counted in.
+     *
+     * @param health the final health.
+     * @return the position of the range, from 0.
+     */
+    public static int bucketOf(int health) {
+        if (health <= 0) {
+            return 0;
+        }
+        return Math.min((health - 1) / HEALTH_BUCKET_WIDTH + 1, HEALTH_BUCKETS - 1);
+    }
+
+    /**
+     * Returns the difficulty the simulations were played on.
+     *
+     * @return the difficulty of the simulations.
+     */
+    @Override
+    public DifficultyType getDifficulty() {
+        return difficulty;
+    }
+
+    /**
+     * Returns the number of simulations recorded.
+     *
+     * @return the number of simulations.
+     */
+    @Override
+    public long getRuns() {
+        return runs.sum();
+    }
+
+    /**
+     * Returns the number of simulations where To Cruz finished the mission.
+     *
+     * @return the number of successful simulations.
+     */
+    @Override
+    public long getSuccesses() {
+        return successes.sum();
+    }
+
+    /**
+     * Returns the number of simulations where To Cruz fell.
+     *
+     * @return the number of simulations lost.
+     */
+    @Override
+    public long getFallen() {
+        return fallen.sum();
+    }
+
+    /**
+     * Returns the share of simulations where To Cruz did not fall.
+     *
+     * @return the survival rate, from 0 to 1; 0 if nothing was recorded.
+     */
+    @Override
+    public double getSurvivalRate() {
+        long total = getRuns();
+        return (total == 0) ? 0 : (double) (total - getFallen()) / total;
+    }
+
+    /**
+     * Returns the share of simulations where To Cruz finished the mission.
+     *
+     * @return the success rate, from 0 to 1; 0 if nothing was recorded.
+     */
+    @Override
+    public double getSuccessRate() {
+        long total = getRuns();
+        return (total == 0) ? 0 : (double) getSuccesses() / total;
+    }
+
+    /**
+     * Returns the average health of To Cruz at the end of the simulations.
+     *
+     * @return the average final health; 0 if nothing was recorded.
+     */
+    @Override
+    public double getAverageHealth() {
+        long total = getRuns();
+        return (total == 0) ? 0 : (double) healthSum.sum() / total;
+    }
+
+    /**
+     * Returns the lowest health of To Cruz at the end of a simulation.
+     *
+     * @return the lowest final health; Long.MAX_VALUE if nothing was recorded.
+     */
+    @Override
+    public long getMinHealth() {
+        return minHealth.get();
+    }
+
+    /**
+     * Returns the highest health of To Cruz at the end of a simulation.
+     *
+     * @return the highest final health; Long.MIN_VALUE if nothing was recorded.
+     */
+    @Override
+    public long getMaxHealth() {
+        return maxHealth.get();
+    }
+
+    /**
+     * Returns the average number of turns of the simulations.
+     *
+     * @return the average number of turns; 0 if nothing was recorded.
+     */
+    @Override
+    public double getAverageTurns() {
+        long total = getRuns();
+        return (total == 0) ? 0 : (double) turnsSum.sum() / total;
+    }
+
+    /**
+     * Returns the average number of enemies defeated in the simulations.
+     *
+     * @return the average number of enemies defeated; 0 if nothing was recorded.
+     */
+    @Override
+    public double getAverageKills() {
+        long total = getRuns();
+        return (total == 0) ? 0 : (double) killsSum.sum() / total;
+    }
+
+    /**
+     * Returns the number of ranges of final health.
+     *
+     * @return the number of health ranges.
+     */
+    @Override
+    public int getHealthBuckets() {
+        return HEALTH_BUCKETS;
+    }
+
+    /**
+     * Returns the number of simulations whose final health falls in a range.
+     *
+     * @param bucket the position of the range, from 0.
+     * @return the number of simulations in that range.
+     */
+    @Override
+    public long getHealthCount(int bucket) {
+        return healthCounts[bucket].sum();
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.Game.Entities;
+
+import org.example.Game.Entities.Interfaces.IGameEventSink;
+
+/**
+ * The NoOpEventSink class ignores every event, so a game can be played without output and without building any
+ * message. It keeps no movement log, so the game saves no last mission info either. A single instance is shared,
+ * since it keeps no state.
+ */
+public class NoOpEventSink implements IGameEventSink {
+
+    /**
+     * The shared instance of the sink.
+     */
+    public static final NoOpEventSink INSTANCE = new NoOpEventSink();
+
+    /**
+     * Constructs a sink that ignores every event; {@link #INSTANCE} can be used instead.
+     */
+    public NoOpEventSink() {
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.Game.Entities;
+
+import org.example.Game.Entities.Interfaces.IDivision;
+import org.example.Game.Entities.Interfaces.IRoute;
+import org.example.Structures.Interfaces.UnorderedListADT;
+
+/**
+ * The Route class represents a path between two divisions together with what following it costs and gives:
+ * the number of moves, the points left at the end and the number of items picked up on the way.
+ */
+public class Route implements IRoute {
+
+    /**
+     * The divisions of the route, from the first to the last.
+     */
+    private final UnorderedListADT<IDivision> path;
+
+    /**
+     * The number of moves of the route.
+     */
+    private final int hops;
+
+    /**
+     * The points left at the end of the route.
+     */
+    private final int points;
+
+    /**
+     * The number of items picked up along the route.
+     */
+    private final int pickups;
+
+    /**
+     * Constructs a new Route.
+     *
+     * @param path the divisions of the route, from the first to the last.
+     * @param hops the number of moves of the route.
+     * @param points the points left at the end of the route.
+     * @param pickups the number of items picked up along the route.
+     */
+    public Route(UnorderedListADT<IDivision> path, int hops, int points, int pickups) {
+        this.path = path;
+        this.hops = hops;
+        this.points = points;
+        this.pickups = pickups;
+    }
+
+    /**
+     * Returns the divisions of the route, from the first to the last.
+     *
+     * @return the divisions of the route.
+     */
+    @Override
+    public UnorderedListADT<IDivision> getPath() {
+        return path;
+    }
+
+    /**
+     * Returns the number of moves of the route.
+     *
+     * @return the number of moves of the route.
+     */
+    @Override
+    public int getHops() {
+        return hops;
+    }
+
+    /**
+     * Returns the points left at the end of the route.
+     *
+     * @return the points left at the end of the route.
+     */
+    @Override
+    public int getPoints() {
+        return points;
+    }
+
+    /**
+     * Returns the number of items picked up along the route.
+     *
+     * @return the number of items picked up along the route.
+     */
+    @Override
+    public int getPickups() {
+        return pickups;
+    }
+}
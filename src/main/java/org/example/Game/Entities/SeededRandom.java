@@ -0,0 +1,73 @@
+package org.example.Game.Entities;
+
+import org.example.Game.Entities.Interfaces.IRandomSource;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The SeededRandom class makes the random choices of a game with a {@link SplittableRandom}, which keeps its state to
+ * itself instead of sharing it between threads as {@link Math#random()} does. It remembers its seed, so a game can be
+ * replayed by building another source with it, and it splits into sources with seeds of their own for other threads.
+ */
+public class SeededRandom implements IRandomSource {
+
+    /**
+     * The seed the source started from.
+     */
+    private final long seed;
+
+    /**
+     * The generator the choices are drawn from.
+     */
+    private final SplittableRandom random;
+
+    /**
+     * Constructs a source with a seed drawn at random.
+     */
+    public SeededRandom() {
+        this(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Constructs a source with the given seed.
+     *
+     * @param seed the seed of the source.
+     */
+    public SeededRandom(long seed) {
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Gets the seed the source started from.
+     *
+     * @return the seed of the source.
+     */
+    @Override
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Draws a number from 0 up to, but not including, the given bound.
+     *
+     * @param bound the number of possible values; must be positive.
+     * @return the number drawn.
+     * @throws IllegalArgumentException if the bound is not positive.
+     */
+    @Override
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    /**
+     * Draws a new source, seeded with the next number of this one.
+     *
+     * @return the new source.
+     */
+    @Override
+    public SeededRandom split() {
+        return new SeededRandom(random.nextLong());
+    }
+}
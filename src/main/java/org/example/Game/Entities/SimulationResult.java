@@ -0,0 +1,171 @@
+package org.example.Game.Entities;
+
+import org.example.Game.Entities.ENUMS.DifficultyType;
+import org.example.Game.Entities.ENUMS.SimulationOutcome;
+import org.example.Game.Entities.Interfaces.IDivision;
+import org.example.Game.Entities.Interfaces.ISimulationResult;
+import org.example.Structures.Implementations.ArrayUnorderedList;
+import org.example.Structures.Interfaces.UnorderedListADT;
+
+/**
+ * The SimulationResult class represents the outcome of one simulated automatic mission: how it ended, the health
+ * To Cruz finished with, the number of turns and of enemies defeated, and the divisions visited on the way.
+ * The path is kept as division indexes and only turned into divisions when it is asked for.
+ */
+public class SimulationResult implements ISimulationResult {
+
+    /**
+     * The seed the enemy movements were drawn from.
+     */
+    private final long seed;
+
+    /**
+     * The difficulty the mission was played on.
+     */
+    private final DifficultyType difficulty;
+
+    /**
+     * How the mission ended.
+     */
+    private final SimulationOutcome outcome;
+
+    /**
+     * The health of To Cruz at the end.
+     */
+    private final int health;
+
+    /**
+     * The number of actions To Cruz took.
+     */
+    private final int turns;
+
+    /**
+     * The number of enemies To Cruz defeated.
+     */
+    private final int kills;
+
+    /**
+     * Whether To Cruz captured the target.
+     */
+    private final boolean targetCaptured;
+
+    /**
+     * The indexes of the divisions visited, in order.
+     */
+    private final int[] path;
+
+    /**
+     * The building the path indexes refer to.
+     */
+    private final Building<IDivision> building;
+
+    /**
+     * Constructs a new SimulationResult.
+     *
+     * @param seed the seed the enemy movements were drawn from.
+     * @param difficulty the difficulty the mission was played on.
+     * @param outcome how the mission ended.
+     * @param health the health of To Cruz at the end.
+     * @param turns the number of actions To Cruz took.
+     * @param kills the number of enemies To Cruz defeated.
+     * @param targetCaptured whether To Cruz captured the target.
+     * @param path the indexes of the divisions visited, in order, which the result keeps.
+     * @param building the building the path indexes refer to.
+     */
+    public SimulationResult(long seed, DifficultyType difficulty, SimulationOutcome outcome, int health, int turns,
+                            int kills, boolean targetCaptured, int[] path, Building<IDivision> building) {
+        this.seed = seed;
+        this.difficulty = difficulty;
+        this.outcome = outcome;
+        this.health = health;
+        this.turns = turns;
+        this.kills = kills;
+        this.targetCaptured = targetCaptured;
+        this.path = path;
+        this.building = building;
+    }
+
+    /**
+     * Returns the seed the enemy movements were drawn from.
+     *
+     * @return the seed of the simulation.
+     */
+    @Override
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the difficulty the mission was played on.
+     *
+     * @return the difficulty of the simulation.
+     */
+    @Override
+    public DifficultyType getDifficulty() {
+        return difficulty;
+    }
+
+    /**
+     * Returns how the mission ended.
+     *
+     * @return the outcome of the simulation.
+     */
+    @Override
+    public SimulationOutcome getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * Returns the health of To Cruz at the end.
+     *
+     * @return the final health of To Cruz.
+     */
+    @Override
+    public int getHealth() {
+        return health;
+    }
+
+    /**
+     * Returns the number of actions To Cruz took.
+     *
+     * @return the number of turns of the simulation.
+     */
+    @Override
+    public int getTurns() {
+        return turns;
+    }
+
+    /**
+     * Returns the number of enemies To Cruz defeated.
+     *
+     * @return the number of enemies defeated.
+     */
+    @Override
+    public int getKills() {
+        return kills;
+    }
+
+    /**
+     * Returns whether To Cruz captured the target.
+     *
+     * @return true if the target was captured, false otherwise.
+     */
+    @Override
+    public boolean isTargetCaptured() {
+        return targetCaptured;
+    }
+
+    /**
+     * Returns the divisions visited, from the entry point to the last one.
+     *
+     * @return a new list with the divisions visited, in order.
+     */
+    @Override
+    public UnorderedListADT<IDivision> getPath() {
+        UnorderedListADT<IDivision> divisions = new ArrayUnorderedList<>();
+        for (int index : path) {
+            divisions.addToRear(building.getVertex(index));
+        }
+        return divisions;
+    }
+}
@@ -0,0 +1,320 @@
+package org.example.Game.Entities;
+
+import org.example.Game.Entities.ENUMS.DifficultyType;
+import org.example.Game.Entities.ENUMS.SimulationOutcome;
+import org.example.Game.Entities.Interfaces.IRandomSource;
+import org.example.Structures.Implementations.ResourcePathSearch;
+
+/**
+ * The SimulationRun class holds the state of one simulated automatic mission: the power and division of every enemy,
+ * the items still in the building, and the health, health kits and division of To Cruz, all in primitive arrays by
+ * index. A run can play any number of missions one after the other, starting each from the state compiled by its
+ * {@link MissionSimulator} or from any {@link MissionState} of it, but it must not be shared between threads.
+ *
+ * <p>The rules are those of {@link Game}. Entering a division starts a fight: To Cruz attacks every enemy there, the
+ * enemies left attack him, and every enemy elsewhere moves to a random connected division, attacking him if it lands
+ * in his. He cannot leave a division while it has enemies, and a bulletproof vest only counts if he is not already
+ * wearing one. Each turn To Cruz takes one action, in this order of priority: attack the enemies in his division,
+ * pick up its items, capture the target, finish the mission in an entry point, use a health kit, or move one division
+ * along the best path to the target, or to the entry point he reaches with the most health once he carries it. The
+ * path is searched again before every move with the current impacts, and a health kit is used when it would not
+ * heal past full health or when the next division would otherwise kill him.</p>
+ */
+public class SimulationRun {
+
+    /**
+     * The points a path is searched with when no path keeps To Cruz alive, so the least harmful one is taken.
+     */
+    private static final int UNBOUNDED_POINTS = Integer.MAX_VALUE / 2;
+
+    private final MissionSimulator simulator;
+    private final ResourcePathSearch search;
+    private final int[] enemyPower;
+    private final int[] enemyDivision;
+    private final int[] enemiesIn;      // enemies left in each division
+    private final boolean[] itemTaken;
+    private final int[] itemsIn;        // items left in each division
+    private final int[] impacts;        // impact of each division with the enemies and items left
+    private int[] healthKits;           // recovery points of the health kits carried, last one on top
+    private int healthKitCount;
+    private int[] path;
+    private int pathLength;
+    private IRandomSource random;
+    private int power;
+    private int health;
+    private boolean usingBulletProofVest;
+    private boolean targetCaptured;
+    private int current;
+    private int turns;
+    private int kills;
+
+    /**
+     * Creates the state for the missions of the given simulator.
+     *
+     * @param simulator The simulator to take the mission from.
+     */
+    public SimulationRun(MissionSimulator simulator) {
+        this.simulator = simulator;
+        this.search = new ResourcePathSearch(simulator.building);
+        this.enemyPower = new int[simulator.enemyPower.length];
+        this.enemyDivision = new int[simulator.enemyDivision.length];
+        this.enemiesIn = new int[simulator.impacts.length];
+        this.itemTaken = new boolean[simulator.itemDivision.length];
+        this.itemsIn = new int[simulator.impacts.length];
+        this.impacts = new int[simulator.impacts.length];
+        this.healthKits = new int[0];
+        this.path = new int[simulator.impacts.length];
+    }
+
+    /**
+     * Plays one automatic mission from the starting state.
+     *
+     * @param seed The seed to draw the enemy movements from.
+     * @param difficulty The difficulty to play on.
+     * @return The outcome of the mission.
+     */
+    public SimulationResult play(long seed, DifficultyType difficulty) {
+        return play(simulator.initialState(difficulty), seed);
+    }
+
+    /**
+     * Plays one automatic mission from the given state. To Cruz first fights in his division, as if he had just
+     * entered it, and the turns and enemies defeated are counted from this state on.
+     *
+     * @param state The state to play from, which must come from the simulator of this run.
+     * @param seed The seed to draw the enemy movements from.
+     * @return The outcome of the mission.
+     */
+    public SimulationResult play(MissionState state, long seed) {
+        return play(state, new SeededRandom(seed));
+    }
+
+    /**
+     * Plays one automatic mission from the given state, drawing the enemy movements from the given source. The
+     * mission can be replayed with a source of the same seed.
+     *
+     * @param state The state to play from, which must come from the simulator of this run.
+     * @param random The source to draw the enemy movements from, which is not shared with other threads.
+     * @return The outcome of the mission.
+     */
+    public SimulationResult play(MissionState state, IRandomSource random) {
+        reset(state, random);
+        SimulationOutcome outcome = SimulationOutcome.UNFINISHED;
+
+        enter(state.toCruzDivision);
+        while (turns < simulator.turnLimit) {
+            if (health <= 0) {
+                outcome = SimulationOutcome.FALLEN;
+                break;
+            }
+
+            turns++;
+            if (enemiesIn[current] > 0) {
+                fight();
+            } else if (itemsIn[current] > 0) {
+                collectItems();
+            } else if (!targetCaptured && current == simulator.targetIndex) {
+                targetCaptured = true;
+            } else if (targetCaptured && simulator.entry[current]) {
+                outcome = SimulationOutcome.SUCCESS;
+                break;
+            } else {
+                int next = nextStep();
+                if (next == -1) {
+                    turns--;
+                    break;
+                }
+                if (shouldUseHealthKit(next)) {
+                    int recovered = health + healthKits[--healthKitCount];
+                    health = Math.min(recovered, MissionSimulator.MAX_HEALTH);
+                } else {
+                    enter(next);
+                }
+            }
+        }
+        if (outcome == SimulationOutcome.UNFINISHED && health <= 0) {
+            outcome = SimulationOutcome.FALLEN;
+        }
+
+        int[] visited = new int[pathLength];
+        System.arraycopy(path, 0, visited, 0, pathLength);
+        return new SimulationResult(random.getSeed(), state.difficulty, outcome, health, turns, kills, targetCaptured, visited,
+                simulator.building);
+    }
+
+    /**
+     * Puts the enemies, the items and To Cruz in the given state.
+     */
+    private void reset(MissionState state, IRandomSource random) {
+        this.random = random;
+        power = state.difficulty.getPower();
+        if (healthKits.length != state.healthKits.size()) {
+            healthKits = new int[state.healthKits.size()];
+        }
+        state.healthKits.copyInto(healthKits);
+        healthKitCount = state.healthKitCount;
+        health = state.health;
+        usingBulletProofVest = state.usingBulletProofVest;
+        targetCaptured = state.targetCaptured;
+        current = -1;
+        turns = 0;
+        kills = 0;
+        pathLength = 0;
+
+        state.enemyPower.copyInto(enemyPower);
+        state.enemyDivision.copyInto(enemyDivision);
+        state.enemiesIn.copyInto(enemiesIn);
+        state.itemsIn.copyInto(itemsIn);
+        state.impacts.copyInto(impacts);
+        for (int i = 0; i < itemTaken.length; i++) {
+            itemTaken[i] = state.itemTaken.get(i) == 1;
+        }
+    }
+
+    /**
+     * Moves To Cruz into a division and starts the fight there.
+     */
+    private void enter(int index) {
+        current = index;
+        if (pathLength == path.length) {
+            int[] larger = new int[path.length * 2];
+            System.arraycopy(path, 0, larger, 0, pathLength);
+            path = larger;
+        }
+        path[pathLength++] = index;
+        fight();
+    }
+
+    /**
+     * To Cruz attacks the enemies in his division, the ones left attack him, and every enemy elsewhere moves to a
+     * random connected division. Nothing happens if his division has no enemies.
+     */
+    private void fight() {
+        if (enemiesIn[current] == 0) {
+            return;
+        }
+
+        for (int i = 0; i < enemyPower.length; i++) {
+            if (enemyDivision[i] == current) {
+                enemyPower[i] -= power;
+                impacts[current] += power;
+                if (enemyPower[i] <= 0) {
+                    impacts[current] += enemyPower[i];
+                    enemyDivision[i] = -1;
+                    enemiesIn[current]--;
+                    kills++;
+                }
+            }
+        }
+        for (int i = 0; i < enemyPower.length; i++) {
+            if (enemyDivision[i] == current) {
+                health -= enemyPower[i];
+            }
+        }
+
+        for (int i = 0; i < enemyPower.length; i++) {
+            int from = enemyDivision[i];
+            if (from == -1 || from == current || simulator.neighbours[from].length == 0) {
+                continue;
+            }
+
+            int to = simulator.neighbours[from][random.nextInt(simulator.neighbours[from].length)];
+            enemyDivision[i] = to;
+            enemiesIn[from]--;
+            impacts[from] += enemyPower[i];
+            enemiesIn[to]++;
+            impacts[to] -= enemyPower[i];
+            if (to == current) {
+                health -= enemyPower[i];
+            }
+        }
+    }
+
+    /**
+     * Picks up every item in the division of To Cruz. A life kit is kept if he has room for it, and a bulletproof
+     * vest adds its points if he is not wearing one already; either way the item leaves the building.
+     */
+    private void collectItems() {
+        for (int i = 0; i < itemTaken.length; i++) {
+            if (itemTaken[i] || simulator.itemDivision[i] != current) {
+                continue;
+            }
+
+            if (simulator.itemIsLifeKit[i]) {
+                if (healthKitCount < healthKits.length) {
+                    healthKits[healthKitCount++] = simulator.itemPoints[i];
+                }
+            } else if (!usingBulletProofVest) {
+                health += simulator.itemPoints[i];
+                usingBulletProofVest = true;
+            }
+            itemTaken[i] = true;
+            itemsIn[current]--;
+            impacts[current] -= simulator.itemPoints[i];
+        }
+    }
+
+    /**
+     * Checks if To Cruz should use the health kit on top before moving to the given division.
+     */
+    private boolean shouldUseHealthKit(int next) {
+        if (healthKitCount == 0 || health >= MissionSimulator.MAX_HEALTH) {
+            return false;
+        }
+        return health + healthKits[healthKitCount - 1] <= MissionSimulator.MAX_HEALTH || health + impacts[next] <= 0;
+    }
+
+    /**
+     * Finds the division to move to next: one step along the best path to the target, or, once it is captured, to
+     * the entry point reached with the most health. If no path keeps To Cruz alive, the least harmful one is taken.
+     *
+     * @return The index of the next division; -1 if there is nowhere to go.
+     */
+    private int nextStep() {
+        int goal = targetCaptured ? bestEntry(health) : searchTarget(health);
+        if (goal == -1) {
+            goal = targetCaptured ? bestEntry(UNBOUNDED_POINTS) : searchTarget(UNBOUNDED_POINTS);
+        }
+        if (goal == -1) {
+            return -1;
+        }
+
+        int step = goal;
+        while (search.getPredecessor(step) != current) {
+            step = search.getPredecessor(step);
+        }
+        return step;
+    }
+
+    /**
+     * Searches the best path from the division of To Cruz to the target.
+     *
+     * @param points The points To Cruz leaves with.
+     * @return The index of the target; -1 if it cannot be reached.
+     */
+    private int searchTarget(int points) {
+        return search.search(current, simulator.targetIndex, points, impacts) ? simulator.targetIndex : -1;
+    }
+
+    /**
+     * Searches every division from the one of To Cruz and finds the entry point reached with the most points,
+     * and then with the fewest moves.
+     *
+     * @param points The points To Cruz leaves with.
+     * @return The index of the entry point; -1 if none can be reached.
+     */
+    private int bestEntry(int points) {
+        search.search(current, -1, points, impacts);
+        int best = -1;
+        for (int i = 0; i < simulator.entry.length; i++) {
+            if (!simulator.entry[i] || i == current || !search.isReached(i)) {
+                continue;
+            }
+            if (best == -1 || search.getPoints(i) > search.getPoints(best)
+                    || search.getPoints(i) == search.getPoints(best) && search.getHops(i) < search.getHops(best)) {
+                best = i;
+            }
+        }
+        return best;
+    }
+}
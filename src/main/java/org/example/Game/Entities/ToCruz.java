@@ -1,5 +1,6 @@
 package org.example.Game.Entities;
 
+import org.example.Game.Entities.ENUMS.GameNotice;
 import org.example.Game.Entities.ENUMS.ItemType;
 import org.example.Game.Entities.Interfaces.*;
 import org.example.Structures.Implementations.LinkedStack;
@@ -43,6 +44,11 @@ public class ToCruz extends Character implements IToCruz {
      */
     private boolean isUsingBulletProofVest;
 
+    /**
+     * The sink the events of ToCruz are sent to.
+     */
+    private IGameEventSink events;
+
     /**
      * Constructs a new ToCruz object with a specified power, target, and initial division.
      * ToCruz starts with full health (100) and no bulletproof vest.
@@ -52,7 +58,21 @@ public class ToCruz extends Character implements IToCruz {
      * @param currentDivision the current division where ToCruz is located.
      */
     public ToCruz(int power, ITarget target, IDivision currentDivision) {
+        this(power, target, currentDivision, new ConsoleEventSink());
+    }
+
+    /**
+     * Constructs a new ToCruz object with a specified power, target, initial division and event sink.
+     * ToCruz starts with full health (100) and no bulletproof vest.
+     *
+     * @param power the power level of ToCruz.
+     * @param target the target assigned to ToCruz.
+     * @param currentDivision the current division where ToCruz is located.
+     * @param events the sink the attacks, items and health kits of ToCruz are reported to.
+     */
+    public ToCruz(int power, ITarget target, IDivision currentDivision, IGameEventSink events) {
         super("To Cruz", power, currentDivision);
+        this.events = events;
         this.health = 100;
         this.target = target;
         this.healthKits = new LinkedStack<>();
@@ -129,6 +149,16 @@ public class ToCruz extends Character implements IToCruz {
         super.setCurrentDivision(currentDivision);
     }
 
+    /**
+     * Sets the sink the attacks, items and health kits of ToCruz are reported to.
+     *
+     * @param events the new sink of the events of ToCruz.
+     */
+    @Override
+    public void setEventSink(IGameEventSink events) {
+        this.events = events;
+    }
+
     /**
      * Returns whether ToCruz is currently using a bulletproof vest.
      *
@@ -159,16 +189,11 @@ public class ToCruz extends Character implements IToCruz {
     @Override
     public void attackEnemies(ListADT<IEnemy> enemies, Mission mission) {
         for (IEnemy enemy : enemies) {
-            enemy.setPower(enemy.getPower() - this.getPower());
-            System.out.println("════════════════════════════════════════════════════");
-            System.out.println("To Cruz attacked " + enemy.getName() + " with power " + this.getPower());
+            mission.setEnemyPower(enemy, enemy.getPower() - this.getPower());
+            events.enemyAttacked(enemy.getName(), this.getPower(), enemy.getPower());
             if (enemy.getPower() <= 0) {
-                System.out.println(enemy.getName() + " has been defeated!");
-                mission.getEnemies().remove(enemy);
-            } else {
-                System.out.println(enemy.getName() + " has " + enemy.getPower() + " power left.");
+                mission.removeEnemy(enemy);
             }
-            System.out.println("════════════════════════════════════════════════════");
         }
     }
 
@@ -201,16 +226,16 @@ public class ToCruz extends Character implements IToCruz {
     @Override
     public void consumeBulletProofVest(IItem vest) {
         if (isUsingBulletProofVest) {
-            System.out.println("You are already using a bulletproof vest! Cannot use another one.");
+            events.notice(GameNotice.VEST_ALREADY_IN_USE);
             return;
         }
 
         if (vest.getType() == ItemType.BULLET_PROOF_VEST && vest.getExtraPoints() != null) {
             this.setHealth(this.getHealth() + vest.getExtraPoints());
             isUsingBulletProofVest = true;
-            System.out.println("Bulletproof vest consumed! Current health: " + this.getHealth());
+            events.vestConsumed(this.getHealth());
         } else {
-            System.out.println("The item is not a valid bulletproof vest.");
+            events.notice(GameNotice.INVALID_VEST);
         }
     }
 
@@ -223,7 +248,7 @@ public class ToCruz extends Character implements IToCruz {
     @Override
     public void useHealthKit() {
         if (!(this.getHealth() < MAX_HEALTH)) {
-            System.out.println("Life is already full! Cannot use a health kit.");
+            events.notice(GameNotice.HEALTH_ALREADY_FULL);
             return;
         }
 
@@ -232,12 +257,12 @@ public class ToCruz extends Character implements IToCruz {
             if (kit.getRecoveryPoints() != null) {
                 int newHealth = this.getHealth() + kit.getRecoveryPoints();
                 this.setHealth(Math.min(newHealth, MAX_HEALTH));
-                System.out.println("Used a health kit! New health: " + this.getHealth());
+                events.healthKitUsed(this.getHealth());
             } else {
-                System.out.println("The item is not a valid health kit!");
+                events.notice(GameNotice.INVALID_HEALTH_KIT);
             }
         } else {
-            System.out.println("No health kits available!");
+            events.notice(GameNotice.NO_HEALTH_KITS);
         }
     }
 
@@ -251,9 +276,9 @@ public class ToCruz extends Character implements IToCruz {
     public void addHealthKit(IItem kit) {
         if (healthKits.size() < maxHealthKits) {
             healthKits.push(kit);
-            System.out.println("Health kit added! Current kits: " + healthKits.size());
+            events.healthKitAdded(healthKits.size());
         } else {
-            System.out.println("Cannot add more health kits. Maximum capacity reached.");
+            events.notice(GameNotice.HEALTH_KITS_FULL);
         }
     }
 
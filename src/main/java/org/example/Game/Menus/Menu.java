@@ -1,7 +1,10 @@
 package org.example.Game.Menus;
 
+import org.example.Game.Entities.ConsoleEventSink;
 import org.example.Game.Entities.ENUMS.DifficultyType;
+import org.example.Game.Entities.ENUMS.GameNotice;
 import org.example.Game.Entities.Game;
+import org.example.Game.Entities.Interfaces.IGameEventSink;
 
 import java.io.IOException;
 import java.util.Scanner;
@@ -34,6 +37,17 @@ public class Menu {
      */
     private boolean initialFight = true;
 
+    /**
+     * The sink the events of the games are sent to; null to print them to the console and write them to the last
+     * mission info.
+     */
+    private final IGameEventSink gameEvents;
+
+    /**
+     * The sink the events of the menu are sent to.
+     */
+    private final IGameEventSink events;
+
 
     /**
      * Constructor for the Menu class.
@@ -42,7 +56,21 @@ public class Menu {
      * @param missionFile The mission file to be loaded.
      */
     public Menu(String missionFile) {
+        this(missionFile, null);
+    }
+
+    /**
+     * Constructor for the Menu class with the sink the events of the menu and the games are sent to.
+     * Initializes the mission file which will be loaded later.
+     *
+     * @param missionFile The mission file to be loaded.
+     * @param events      The sink the events are sent to; null to print them to the console and write the ones of
+     *                    the games to the last mission info.
+     */
+    public Menu(String missionFile, IGameEventSink events) {
         this.missionFile = missionFile;
+        this.gameEvents = events;
+        this.events = (events == null) ? new ConsoleEventSink() : events;
     }
 
     /**
@@ -108,7 +136,7 @@ public class Menu {
                 startAutomaticGame();
                 return;
             case 0:
-                System.out.println("Exiting...");
+                events.notice(GameNotice.EXITING);
                 System.exit(0);
                 return;
             default:
@@ -131,9 +159,7 @@ public class Menu {
      * Starts the manual game and shows the game menu.
      */
     private void startManualGame() {
-        System.out.println("════════════════════════════════════════════════════");
-        System.out.println("               STARTING MANUAL GAME                 ");
-        System.out.println("════════════════════════════════════════════════════");
+        events.gameStarted(false);
 
         loadMissionAndShowDetails();
         showDifficultySelection();
@@ -143,9 +169,7 @@ public class Menu {
      * Starts the automatic game and shows the game menu.
      */
     private void startAutomaticGame() {
-        System.out.println("════════════════════════════════════════════════════");
-        System.out.println("               STARTING AUTOMATIC GAME              ");
-        System.out.println("════════════════════════════════════════════════════");
+        events.gameStarted(true);
 
         loadMissionAndShowDetails();
         game.displayBestAutomaticPathToTargetAndReturn();
@@ -157,7 +181,7 @@ public class Menu {
      */
     private void loadMissionAndShowDetails() {
         try {
-            game = new Game(this.missionFile, this.scanner);
+            game = new Game(this.missionFile, this.scanner, gameEvents);
             game.loadMissionFromJson();
             game.loadMissionRecordsFromJson();
             game.displayMissionInfo();
@@ -236,7 +260,7 @@ public class Menu {
      * @param difficulty The selected difficulty.
      */
     private void createGameWithDifficulty(DifficultyType difficulty) {
-        System.out.println("Loading game with difficulty: " + difficulty);
+        events.difficultySelected(difficulty);
         try {
             game.createToCruzCharacter(difficulty);
             displayInGameMenu();
@@ -300,7 +324,7 @@ public class Menu {
                 displayMissionRecords();
                 return true;
             case 0:
-                System.out.println("Exiting...");
+                events.notice(GameNotice.EXITING);
                 System.exit(0);
                 return false;
             default:
@@ -424,7 +448,7 @@ public class Menu {
                 game.displayBestPathToNearLifeItem();
                 return true;
             case 0:
-                System.out.println("Exiting...");
+                events.notice(GameNotice.EXITING);
                 System.exit(0);
                 return false;
             default:
@@ -0,0 +1,18 @@
+package org.example.Structures.ENUMS;
+
+/**
+ * The SpanningTreeAlgorithm enum selects how a network builds its minimum spanning tree.
+ */
+public enum SpanningTreeAlgorithm {
+    /**
+     * Prim's algorithm. Grows the tree from the first vertex, keeping the cheapest connection of every other vertex
+     * in an indexed heap. Runs in O(E log V).
+     */
+    PRIM,
+
+    /**
+     * Kruskal's algorithm. Takes the edges by ascending weight and keeps those that join two separate components,
+     * tracked with a disjoint set. Runs in O(E log E).
+     */
+    KRUSKAL
+}
@@ -0,0 +1,299 @@
+package org.example.Structures.Implementations;
+
+import org.example.Structures.Interfaces.AdjacencyADT;
+
+/**
+ * Sparse adjacency storage. Every vertex keeps a compressed row with the indices of its neighbours, sorted in
+ * ascending order, and a parallel row with the weights of those edges. Memory grows with the number of edges and
+ * visiting the edges of a vertex costs O(degree), which suits buildings where every division has only a few
+ * connections.
+ */
+public class AdjacencyList implements AdjacencyADT {
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final int DEFAULT_ROW_CAPACITY = 4;
+    private static final int[] EMPTY_TARGETS = new int[0];
+    private static final double[] EMPTY_WEIGHTS = new double[0];
+
+    private int[][] targets;     // sorted neighbour indices of each vertex
+    private double[][] weights;  // weights parallel to the targets
+    private int[] degree;        // number of used cells of each row
+
+    /**
+     * Creates an empty adjacency list with the default capacity
+     */
+    public AdjacencyList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty adjacency list with the given capacity
+     *
+     * @param capacity number of vertex slots
+     */
+    public AdjacencyList(int capacity) {
+        this.targets = new int[capacity][];
+        this.weights = new double[capacity][];
+        this.degree = new int[capacity];
+        for (int i = 0; i < capacity; i++) {
+            targets[i] = EMPTY_TARGETS;
+            weights[i] = EMPTY_WEIGHTS;
+        }
+    }
+
+    /**
+     * Creates larger row tables, keeping the existing rows
+     *
+     * @param capacity new number of vertex slots
+     */
+    public void expandCapacity(int capacity) {
+        if (capacity <= degree.length)
+            return;
+
+        int[][] largerTargets = new int[capacity][];
+        double[][] largerWeights = new double[capacity][];
+        int[] largerDegree = new int[capacity];
+
+        for (int i = 0; i < capacity; i++) {
+            if (i < degree.length) {
+                largerTargets[i] = targets[i];
+                largerWeights[i] = weights[i];
+                largerDegree[i] = degree[i];
+            } else {
+                largerTargets[i] = EMPTY_TARGETS;
+                largerWeights[i] = EMPTY_WEIGHTS;
+            }
+        }
+
+        targets = largerTargets;
+        weights = largerWeights;
+        degree = largerDegree;
+    }
+
+    /**
+     * Returns the number of vertex slots
+     *
+     * @return capacity
+     */
+    public int capacity() {
+        return degree.length;
+    }
+
+    /**
+     * Creates an empty {@link AdjacencyList}
+     *
+     * @param capacity number of vertex slots
+     * @return new storage
+     */
+    public AdjacencyADT newInstance(int capacity) {
+        return new AdjacencyList(capacity);
+    }
+
+    /**
+     * Removes the edges of the given vertex from its neighbours and then clears its row
+     *
+     * @param index vertex index
+     */
+    public void clearVertex(int index) {
+        for (int k = 0; k < degree[index]; k++)
+            if (targets[index][k] != index)
+                removeEdge(targets[index][k], index);
+
+        targets[index] = EMPTY_TARGETS;
+        weights[index] = EMPTY_WEIGHTS;
+        degree[index] = 0;
+    }
+
+    /**
+     * Removes the given vertex, shifting the later rows one slot down and renumbering the neighbours that pointed
+     * past the removed vertex
+     *
+     * @param index       vertex index
+     * @param numVertices number of vertices before the removal
+     */
+    public void removeVertex(int index, int numVertices) {
+        clearVertex(index);
+
+        for (int i = index; i < numVertices - 1; i++) {
+            targets[i] = targets[i + 1];
+            weights[i] = weights[i + 1];
+            degree[i] = degree[i + 1];
+        }
+        targets[numVertices - 1] = EMPTY_TARGETS;
+        weights[numVertices - 1] = EMPTY_WEIGHTS;
+        degree[numVertices - 1] = 0;
+
+        /** The rows stay sorted because every target past the removed index moves down by the same amount */
+        for (int i = 0; i < numVertices - 1; i++) {
+            int kept = 0;
+            for (int k = 0; k < degree[i]; k++) {
+                int target = targets[i][k];
+                if (target != index) {
+                    targets[i][kept] = (target > index) ? target - 1 : target;
+                    weights[i][kept] = weights[i][k];
+                    kept++;
+                }
+            }
+            degree[i] = kept;
+        }
+    }
+
+    /**
+     * Inserts the edge in its sorted position, or replaces its weight if it already exists
+     *
+     * @param from   source index
+     * @param to     target index
+     * @param weight edge weight
+     */
+    public void setEdge(int from, int to, double weight) {
+        int position = find(from, to);
+        if (position >= 0) {
+            weights[from][position] = weight;
+            return;
+        }
+
+        position = -(position + 1);
+        int size = degree[from];
+        if (size == targets[from].length)
+            expandRow(from);
+
+        int[] rowTargets = targets[from];
+        double[] rowWeights = weights[from];
+        for (int k = size; k > position; k--) {
+            rowTargets[k] = rowTargets[k - 1];
+            rowWeights[k] = rowWeights[k - 1];
+        }
+        rowTargets[position] = to;
+        rowWeights[position] = weight;
+        degree[from]++;
+    }
+
+    /**
+     * Removes an edge, if it exists
+     *
+     * @param from source index
+     * @param to   target index
+     */
+    public void removeEdge(int from, int to) {
+        int position = find(from, to);
+        if (position < 0)
+            return;
+
+        int[] rowTargets = targets[from];
+        double[] rowWeights = weights[from];
+        degree[from]--;
+        for (int k = position; k < degree[from]; k++) {
+            rowTargets[k] = rowTargets[k + 1];
+            rowWeights[k] = rowWeights[k + 1];
+        }
+    }
+
+    /**
+     * Returns the weight of an edge
+     *
+     * @param from source index
+     * @param to   target index
+     * @return weight; {@link Double}.POSITIVE_INFINITY if there is no edge
+     */
+    public double getWeight(int from, int to) {
+        int position = find(from, to);
+        if (position < 0)
+            return Double.POSITIVE_INFINITY;
+        return weights[from][position];
+    }
+
+    /**
+     * Returns the number of edges leaving a vertex
+     *
+     * @param from source index
+     * @return number of used cells of the row
+     */
+    public int degree(int from) {
+        return degree[from];
+    }
+
+    /**
+     * The cursor of the list is the position of the edge inside the row
+     *
+     * @param from source index
+     * @return 0 if the vertex has edges; -1 otherwise
+     */
+    public int firstEdge(int from) {
+        return (degree[from] > 0) ? 0 : -1;
+    }
+
+    /**
+     * Returns the position after the given one
+     *
+     * @param from   source index
+     * @param cursor current position
+     * @return next position; -1 at the end of the row
+     */
+    public int nextEdge(int from, int cursor) {
+        return (cursor + 1 < degree[from]) ? cursor + 1 : -1;
+    }
+
+    /**
+     * Returns the target of the edge at the given cursor
+     *
+     * @param from   source index
+     * @param cursor edge cursor
+     * @return target index
+     */
+    public int edgeTarget(int from, int cursor) {
+        return targets[from][cursor];
+    }
+
+    /**
+     * Returns the weight of the edge at the given cursor
+     *
+     * @param from   source index
+     * @param cursor edge cursor
+     * @return edge weight
+     */
+    public double edgeWeight(int from, int cursor) {
+        return weights[from][cursor];
+    }
+
+    /**
+     * Binary search for a target inside a row
+     *
+     * @param from source index
+     * @param to   target index
+     * @return position of the target; (-(insertion point) - 1) if it is not in the row
+     */
+    private int find(int from, int to) {
+        int[] row = targets[from];
+        int low = 0;
+        int high = degree[from] - 1;
+
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (row[middle] < to)
+                low = middle + 1;
+            else if (row[middle] > to)
+                high = middle - 1;
+            else
+                return middle;
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Doubles the capacity of a row
+     *
+     * @param from source index
+     */
+    private void expandRow(int from) {
+        int size = Math.max(DEFAULT_ROW_CAPACITY, targets[from].length * 2);
+        int[] largerTargets = new int[size];
+        double[] largerWeights = new double[size];
+
+        for (int k = 0; k < degree[from]; k++) {
+            largerTargets[k] = targets[from][k];
+            largerWeights[k] = weights[from][k];
+        }
+
+        targets[from] = largerTargets;
+        weights[from] = largerWeights;
+    }
+}
@@ -0,0 +1,204 @@
+package org.example.Structures.Implementations;
+
+import org.example.Structures.Interfaces.AdjacencyADT;
+
+/**
+ * Dense adjacency storage backed by a square matrix of weights. Weight lookups take constant time, but visiting the
+ * edges of a vertex scans the whole row and the memory grows with the square of the capacity.
+ */
+public class AdjacencyMatrix implements AdjacencyADT {
+    protected final int DEFAULT_CAPACITY = 10;
+    private double[][] matrix;   // matrix of weights, infinity when there is no edge
+
+    /**
+     * Creates an empty matrix with the default capacity
+     */
+    public AdjacencyMatrix() {
+        this.matrix = newMatrix(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty matrix with the given capacity
+     *
+     * @param capacity number of vertex slots
+     */
+    public AdjacencyMatrix(int capacity) {
+        this.matrix = newMatrix(capacity);
+    }
+
+    /**
+     * Creates a square matrix with every cell set to infinity
+     *
+     * @param capacity number of rows and columns
+     * @return new matrix
+     */
+    private double[][] newMatrix(int capacity) {
+        double[][] result = new double[capacity][capacity];
+        for (int i = 0; i < capacity; i++)
+            for (int j = 0; j < capacity; j++)
+                result[i][j] = Double.POSITIVE_INFINITY;
+        return result;
+    }
+
+    /**
+     * Creates a larger matrix and copies the existing weights into it
+     *
+     * @param capacity new number of vertex slots
+     */
+    public void expandCapacity(int capacity) {
+        if (capacity <= matrix.length)
+            return;
+
+        double[][] larger = newMatrix(capacity);
+        for (int i = 0; i < matrix.length; i++)
+            for (int j = 0; j < matrix.length; j++)
+                larger[i][j] = matrix[i][j];
+
+        matrix = larger;
+    }
+
+    /**
+     * Returns the number of vertex slots of the matrix
+     *
+     * @return capacity
+     */
+    public int capacity() {
+        return matrix.length;
+    }
+
+    /**
+     * Creates an empty {@link AdjacencyMatrix}
+     *
+     * @param capacity number of vertex slots
+     * @return new storage
+     */
+    public AdjacencyADT newInstance(int capacity) {
+        return new AdjacencyMatrix(capacity);
+    }
+
+    /**
+     * Clears the row and the column of the given vertex
+     *
+     * @param index vertex index
+     */
+    public void clearVertex(int index) {
+        for (int i = 0; i < matrix.length; i++) {
+            matrix[index][i] = Double.POSITIVE_INFINITY;
+            matrix[i][index] = Double.POSITIVE_INFINITY;
+        }
+    }
+
+    /**
+     * Removes the row and the column of the given vertex, shifting the later ones
+     *
+     * @param index       vertex index
+     * @param numVertices number of vertices before the removal
+     */
+    public void removeVertex(int index, int numVertices) {
+        int last = numVertices - 1;
+
+        for (int i = index; i < last; i++)
+            for (int j = 0; j <= last; j++)
+                matrix[i][j] = matrix[i + 1][j];
+
+        for (int i = index; i < last; i++)
+            for (int j = 0; j < last; j++)
+                matrix[j][i] = matrix[j][i + 1];
+
+        clearVertex(last);
+    }
+
+    /**
+     * Sets the weight of an edge
+     *
+     * @param from   source index
+     * @param to     target index
+     * @param weight edge weight
+     */
+    public void setEdge(int from, int to, double weight) {
+        matrix[from][to] = weight;
+    }
+
+    /**
+     * Removes an edge
+     *
+     * @param from source index
+     * @param to   target index
+     */
+    public void removeEdge(int from, int to) {
+        matrix[from][to] = Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Returns the weight of an edge
+     *
+     * @param from source index
+     * @param to   target index
+     * @return weight; {@link Double}.POSITIVE_INFINITY if there is no edge
+     */
+    public double getWeight(int from, int to) {
+        return matrix[from][to];
+    }
+
+    /**
+     * Counts the edges leaving a vertex by scanning its row
+     *
+     * @param from source index
+     * @return number of edges
+     */
+    public int degree(int from) {
+        int result = 0;
+        double[] row = matrix[from];
+        for (int j = 0; j < row.length; j++)
+            if (row[j] < Double.POSITIVE_INFINITY)
+                result++;
+        return result;
+    }
+
+    /**
+     * The cursor of the matrix is the column of the edge
+     *
+     * @param from source index
+     * @return first column with an edge; -1 if there is none
+     */
+    public int firstEdge(int from) {
+        return nextEdge(from, -1);
+    }
+
+    /**
+     * Scans the row for the next column with an edge
+     *
+     * @param from   source index
+     * @param cursor current column
+     * @return next column with an edge; -1 if there is none
+     */
+    public int nextEdge(int from, int cursor) {
+        double[] row = matrix[from];
+        for (int j = cursor + 1; j < row.length; j++)
+            if (row[j] < Double.POSITIVE_INFINITY)
+                return j;
+        return -1;
+    }
+
+    /**
+     * Returns the target of the edge at the given cursor
+     *
+     * @param from   source index
+     * @param cursor edge cursor
+     * @return target index
+     */
+    public int edgeTarget(int from, int cursor) {
+        return cursor;
+    }
+
+    /**
+     * Returns the weight of the edge at the given cursor
+     *
+     * @param from   source index
+     * @param cursor edge cursor
+     * @return edge weight
+     */
+    public double edgeWeight(int from, int cursor) {
+        return matrix[from][cursor];
+    }
+}
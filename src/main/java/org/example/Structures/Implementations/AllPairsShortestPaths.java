@@ -0,0 +1,296 @@
+package org.example.Structures.Implementations;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Table with the weight, the number of edges and the next vertex of the shortest path between every pair of vertices
+ * of an undirected {@link Network}. Once it is built, a path is read one hop at a time, in O(path length).
+ *
+ * <p>Small networks are solved with Floyd-Warshall, which is O(V³) but runs over flat arrays. Larger networks run
+ * Dijkstra's algorithm towards every vertex, split across the common {@link ForkJoinPool}. Both resolve equal weights
+ * in favour of the path with fewer edges, as {@link Network} does.</p>
+ *
+ * <p>The table can follow edges that are added or become cheaper, and vertices that are added without edges. Any
+ * other change must be followed by a new table, which {@link #keepsAfterRemovingEdge} helps to avoid.</p>
+ */
+public class AllPairsShortestPaths {
+    /** Networks up to this size are solved with Floyd-Warshall; larger ones with repeated Dijkstra. */
+    public static final int FLOYD_WARSHALL_LIMIT = 128;
+
+    /** Number of target vertices solved by each parallel task. */
+    private static final int TARGETS_PER_TASK = 16;
+
+    private int size;           // number of vertices
+    private double[] weight;    // weight[i * size + j], infinity if j is unreachable from i
+    private int[] length;       // number of edges of each path
+    private int[] next;         // vertex after i on the path to j, -1 if there is no path
+
+    /**
+     * Builds the table for the current state of the network
+     *
+     * @param network network to solve
+     */
+    public AllPairsShortestPaths(Network<?> network) {
+        this.size = network.numVertices;
+        this.weight = new double[size * size];
+        this.length = new int[size * size];
+        this.next = new int[size * size];
+
+        if (size <= FLOYD_WARSHALL_LIMIT)
+            floydWarshall(network);
+        else
+            ForkJoinPool.commonPool().invoke(new DijkstraTask(network, 0, size));
+    }
+
+    /**
+     * Returns the number of vertices covered by the table
+     *
+     * @return number of vertices
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the weight of the shortest path between two vertices
+     *
+     * @param from starting index
+     * @param to   target index
+     * @return weight; {@link Double}.POSITIVE_INFINITY if there is no path
+     */
+    public double getWeight(int from, int to) {
+        return weight[from * size + to];
+    }
+
+    /**
+     * Returns the number of edges of the shortest path between two vertices
+     *
+     * @param from starting index
+     * @param to   target index
+     * @return number of edges; meaningless if there is no path
+     */
+    public int getLength(int from, int to) {
+        return length[from * size + to];
+    }
+
+    /**
+     * Returns the vertex that follows the start on the shortest path to the target
+     *
+     * @param from starting index
+     * @param to   target index
+     * @return next index; the target itself if from equals to; -1 if there is no path
+     */
+    public int getNextHop(int from, int to) {
+        return next[from * size + to];
+    }
+
+    /**
+     * Fills the table with Floyd-Warshall, starting from the edges of the network
+     *
+     * @param network network to solve
+     */
+    private void floydWarshall(Network<?> network) {
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                weight[i * size + j] = Double.POSITIVE_INFINITY;
+                next[i * size + j] = -1;
+            }
+            weight[i * size + i] = 0;
+            length[i * size + i] = 0;
+            next[i * size + i] = i;
+
+            for (int e = network.adjacency.firstEdge(i); e != -1; e = network.adjacency.nextEdge(i, e)) {
+                int j = network.adjacency.edgeTarget(i, e);
+                if (j != i) {
+                    weight[i * size + j] = network.adjacency.edgeWeight(i, e);
+                    length[i * size + j] = 1;
+                    next[i * size + j] = j;
+                }
+            }
+        }
+
+        for (int k = 0; k < size; k++) {
+            int rowK = k * size;
+            for (int i = 0; i < size; i++) {
+                int rowI = i * size;
+                double toK = weight[rowI + k];
+                if (toK == Double.POSITIVE_INFINITY || i == k)
+                    continue;
+
+                for (int j = 0; j < size; j++) {
+                    double candidate = toK + weight[rowK + j];
+                    int candidateLength = length[rowI + k] + length[rowK + j];
+                    if (shorter(candidate, candidateLength, weight[rowI + j], length[rowI + j])) {
+                        weight[rowI + j] = candidate;
+                        length[rowI + j] = candidateLength;
+                        next[rowI + j] = next[rowI + k];
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Fills the columns of the given targets with one Dijkstra search each. Since the network is undirected, the
+     * predecessor of every vertex in the tree grown from a target is the next hop of that vertex towards the target
+     *
+     * @param network  network to solve
+     * @param first    first target index
+     * @param last     target index after the last one
+     */
+    private void solveTargets(Network<?> network, int first, int last) {
+        double[] pathWeight = new double[size];
+        int[] predecessor = new int[size];
+        int[] pathLength = new int[size];
+
+        for (int target = first; target < last; target++) {
+            network.shortestPathTree(target, -1, pathWeight, predecessor, pathLength);
+
+            for (int i = 0; i < size; i++) {
+                weight[i * size + target] = pathWeight[i];
+                length[i * size + target] = pathLength[i];
+                next[i * size + target] = (i == target) ? target : predecessor[i];
+            }
+        }
+    }
+
+    /**
+     * Task that solves a range of targets, splitting it in half until it is small enough
+     */
+    private class DijkstraTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Network<?> network;
+        private final int first;
+        private final int last;
+
+        DijkstraTask(Network<?> network, int first, int last) {
+            this.network = network;
+            this.first = first;
+            this.last = last;
+        }
+
+        @Override
+        protected void compute() {
+            if (last - first <= TARGETS_PER_TASK) {
+                solveTargets(network, first, last);
+                return;
+            }
+
+            int middle = (first + last) >>> 1;
+            invokeAll(new DijkstraTask(network, first, middle), new DijkstraTask(network, middle, last));
+        }
+    }
+
+    /**
+     * Updates the table after the edge between u and v was added or became cheaper. A path that improves uses the
+     * edge exactly once and its two halves did not use it, so every pair is checked against the old distances to u
+     * and v in O(V²)
+     *
+     * @param u          first index
+     * @param v          second index
+     * @param edgeWeight new weight of the edge
+     */
+    public void edgeDecreased(int u, int v, double edgeWeight) {
+        if (u == v)
+            return;
+
+        double[] weightU = new double[size];
+        double[] weightV = new double[size];
+        int[] lengthU = new int[size];
+        int[] lengthV = new int[size];
+        int[] nextU = new int[size];
+        int[] nextV = new int[size];
+
+        for (int i = 0; i < size; i++) {
+            weightU[i] = weight[i * size + u];
+            weightV[i] = weight[i * size + v];
+            lengthU[i] = length[i * size + u];
+            lengthV[i] = length[i * size + v];
+            nextU[i] = (i == u) ? v : next[i * size + u];
+            nextV[i] = (i == v) ? u : next[i * size + v];
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (weightU[i] == Double.POSITIVE_INFINITY && weightV[i] == Double.POSITIVE_INFINITY)
+                continue;
+
+            for (int j = 0; j < size; j++) {
+                int cell = i * size + j;
+
+                /** i to u, across the edge, then v to j */
+                double candidate = weightU[i] + edgeWeight + weightV[j];
+                int candidateLength = lengthU[i] + 1 + lengthV[j];
+                if (shorter(candidate, candidateLength, weight[cell], length[cell])) {
+                    weight[cell] = candidate;
+                    length[cell] = candidateLength;
+                    next[cell] = nextU[i];
+                }
+
+                /** i to v, across the edge, then u to j */
+                candidate = weightV[i] + edgeWeight + weightU[j];
+                candidateLength = lengthV[i] + 1 + lengthU[j];
+                if (shorter(candidate, candidateLength, weight[cell], length[cell])) {
+                    weight[cell] = candidate;
+                    length[cell] = candidateLength;
+                    next[cell] = nextV[i];
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks if the table stays exact after the edge between u and v is removed. That is the case when the edge is
+     * heavier than the shortest path between its own ends, since then no shortest path can use it
+     *
+     * @param u          first index
+     * @param v          second index
+     * @param edgeWeight weight of the removed edge
+     * @return true if the table is still valid; false if it must be rebuilt
+     */
+    public boolean keepsAfterRemovingEdge(int u, int v, double edgeWeight) {
+        return u == v || edgeWeight == Double.POSITIVE_INFINITY || weight[u * size + v] < edgeWeight;
+    }
+
+    /**
+     * Adds a row and a column for a new vertex without edges, which cannot be reached from any other vertex
+     */
+    public void vertexAdded() {
+        int larger = size + 1;
+        double[] largerWeight = new double[larger * larger];
+        int[] largerLength = new int[larger * larger];
+        int[] largerNext = new int[larger * larger];
+
+        for (int i = 0; i < larger; i++)
+            for (int j = 0; j < larger; j++) {
+                int cell = i * larger + j;
+                if (i < size && j < size) {
+                    largerWeight[cell] = weight[i * size + j];
+                    largerLength[cell] = length[i * size + j];
+                    largerNext[cell] = next[i * size + j];
+                } else if (i == j) {
+                    largerWeight[cell] = 0;
+                    largerNext[cell] = i;
+                } else {
+                    largerWeight[cell] = Double.POSITIVE_INFINITY;
+                    largerNext[cell] = -1;
+                }
+            }
+
+        size = larger;
+        weight = largerWeight;
+        length = largerLength;
+        next = largerNext;
+    }
+
+    /**
+     * Compares two paths by weight and then by number of edges
+     *
+     * @return true if the first path is shorter than the second
+     */
+    private static boolean shorter(double weight, int length, double otherWeight, int otherLength) {
+        return weight < otherWeight || (weight == otherWeight && weight != Double.POSITIVE_INFINITY
+                && length < otherLength);
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.Structures.Implementations;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterator that performs a breadth first search one vertex at a time. Each call to {@link #next()} takes the next
+ * vertex out of the queue and queues its unvisited neighbours, so nothing is computed for the part of the traversal
+ * that is never consumed. The graph must not change while the iterator is in use.
+ *
+ * @param <T> type of the vertices
+ */
+public class BreadthFirstIterator<T> implements Iterator<T> {
+
+    // Graph being traversed
+    private final Graph<T> graph;
+
+    // Queue of vertex indices; every vertex enters it at most once
+    private final int[] queue;
+
+    // Bitset of the vertices that were already queued
+    private final long[] visited;
+
+    // Position of the next vertex to return and position after the last queued vertex
+    private int head;
+    private int tail;
+
+    /**
+     * Creates the iterator. An invalid start index gives an empty traversal
+     *
+     * @param graph      graph to traverse
+     * @param startIndex starting index
+     */
+    BreadthFirstIterator(Graph<T> graph, int startIndex) {
+        this.graph = graph;
+        this.queue = new int[graph.numVertices];
+        this.visited = new long[Graph.words(graph.numVertices)];
+        this.head = 0;
+        this.tail = 0;
+
+        if (graph.indexIsValid(startIndex)) {
+            queue[tail++] = startIndex;
+            visited[startIndex >>> 6] |= 1L << startIndex;
+        }
+    }
+
+    /**
+     * Returns true if the traversal has more vertices
+     *
+     * @return true if there are more vertices, false otherwise
+     */
+    @Override
+    public boolean hasNext() {
+        return head < tail;
+    }
+
+    /**
+     * Returns the next vertex of the traversal, queueing its unvisited neighbours
+     *
+     * @return the next vertex
+     * @throws NoSuchElementException if there are no more vertices
+     */
+    @Override
+    public T next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        int index = queue[head++];
+        tail = graph.enqueueUnvisitedNeighbours(index, visited, queue, tail);
+        return graph.vertices[index];
+    }
+}
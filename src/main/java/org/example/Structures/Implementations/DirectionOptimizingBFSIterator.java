@@ -0,0 +1,169 @@
+package org.example.Structures.Implementations;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterator that performs a level-synchronous breadth first search which chooses, for every level, between two ways of
+ * finding the next frontier:
+ * <ul>
+ *     <li>top-down, where every vertex of the frontier adds its neighbours, which is cheap while the frontier is
+ *     small;</li>
+ *     <li>bottom-up, where every unvisited vertex looks for a neighbour in the frontier and stops at the first one,
+ *     which is cheap once the frontier holds a large share of the edges that are left.</li>
+ * </ul>
+ * The search switches to bottom-up when the edges of the frontier exceed 1/{@value #ALPHA} of the unexplored edges,
+ * and back to top-down when the frontier holds fewer than 1/{@value #BETA} of the vertices. Frontiers are bitsets, so
+ * each level is returned in ascending index order, and a level is only computed once the previous one has been
+ * consumed. The graph is treated as undirected and must not change while the iterator is in use.
+ *
+ * @param <T> type of the vertices
+ */
+public class DirectionOptimizingBFSIterator<T> implements Iterator<T> {
+
+    /** Switch to bottom-up when the frontier edges exceed this fraction of the unexplored edges. */
+    public static final int ALPHA = 14;
+
+    /** Switch back to top-down when the frontier holds fewer than this fraction of the vertices. */
+    public static final int BETA = 24;
+
+    // Graph being traversed
+    private final Graph<T> graph;
+
+    // Number of vertices of the graph
+    private final int numVertices;
+
+    // Bitsets of the visited vertices, of the current level and of the level being built
+    private final long[] visited;
+    private long[] frontier;
+    private long[] next;
+
+    // Word of the current level being returned and the bits of that word not returned yet
+    private int word;
+    private long pending;
+
+    // Edges not yet explored, used to choose the direction of the next level
+    private long unexploredEdges;
+
+    // Whether the last level was found bottom-up
+    private boolean bottomUp;
+
+    /**
+     * Creates the iterator. An invalid start index gives an empty traversal
+     *
+     * @param graph      graph to traverse
+     * @param startIndex starting index
+     */
+    DirectionOptimizingBFSIterator(Graph<T> graph, int startIndex) {
+        this.graph = graph;
+        this.numVertices = graph.numVertices;
+        this.visited = new long[Graph.words(numVertices)];
+        this.frontier = new long[visited.length];
+        this.next = new long[visited.length];
+        this.word = 0;
+        this.pending = 0;
+        this.bottomUp = false;
+
+        if (graph.indexIsValid(startIndex)) {
+            for (int i = 0; i < numVertices; i++)
+                unexploredEdges += graph.degree(i);
+
+            visited[startIndex >>> 6] |= 1L << startIndex;
+            frontier[startIndex >>> 6] |= 1L << startIndex;
+            pending = frontier[0];
+        }
+    }
+
+    /**
+     * Returns true if the traversal has more vertices, computing the next level if the current one is exhausted
+     *
+     * @return true if there are more vertices, false otherwise
+     */
+    @Override
+    public boolean hasNext() {
+        while (true) {
+            while (pending == 0 && word + 1 < frontier.length) {
+                word++;
+                pending = frontier[word];
+            }
+            if (pending != 0)
+                return true;
+            if (!expandLevel())
+                return false;
+        }
+    }
+
+    /**
+     * Returns the next vertex of the traversal
+     *
+     * @return the next vertex
+     * @throws NoSuchElementException if there are no more vertices
+     */
+    @Override
+    public T next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        int index = (word << 6) + Long.numberOfTrailingZeros(pending);
+        pending &= pending - 1;
+        return graph.vertices[index];
+    }
+
+    /**
+     * Replaces the frontier with the next level, choosing the direction of the search
+     *
+     * @return true if the new level has at least one vertex
+     */
+    private boolean expandLevel() {
+        long frontierEdges = 0;
+        int frontierSize = 0;
+        for (int w = 0; w < frontier.length; w++) {
+            long bits = frontier[w];
+            frontierSize += Long.bitCount(bits);
+            while (bits != 0) {
+                frontierEdges += graph.degree((w << 6) + Long.numberOfTrailingZeros(bits));
+                bits &= bits - 1;
+            }
+        }
+        if (frontierSize == 0)
+            return false;
+
+        if (!bottomUp && frontierEdges * ALPHA > unexploredEdges)
+            bottomUp = true;
+        else if (bottomUp && (long) frontierSize * BETA < numVertices)
+            bottomUp = false;
+
+        for (int w = 0; w < next.length; w++)
+            next[w] = 0;
+
+        if (bottomUp) {
+            for (int i = 0; i < numVertices; i++)
+                if ((visited[i >>> 6] & (1L << i)) == 0 && graph.hasNeighbourIn(i, frontier))
+                    next[i >>> 6] |= 1L << i;
+        } else {
+            for (int w = 0; w < frontier.length; w++) {
+                long bits = frontier[w];
+                while (bits != 0) {
+                    graph.addNeighbours((w << 6) + Long.numberOfTrailingZeros(bits), next);
+                    bits &= bits - 1;
+                }
+            }
+        }
+
+        boolean found = false;
+        for (int w = 0; w < next.length; w++) {
+            next[w] &= ~visited[w];
+            visited[w] |= next[w];
+            if (next[w] != 0)
+                found = true;
+        }
+        unexploredEdges -= frontierEdges;
+
+        long[] swap = frontier;
+        frontier = next;
+        next = swap;
+        word = 0;
+        pending = frontier.length > 0 ? frontier[0] : 0;
+        return found;
+    }
+}
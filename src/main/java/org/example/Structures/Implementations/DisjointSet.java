@@ -0,0 +1,85 @@
+package org.example.Structures.Implementations;
+
+/**
+ * Union-find structure over the integers 0 to size - 1. Sets are merged by rank and paths are halved while searching,
+ * so any sequence of operations runs in almost constant time per operation.
+ */
+public class DisjointSet {
+    private final int[] parent;   // parent of each element, itself for the representative of a set
+    private final int[] rank;     // upper bound of the height of each representative's tree
+    private int sets;
+
+    /**
+     * Creates a structure where every element is in its own set
+     *
+     * @param size number of elements
+     */
+    public DisjointSet(int size) {
+        this.parent = new int[size];
+        this.rank = new int[size];
+        this.sets = size;
+
+        for (int i = 0; i < size; i++)
+            parent[i] = i;
+    }
+
+    /**
+     * Returns the representative of the set that contains the element
+     *
+     * @param element element
+     * @return representative element
+     */
+    public int find(int element) {
+        while (parent[element] != element) {
+            parent[element] = parent[parent[element]];
+            element = parent[element];
+        }
+        return element;
+    }
+
+    /**
+     * Merges the sets that contain the two elements
+     *
+     * @param first  first element
+     * @param second second element
+     * @return true if the elements were in different sets; false if they were already together
+     */
+    public boolean union(int first, int second) {
+        int firstRoot = find(first);
+        int secondRoot = find(second);
+
+        if (firstRoot == secondRoot)
+            return false;
+
+        if (rank[firstRoot] < rank[secondRoot]) {
+            parent[firstRoot] = secondRoot;
+        } else if (rank[firstRoot] > rank[secondRoot]) {
+            parent[secondRoot] = firstRoot;
+        } else {
+            parent[secondRoot] = firstRoot;
+            rank[firstRoot]++;
+        }
+        sets--;
+        return true;
+    }
+
+    /**
+     * Checks if two elements are in the same set
+     *
+     * @param first  first element
+     * @param second second element
+     * @return true if they are in the same set
+     */
+    public boolean connected(int first, int second) {
+        return find(first) == find(second);
+    }
+
+    /**
+     * Returns the number of separate sets
+     *
+     * @return number of sets
+     */
+    public int sets() {
+        return sets;
+    }
+}
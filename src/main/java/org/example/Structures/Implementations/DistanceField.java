@@ -0,0 +1,293 @@
+package org.example.Structures.Implementations;
+
+/**
+ * Number of edges from every vertex of a {@link Network} to the nearest of a set of source vertices, kept up to date
+ * as sources are added and removed. Once it is built, a shortest path to the nearest source is found by walking down
+ * the distances from any vertex, in O(path length times degree).
+ *
+ * <p>It is built with one breadth-first search from all the sources at once. Adding a source only lowers the distances
+ * around it. Removing one first marks the vertices that have lost every neighbour one edge closer to a source, level by
+ * level from the removed source, and then settles only those again from their unmarked neighbours. Any change to the
+ * vertices or edges of the network makes the field out of date (see {@link #isCurrent()}), and it must be built
+ * again.</p>
+ */
+public class DistanceField {
+    /** Distance of a vertex that cannot reach any source. */
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private final Network<?> network;
+    private int[] distance;
+    private boolean[] source;
+    private boolean[] marked;       // vertices that lost their distance during a removal
+    private int[] queue;
+    private int[] predecessor;      // previous vertex on the paths of the last search, -1 for the start
+    private int[] pointsLeft;       // points left on the paths of the last search, 0 if not reached
+    private IndexedMinHeap heap;
+    private int modCount;
+
+    /**
+     * Creates an empty field over the given network, which must be built before use
+     *
+     * @param network network to measure
+     */
+    public DistanceField(Network<?> network) {
+        this.network = network;
+        this.distance = new int[0];
+        this.source = new boolean[0];
+        this.modCount = -1;
+    }
+
+    /**
+     * Builds the field from the given sources with one breadth-first search
+     *
+     * @param sources     source indices
+     * @param sourceCount number of sources to use from the array
+     */
+    public void build(int[] sources, int sourceCount) {
+        int size = network.numVertices;
+        if (distance.length != size) {
+            distance = new int[size];
+            source = new boolean[size];
+            marked = new boolean[size];
+            queue = new int[size];
+            predecessor = new int[size];
+            pointsLeft = new int[size];
+            heap = new IndexedMinHeap(size);
+        }
+        modCount = network.modificationCount();
+
+        for (int i = 0; i < size; i++) {
+            distance[i] = UNREACHABLE;
+            source[i] = false;
+        }
+
+        int tail = 0;
+        for (int i = 0; i < sourceCount; i++) {
+            int index = sources[i];
+            if (network.indexIsValid(index) && !source[index]) {
+                source[index] = true;
+                distance[index] = 0;
+                queue[tail++] = index;
+            }
+        }
+        spread(0, tail);
+    }
+
+    /**
+     * Checks if the field was built for the current vertices and edges of the network
+     *
+     * @return true if it is up to date; false if it must be built again
+     */
+    public boolean isCurrent() {
+        return modCount == network.modificationCount() && distance.length == network.numVertices;
+    }
+
+    /**
+     * Checks if a vertex is a source
+     *
+     * @param index vertex index
+     * @return true if it is a source; false otherwise
+     */
+    public boolean isSource(int index) {
+        return source[index];
+    }
+
+    /**
+     * Returns the number of edges from a vertex to the nearest source
+     *
+     * @param index vertex index
+     * @return number of edges; {@link #UNREACHABLE} if no source can be reached
+     */
+    public int getDistance(int index) {
+        return distance[index];
+    }
+
+    /**
+     * Makes a vertex a source, lowering the distances of the vertices that are now closer to a source
+     *
+     * @param index vertex index
+     */
+    public void addSource(int index) {
+        if (!network.indexIsValid(index) || source[index])
+            return;
+
+        source[index] = true;
+        distance[index] = 0;
+        queue[0] = index;
+        spread(0, 1);
+    }
+
+    /**
+     * Stops a vertex from being a source, raising the distances of the vertices whose nearest source it was
+     *
+     * @param index vertex index
+     */
+    public void removeSource(int index) {
+        if (!network.indexIsValid(index) || !source[index])
+            return;
+
+        source[index] = false;
+
+        /** Mark level by level: a vertex keeps its distance while one neighbour a level closer is unmarked */
+        int head = 0;
+        int tail = 0;
+        marked[index] = true;
+        queue[tail++] = index;
+        while (head < tail) {
+            int current = queue[head++];
+            for (int e = network.adjacency.firstEdge(current); e != -1;
+                 e = network.adjacency.nextEdge(current, e)) {
+                int next = network.adjacency.edgeTarget(current, e);
+                if (!marked[next] && !source[next] && distance[next] == distance[current] + 1
+                        && !hasCloserNeighbour(next)) {
+                    marked[next] = true;
+                    queue[tail++] = next;
+                }
+            }
+        }
+
+        /** Settle the marked vertices again, starting from the unmarked vertices around them */
+        for (int i = 0; i < tail; i++)
+            distance[queue[i]] = UNREACHABLE;
+
+        heap.clear();
+        for (int i = 0; i < tail; i++) {
+            int current = queue[i];
+            for (int e = network.adjacency.firstEdge(current); e != -1;
+                 e = network.adjacency.nextEdge(current, e)) {
+                int next = network.adjacency.edgeTarget(current, e);
+                if (!marked[next] && distance[next] != UNREACHABLE && distance[next] + 1 < distance[current])
+                    distance[current] = distance[next] + 1;
+            }
+            if (distance[current] != UNREACHABLE)
+                heap.add(current, distance[current], 0);
+        }
+
+        while (!heap.isEmpty()) {
+            int current = heap.removeMin();
+            marked[current] = false;
+            for (int e = network.adjacency.firstEdge(current); e != -1;
+                 e = network.adjacency.nextEdge(current, e)) {
+                int next = network.adjacency.edgeTarget(current, e);
+                if (marked[next] && distance[current] + 1 < distance[next]) {
+                    distance[next] = distance[current] + 1;
+                    heap.add(next, distance[next], 0);
+                }
+            }
+        }
+
+        for (int i = 0; i < tail; i++)
+            marked[queue[i]] = false;
+    }
+
+    /**
+     * Returns the neighbour of a vertex that is one edge closer to a source and has the highest preference, keeping
+     * the first one found on equal preferences
+     *
+     * @param index      vertex index, which must not be a source
+     * @param preference preference of each vertex, by index
+     * @return next index; -1 if the vertex cannot reach a source
+     */
+    public int nextStep(int index, int[] preference) {
+        if (distance[index] == UNREACHABLE || distance[index] == 0)
+            return -1;
+
+        int best = -1;
+        for (int e = network.adjacency.firstEdge(index); e != -1; e = network.adjacency.nextEdge(index, e)) {
+            int next = network.adjacency.edgeTarget(index, e);
+            if (distance[next] == distance[index] - 1 && (best == -1 || preference[next] > preference[best]))
+                best = next;
+        }
+        return best;
+    }
+
+    /**
+     * Finds the nearest source a path from the start can reach without its points dropping to zero, with a
+     * breadth-first search that only enters the vertices that leave some points. The start is entered with the given
+     * points, without its own gain. The path is read back from the source with {@link #getPredecessor(int)}
+     *
+     * @param startIndex  starting index
+     * @param startPoints points available at the start
+     * @param gain        points added when entering each vertex, by index
+     * @return index of the source reached; -1 if there is none
+     */
+    public int findReachableSource(int startIndex, int startPoints, int[] gain) {
+        if (!network.indexIsValid(startIndex) || startPoints <= 0)
+            return -1;
+
+        for (int i = 0; i < distance.length; i++)
+            pointsLeft[i] = 0;
+
+        int head = 0;
+        int tail = 0;
+        pointsLeft[startIndex] = startPoints;
+        predecessor[startIndex] = -1;
+        queue[tail++] = startIndex;
+
+        while (head < tail) {
+            int current = queue[head++];
+            if (source[current])
+                return current;
+
+            for (int e = network.adjacency.firstEdge(current); e != -1;
+                 e = network.adjacency.nextEdge(current, e)) {
+                int next = network.adjacency.edgeTarget(current, e);
+                int nextPoints = pointsLeft[current] + gain[next];
+                if (pointsLeft[next] == 0 && nextPoints > 0) {
+                    pointsLeft[next] = nextPoints;
+                    predecessor[next] = current;
+                    queue[tail++] = next;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the previous vertex on the path to a vertex in the last {@link #findReachableSource} search
+     *
+     * @param index vertex index, reached by that search
+     * @return previous index; -1 for the start
+     */
+    public int getPredecessor(int index) {
+        return predecessor[index];
+    }
+
+    /**
+     * Checks if a vertex that is not a source has a neighbour one edge closer to a source
+     *
+     * @param index vertex index
+     * @return true if the distance of the vertex still holds
+     */
+    private boolean hasCloserNeighbour(int index) {
+        if (distance[index] == UNREACHABLE)
+            return true;
+
+        for (int e = network.adjacency.firstEdge(index); e != -1; e = network.adjacency.nextEdge(index, e)) {
+            int next = network.adjacency.edgeTarget(index, e);
+            if (!marked[next] && distance[next] == distance[index] - 1)
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Lowers the distances outwards from the vertices in the queue, in breadth-first order
+     *
+     * @param head first queued position
+     * @param tail position after the last queued vertex
+     */
+    private void spread(int head, int tail) {
+        while (head < tail) {
+            int current = queue[head++];
+            for (int e = network.adjacency.firstEdge(current); e != -1;
+                 e = network.adjacency.nextEdge(current, e)) {
+                int next = network.adjacency.edgeTarget(current, e);
+                if (distance[current] + 1 < distance[next]) {
+                    distance[next] = distance[current] + 1;
+                    queue[tail++] = next;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package org.example.Structures.Implementations;
+
+import org.example.Structures.Exceptions.EmptyCollectionException;
+
+/**
+ * Array-based d-ary min heap of primitive entries, each made of a double key and an int value (such as an edge weight
+ * and the index of that edge). Keys and values live in two parallel arrays, so nothing is boxed or allocated while
+ * adding or removing entries. Entries with the same key are removed by ascending value.
+ */
+public class DoubleIntHeap {
+    protected final int DEFAULT_CAPACITY = 10;
+    protected final int DEFAULT_ARITY = 4;
+    private final int arity;
+    private double[] keys;
+    private int[] values;
+    private int count;
+
+    /**
+     * Creates an empty 4-ary heap with the default capacity
+     */
+    public DoubleIntHeap() {
+        this.arity = DEFAULT_ARITY;
+        this.keys = new double[DEFAULT_CAPACITY];
+        this.values = new int[DEFAULT_CAPACITY];
+        this.count = 0;
+    }
+
+    /**
+     * Creates an empty heap with the given arity and initial capacity
+     *
+     * @param arity    number of children of each entry, at least 2
+     * @param capacity initial number of entries
+     */
+    public DoubleIntHeap(int arity, int capacity) {
+        if (arity < 2)
+            throw new IllegalArgumentException("The heap arity must be at least 2");
+
+        this.arity = arity;
+        this.keys = new double[Math.max(1, capacity)];
+        this.values = new int[Math.max(1, capacity)];
+        this.count = 0;
+    }
+
+    /**
+     * Checks if the heap is empty
+     *
+     * @return true if empty; false otherwise
+     */
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Returns the number of entries in the heap
+     *
+     * @return number of entries
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Adds an entry to the heap
+     *
+     * @param key   priority of the entry
+     * @param value value of the entry
+     */
+    public void add(double key, int value) {
+        if (count == keys.length)
+            expandCapacity();
+
+        int index = count;
+        count++;
+
+        while (index > 0) {
+            int parent = (index - 1) / arity;
+            if (!less(key, value, keys[parent], values[parent]))
+                break;
+            keys[index] = keys[parent];
+            values[index] = values[parent];
+            index = parent;
+        }
+        keys[index] = key;
+        values[index] = value;
+    }
+
+    /**
+     * Returns the key of the entry with the lowest key
+     *
+     * @return lowest key
+     * @throws EmptyCollectionException thrown if the heap is empty
+     */
+    public double findMinKey() throws EmptyCollectionException {
+        if (isEmpty())
+            throw new EmptyCollectionException("Empty Heap");
+
+        return keys[0];
+    }
+
+    /**
+     * Returns the value of the entry with the lowest key
+     *
+     * @return value of the lowest entry
+     * @throws EmptyCollectionException thrown if the heap is empty
+     */
+    public int findMin() throws EmptyCollectionException {
+        if (isEmpty())
+            throw new EmptyCollectionException("Empty Heap");
+
+        return values[0];
+    }
+
+    /**
+     * Removes the entry with the lowest key and returns its value
+     *
+     * @return value of the removed entry
+     * @throws EmptyCollectionException thrown if the heap is empty
+     */
+    public int removeMin() throws EmptyCollectionException {
+        if (isEmpty())
+            throw new EmptyCollectionException("Empty Heap");
+
+        int min = values[0];
+        count--;
+
+        if (count > 0) {
+            double key = keys[count];
+            int value = values[count];
+            int index = 0;
+
+            while (true) {
+                int first = arity * index + 1;
+                if (first >= count)
+                    break;
+
+                int last = Math.min(first + arity, count);
+                int next = first;
+                for (int child = first + 1; child < last; child++)
+                    if (less(keys[child], values[child], keys[next], values[next]))
+                        next = child;
+
+                if (!less(keys[next], values[next], key, value))
+                    break;
+                keys[index] = keys[next];
+                values[index] = values[next];
+                index = next;
+            }
+            keys[index] = key;
+            values[index] = value;
+        }
+        return min;
+    }
+
+    /**
+     * Removes every entry from the heap, keeping its capacity
+     */
+    public void clear() {
+        count = 0;
+    }
+
+    /**
+     * Compares two entries by key and then by value
+     *
+     * @return true if the first entry comes before the second
+     */
+    private boolean less(double key, int value, double otherKey, int otherValue) {
+        if (key != otherKey)
+            return key < otherKey;
+        return value < otherValue;
+    }
+
+    /**
+     * Doubles the capacity of the arrays
+     */
+    private void expandCapacity() {
+        double[] largerKeys = new double[keys.length * 2];
+        int[] largerValues = new int[values.length * 2];
+
+        for (int i = 0; i < count; i++) {
+            largerKeys[i] = keys[i];
+            largerValues[i] = values[i];
+        }
+
+        keys = largerKeys;
+        values = largerValues;
+    }
+}
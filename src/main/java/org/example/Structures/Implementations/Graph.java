@@ -9,16 +9,19 @@ import java.util.Iterator;
 public class Graph<T> implements GraphADT<T> {
     protected final int DEFAULT_CAPACITY = 10;
     protected int numVertices;   // number of vertices in the graph
-    protected boolean[][] adjMatrix;   // adjacency matrix
+    protected long[][] adjMatrix;   // adjacency matrix, one bit per cell and 64 cells per word
     protected T[] vertices;   // values of vertices
+    protected HashMap<T, Integer> vertexIndex;   // first index of each vertex value
+    protected boolean bidirectionalSearch;   // whether shortest paths are searched from both ends
 
     /**
      * Creates an empty graph
      */
     public Graph() {
         numVertices = 0;
-        this.adjMatrix = new boolean[DEFAULT_CAPACITY][DEFAULT_CAPACITY];
+        this.adjMatrix = new long[DEFAULT_CAPACITY][words(DEFAULT_CAPACITY)];
         this.vertices = (T[]) (new Object[DEFAULT_CAPACITY]);
+        this.vertexIndex = new HashMap<T, Integer>();
     }
 
     /**
@@ -47,7 +50,7 @@ public class Graph<T> implements GraphADT<T> {
             result += "" + i + "\t";
 
             for (int j = 0; j < numVertices; j++) {
-                if (adjMatrix[i][j])
+                if (hasEdge(i, j))
                     result += "1 ";
                 else
                     result += "0 ";
@@ -75,8 +78,8 @@ public class Graph<T> implements GraphADT<T> {
      */
     public void addEdge(int index1, int index2) {
         if (indexIsValid(index1) && indexIsValid(index2)) {
-            adjMatrix[index1][index2] = true;
-            adjMatrix[index2][index1] = true;
+            adjMatrix[index1][index2 >>> 6] |= 1L << index2;
+            adjMatrix[index2][index1 >>> 6] |= 1L << index1;
         }
     }
 
@@ -88,8 +91,8 @@ public class Graph<T> implements GraphADT<T> {
      */
     public void removeEdge(int index1, int index2) {
         if (indexIsValid(index1) && indexIsValid(index2)) {
-            adjMatrix[index1][index2] = false;
-            adjMatrix[index2][index1] = false;
+            adjMatrix[index1][index2 >>> 6] &= ~(1L << index2);
+            adjMatrix[index2][index1 >>> 6] &= ~(1L << index1);
         }
     }
 
@@ -122,10 +125,7 @@ public class Graph<T> implements GraphADT<T> {
             expandCapacity();
 
         vertices[numVertices] = null;
-        for (int i = 0; i <= numVertices; i++) {
-            adjMatrix[numVertices][i] = false;
-            adjMatrix[i][numVertices] = false;
-        }
+        clearVertexBits(numVertices);
         numVertices++;
     }
 
@@ -141,10 +141,8 @@ public class Graph<T> implements GraphADT<T> {
             expandCapacity();
 
         vertices[numVertices] = vertex;
-        for (int i = 0; i <= numVertices; i++) {
-            adjMatrix[numVertices][i] = false;
-            adjMatrix[i][numVertices] = false;
-        }
+        indexVertex(numVertices);
+        clearVertexBits(numVertices);
         numVertices++;
     }
 
@@ -160,13 +158,19 @@ public class Graph<T> implements GraphADT<T> {
             for (int i = index; i < numVertices; i++)
                 vertices[i] = vertices[i + 1];
 
+            /** Move the later rows up and then remove the column bit from every row, shifting the higher bits
+             one position down, a whole word at a time */
+            long[] removedRow = adjMatrix[index];
             for (int i = index; i < numVertices; i++)
-                for (int j = 0; j <= numVertices; j++)
-                    adjMatrix[i][j] = adjMatrix[i + 1][j];
+                adjMatrix[i] = adjMatrix[i + 1];
+            adjMatrix[numVertices] = removedRow;
 
-            for (int i = index; i < numVertices; i++)
-                for (int j = 0; j < numVertices; j++)
-                    adjMatrix[j][i] = adjMatrix[j][i + 1];
+            for (int i = 0; i <= numVertices; i++)
+                removeBit(adjMatrix[i], index);
+            clearVertexBits(numVertices);
+
+            vertices[numVertices] = null;
+            rebuildIndex();
         }
     }
 
@@ -177,12 +181,7 @@ public class Graph<T> implements GraphADT<T> {
      * @param vertex vertex to be removed
      */
     public void removeVertex(T vertex) {
-        for (int i = 0; i < numVertices; i++) {
-            if (vertex.equals(vertices[i])) {
-                removeVertex(i);
-                return;
-            }
-        }
+        removeVertex(getIndex(vertex));
     }
 
     /**
@@ -196,29 +195,29 @@ public class Graph<T> implements GraphADT<T> {
         boolean found;
         LinkedStack<Integer> traversalStack = new LinkedStack<Integer>();
         ArrayUnorderedList<T> resultList = new ArrayUnorderedList<T>();
-        boolean[] visited = new boolean[numVertices];
+        long[] visited = new long[words(numVertices)];
 
         if (!indexIsValid(startIndex))
             return resultList.iterator();
 
-        for (int i = 0; i < numVertices; i++)
-            visited[i] = false;
-
         traversalStack.push(startIndex);
         resultList.addToRear(vertices[startIndex]);
-        visited[startIndex] = true;
+        visited[startIndex >>> 6] |= 1L << startIndex;
 
         while (!traversalStack.isEmpty()) {
             x = traversalStack.peek();
             found = false;
 
-            /** Find a vertex adjacent to x that has not been visited
-             and push it on the stack */
-            for (int i = 0; (i < numVertices) && !found; i++) {
-                if (adjMatrix[x.intValue()][i] && !visited[i]) {
+            /** Find the first vertex adjacent to x that has not been
+             visited, 64 candidates at a time, and push it on the stack */
+            long[] row = adjMatrix[x.intValue()];
+            for (int w = 0; (w < visited.length) && !found; w++) {
+                long unvisited = row[w] & ~visited[w];
+                if (unvisited != 0) {
+                    int i = (w << 6) + Long.numberOfTrailingZeros(unvisited);
                     traversalStack.push(i);
                     resultList.addToRear(vertices[i]);
-                    visited[i] = true;
+                    visited[w] |= 1L << i;
                     found = true;
                 }
             }
@@ -252,23 +251,24 @@ public class Graph<T> implements GraphADT<T> {
         if (!indexIsValid(startIndex))
             return resultList.iterator();
 
-        boolean[] visited = new boolean[numVertices];
-        for (int i = 0; i < numVertices; i++)
-            visited[i] = false;
+        long[] visited = new long[words(numVertices)];
 
         traversalQueue.enqueue(startIndex);
-        visited[startIndex] = true;
+        visited[startIndex >>> 6] |= 1L << startIndex;
 
         while (!traversalQueue.isEmpty()) {
             x = traversalQueue.dequeue();
             resultList.addToRear(vertices[x]);
 
-            /** Find all vertices adjacent to x that have not been visited
-             and queue them up */
-            for (int i = 0; i < numVertices; i++) {
-                if (adjMatrix[x][i] && !visited[i]) {
-                    traversalQueue.enqueue(i);
-                    visited[i] = true;
+            /** Find all vertices adjacent to x that have not been visited,
+             64 at a time, and queue them up */
+            long[] row = adjMatrix[x];
+            for (int w = 0; w < visited.length; w++) {
+                long unvisited = row[w] & ~visited[w];
+                visited[w] |= unvisited;
+                while (unvisited != 0) {
+                    traversalQueue.enqueue((w << 6) + Long.numberOfTrailingZeros(unvisited));
+                    unvisited &= unvisited - 1;
                 }
             }
         }
@@ -285,6 +285,52 @@ public class Graph<T> implements GraphADT<T> {
         return iteratorBFS(getIndex(startVertex));
     }
 
+    /**
+     * Returns an iterator that performs a breadth first search traversal starting at the given index, in the same
+     * order as {@link #iteratorBFS(int)}. Vertices are discovered as the iterator advances instead of before it is
+     * returned, so a caller that stops early does not pay for the whole traversal. The graph must not change while
+     * the iterator is in use
+     *
+     * @param startIndex starting index
+     * @return {@link Iterator}
+     */
+    public Iterator<T> iteratorBFSStreaming(int startIndex) {
+        return new BreadthFirstIterator<T>(this, startIndex);
+    }
+
+    /**
+     * Returns an iterator that performs a streaming breadth first search traversal starting at the given vertex
+     *
+     * @param startVertex starting vertex
+     * @return {@link Iterator}
+     */
+    public Iterator<T> iteratorBFSStreaming(T startVertex) {
+        return iteratorBFSStreaming(getIndex(startVertex));
+    }
+
+    /**
+     * Returns an iterator that performs a direction-optimizing breadth first search starting at the given index. The
+     * vertices are returned level by level, each level in ascending index order, and every level is only computed
+     * once the previous one has been consumed. The graph must not change while the iterator is in use
+     *
+     * @param startIndex starting index
+     * @return {@link Iterator}
+     * @see DirectionOptimizingBFSIterator
+     */
+    public Iterator<T> iteratorBFSDirectionOptimizing(int startIndex) {
+        return new DirectionOptimizingBFSIterator<T>(this, startIndex);
+    }
+
+    /**
+     * Returns an iterator that performs a direction-optimizing breadth first search starting at the given vertex
+     *
+     * @param startVertex starting vertex
+     * @return {@link Iterator}
+     */
+    public Iterator<T> iteratorBFSDirectionOptimizing(T startVertex) {
+        return iteratorBFSDirectionOptimizing(getIndex(startVertex));
+    }
+
 
     /**
      * Returns an iterator that contains the indices of the vertices that are in the shortest path between two
@@ -307,31 +353,38 @@ public class Graph<T> implements GraphADT<T> {
                 (startIndex == targetIndex))
             return resultList.iterator();
 
-        boolean[] visited = new boolean[numVertices];
-        for (int i = 0; i < numVertices; i++)
-            visited[i] = false;
-
-        traversalQueue.enqueue(startIndex);
-        visited[startIndex] = true;
-        pathLength[startIndex] = 0;
-        predecessor[startIndex] = -1;
-
-        while (!traversalQueue.isEmpty() && (index != targetIndex)) {
-            index = traversalQueue.dequeue();
-
-            /** Update the pathLength for each unvisited vertex adjacent
-             to the vertex at the current index. */
-            for (int i = 0; i < numVertices; i++) {
-                if (adjMatrix[index][i] && !visited[i]) {
-                    pathLength[i] = pathLength[index] + 1;
-                    predecessor[i] = index;
-                    traversalQueue.enqueue(i);
-                    visited[i] = true;
+        if (bidirectionalSearch) {
+            if (!bidirectionalBreadthFirstTree(startIndex, targetIndex, predecessor))
+                return resultList.iterator();
+        } else {
+            long[] visited = new long[words(numVertices)];
+
+            traversalQueue.enqueue(startIndex);
+            visited[startIndex >>> 6] |= 1L << startIndex;
+            pathLength[startIndex] = 0;
+            predecessor[startIndex] = -1;
+
+            while (!traversalQueue.isEmpty() && (index != targetIndex)) {
+                index = traversalQueue.dequeue();
+
+                /** Update the pathLength for each unvisited vertex adjacent
+                 to the vertex at the current index. */
+                long[] row = adjMatrix[index];
+                for (int w = 0; w < visited.length; w++) {
+                    long unvisited = row[w] & ~visited[w];
+                    visited[w] |= unvisited;
+                    while (unvisited != 0) {
+                        int i = (w << 6) + Long.numberOfTrailingZeros(unvisited);
+                        pathLength[i] = pathLength[index] + 1;
+                        predecessor[i] = index;
+                        traversalQueue.enqueue(i);
+                        unvisited &= unvisited - 1;
+                    }
                 }
             }
+            if (index != targetIndex)  // no path must have been found
+                return resultList.iterator();
         }
-        if (index != targetIndex)  // no path must have been found
-            return resultList.iterator();
 
         LinkedStack<Integer> stack = new LinkedStack<Integer>();
         index = targetIndex;
@@ -347,6 +400,109 @@ public class Graph<T> implements GraphADT<T> {
         return resultList.iterator();
     }
 
+    /**
+     * Finds the path that {@link #iteratorShortestPathIndices} would find, searching level by level from both ends.
+     * The side with the smaller frontier expands a whole level at a time until the two searches meet, which fixes the
+     * length of the shortest path. The forward search then resumes, expanding only the vertices that can still lie on
+     * a path of that length, so the predecessor of every vertex on the path is the one the forward search alone would
+     * pick
+     *
+     * @param startIndex  starting index
+     * @param targetIndex target index
+     * @param predecessor filled with the previous vertex of each vertex on the path, -1 for the start
+     * @return true if the target is reachable; false otherwise
+     */
+    protected boolean bidirectionalBreadthFirstTree(int startIndex, int targetIndex, int[] predecessor) {
+        int[] forwardQueue = new int[numVertices];
+        int[] backwardQueue = new int[numVertices];
+        int[] forwardLength = new int[numVertices];
+        int[] backwardLength = new int[numVertices];
+        long[] forwardVisited = new long[words(numVertices)];
+        long[] backwardVisited = new long[words(numVertices)];
+        int forwardHead = 0, forwardTail = 1, backwardHead = 0, backwardTail = 1;
+        int length = Integer.MAX_VALUE;
+
+        forwardQueue[0] = startIndex;
+        forwardVisited[startIndex >>> 6] |= 1L << startIndex;
+        predecessor[startIndex] = -1;
+        backwardQueue[0] = targetIndex;
+        backwardVisited[targetIndex >>> 6] |= 1L << targetIndex;
+
+        /** Expand whole levels, always on the side with the smaller frontier, until the searches meet. */
+        while (length == Integer.MAX_VALUE && forwardHead < forwardTail && backwardHead < backwardTail) {
+            if (forwardTail - forwardHead <= backwardTail - backwardHead) {
+                int levelEnd = forwardTail;
+                while (forwardHead < levelEnd) {
+                    int index = forwardQueue[forwardHead++];
+                    int first = forwardTail;
+                    forwardTail = enqueueUnvisitedNeighbours(index, forwardVisited, forwardQueue, forwardTail);
+                    for (int k = first; k < forwardTail; k++) {
+                        int i = forwardQueue[k];
+                        forwardLength[i] = forwardLength[index] + 1;
+                        predecessor[i] = index;
+                        if ((backwardVisited[i >>> 6] & (1L << i)) != 0)
+                            length = Math.min(length, forwardLength[i] + backwardLength[i]);
+                    }
+                }
+            } else {
+                int levelEnd = backwardTail;
+                while (backwardHead < levelEnd) {
+                    int index = backwardQueue[backwardHead++];
+                    int first = backwardTail;
+                    backwardTail = enqueueUnvisitedNeighbours(index, backwardVisited, backwardQueue, backwardTail);
+                    for (int k = first; k < backwardTail; k++) {
+                        int i = backwardQueue[k];
+                        backwardLength[i] = backwardLength[index] + 1;
+                        if ((forwardVisited[i >>> 6] & (1L << i)) != 0)
+                            length = Math.min(length, forwardLength[i] + backwardLength[i]);
+                    }
+                }
+            }
+        }
+        if (length == Integer.MAX_VALUE)
+            return false;
+
+        /** Every vertex the backward search has not reached is further from the target than its last level. */
+        int unreachedBound = backwardLength[backwardQueue[backwardTail - 1]] + 1;
+
+        /** Resume the forward search, skipping the vertices that cannot be on a path of the length found. */
+        while ((forwardVisited[targetIndex >>> 6] & (1L << targetIndex)) == 0) {
+            int index = forwardQueue[forwardHead++];
+            int bound = ((backwardVisited[index >>> 6] & (1L << index)) != 0)
+                    ? backwardLength[index] : unreachedBound;
+            if (forwardLength[index] + bound > length)
+                continue;
+
+            int first = forwardTail;
+            forwardTail = enqueueUnvisitedNeighbours(index, forwardVisited, forwardQueue, forwardTail);
+            for (int k = first; k < forwardTail; k++) {
+                int i = forwardQueue[k];
+                forwardLength[i] = forwardLength[index] + 1;
+                predecessor[i] = index;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Enables or disables the bidirectional search of shortest paths. The paths found are the same either way; the
+     * bidirectional search usually explores far fewer vertices when the start and the target are far apart
+     *
+     * @param bidirectional true to search from both ends; false to search from the start only
+     */
+    public void setBidirectionalSearch(boolean bidirectional) {
+        this.bidirectionalSearch = bidirectional;
+    }
+
+    /**
+     * Checks if shortest paths are searched from both ends
+     *
+     * @return true if the search is bidirectional; false otherwise
+     */
+    public boolean isBidirectionalSearch() {
+        return bidirectionalSearch;
+    }
+
     /**
      * Returns an iterator that contains the shortest path between two vertices
      *
@@ -434,11 +590,7 @@ public class Graph<T> implements GraphADT<T> {
         if (isEmpty() || !isConnected())
             return resultGraph;
 
-        resultGraph.adjMatrix = new boolean[numVertices][numVertices];
-
-        for (int i = 0; i < numVertices; i++)
-            for (int j = 0; j < numVertices; j++)
-                resultGraph.adjMatrix[i][j] = false;
+        resultGraph.adjMatrix = new long[numVertices][words(numVertices)];
 
         resultGraph.vertices = (T[]) (new Object[numVertices]);
         boolean[] visited = new boolean[numVertices];
@@ -453,7 +605,7 @@ public class Graph<T> implements GraphADT<T> {
 
         /** Add all edges that are adjacent to vertex 0 to the stack. */
         for (int i = 0; i < numVertices; i++) {
-            if (!visited[i] && this.adjMatrix[0][i]) {
+            if (!visited[i] && this.hasEdge(0, i)) {
                 edge[1] = i;
                 vertexStack.push(edge.clone());
                 visited[i] = true;
@@ -467,14 +619,14 @@ public class Graph<T> implements GraphADT<T> {
             y = edge[1];
             resultGraph.vertices[y] = this.vertices[y];
             resultGraph.numVertices++;
-            resultGraph.adjMatrix[x][y] = true;
-            resultGraph.adjMatrix[y][x] = true;
+            resultGraph.adjMatrix[x][y >>> 6] |= 1L << y;
+            resultGraph.adjMatrix[y][x >>> 6] |= 1L << x;
             visited[y] = true;
 
             /** Add all unvisited edges that are adjacent to vertex y
              to the stack. */
             for (int i = 0; i < numVertices; i++) {
-                if (!visited[i] && this.adjMatrix[i][y]) {
+                if (!visited[i] && this.hasEdge(i, y)) {
                     edge[0] = y;
                     edge[1] = i;
                     vertexStack.push(edge.clone());
@@ -483,20 +635,33 @@ public class Graph<T> implements GraphADT<T> {
             }
         }
 
+        resultGraph.rebuildIndex();
         return resultGraph;
     }
 
     /**
-     * Creates new arrays to store the contents of the {@link Graph} with ten more slots
+     * Doubles the number of slots of the {@link Graph}, so that adding n vertices one by one copies O(n) vertices and
+     * O(n²) matrix cells overall
      */
     protected void expandCapacity() {
-        T[] largerVertices = (T[]) (new Object[vertices.length + 10]);
-        boolean[][] largerAdjMatrix =
-                new boolean[vertices.length * 2][vertices.length + 10];
+        expandCapacity(Math.max(DEFAULT_CAPACITY, vertices.length * 2));
+    }
+
+    /**
+     * Creates new arrays to store the contents of the {@link Graph} with the given number of slots
+     *
+     * @param capacity new number of vertex slots
+     */
+    protected void expandCapacity(int capacity) {
+        if (capacity <= vertices.length)
+            return;
+
+        T[] largerVertices = (T[]) (new Object[capacity]);
+        long[][] largerAdjMatrix = new long[capacity][words(capacity)];
 
         for (int i = 0; i < numVertices; i++) {
-            for (int j = 0; j < numVertices; j++) {
-                largerAdjMatrix[i][j] = adjMatrix[i][j];
+            for (int w = 0; w < words(numVertices); w++) {
+                largerAdjMatrix[i][w] = adjMatrix[i][w];
             }
             largerVertices[i] = vertices[i];
         }
@@ -505,6 +670,16 @@ public class Graph<T> implements GraphADT<T> {
         adjMatrix = largerAdjMatrix;
     }
 
+    /**
+     * Makes room for at least the given number of vertices at once, so that a known number of vertices can be added
+     * without growing the {@link Graph} several times
+     *
+     * @param capacity number of vertices the {@link Graph} must be able to hold
+     */
+    public void ensureCapacity(int capacity) {
+        expandCapacity(capacity);
+    }
+
     /**
      * Returns the number of vertices in the {@link Graph}
      * @return number of vertices
@@ -529,27 +704,221 @@ public class Graph<T> implements GraphADT<T> {
         if (isEmpty())
             return false;
 
-        Iterator<T> it = iteratorBFS(0);
+        long[] reached = reachableFrom(0);
         int count = 0;
 
-        while (it.hasNext()) {
-            it.next();
-            count++;
-        }
+        for (int w = 0; w < reached.length; w++)
+            count += Long.bitCount(reached[w]);
         return (count == numVertices);
     }
 
+    /**
+     * Checks if there is a path between two vertices
+     * @param startIndex starting index
+     * @param targetIndex target index
+     * @return true if the target can be reached from the start; false otherwise or if an index is not valid
+     */
+    public boolean isReachable(int startIndex, int targetIndex) {
+        if (!indexIsValid(startIndex) || !indexIsValid(targetIndex))
+            return false;
+
+        long[] reached = reachableFrom(startIndex);
+        return (reached[targetIndex >>> 6] & (1L << targetIndex)) != 0;
+    }
 
     /**
-     * Getter for the index of a given vertex
+     * Checks if there is a path between two vertices
+     * @param startVertex starting vertex
+     * @param targetVertex target vertex
+     * @return true if the target can be reached from the start; false otherwise
+     */
+    public boolean isReachable(T startVertex, T targetVertex) {
+        return isReachable(getIndex(startVertex), getIndex(targetVertex));
+    }
+
+    /**
+     * Returns the set of vertices reachable from the start, as a bitset. Each level of the search ORs the rows of the
+     * whole frontier together, so the neighbours of a vertex are merged 64 at a time
+     * @param startIndex starting index
+     * @return bitset with one bit per vertex, set if the vertex is reachable
+     */
+    protected long[] reachableFrom(int startIndex) {
+        int words = words(numVertices);
+        long[] reached = new long[words];
+        long[] frontier = new long[words];
+        long[] next = new long[words];
+
+        reached[startIndex >>> 6] |= 1L << startIndex;
+        frontier[startIndex >>> 6] |= 1L << startIndex;
+        boolean grew = true;
+
+        while (grew) {
+            for (int w = 0; w < words; w++)
+                next[w] = 0;
+
+            for (int fw = 0; fw < words; fw++) {
+                long bits = frontier[fw];
+                while (bits != 0) {
+                    long[] row = adjMatrix[(fw << 6) + Long.numberOfTrailingZeros(bits)];
+                    for (int w = 0; w < words; w++)
+                        next[w] |= row[w];
+                    bits &= bits - 1;
+                }
+            }
+
+            grew = false;
+            for (int w = 0; w < words; w++) {
+                next[w] &= ~reached[w];
+                reached[w] |= next[w];
+                if (next[w] != 0)
+                    grew = true;
+            }
+
+            long[] swap = frontier;
+            frontier = next;
+            next = swap;
+        }
+        return reached;
+    }
+
+    /**
+     * Returns the number of edges of a vertex
+     * @param index vertex index
+     * @return number of neighbours
+     */
+    protected int degree(int index) {
+        long[] row = adjMatrix[index];
+        int result = 0;
+        for (int w = 0; w < row.length; w++)
+            result += Long.bitCount(row[w]);
+        return result;
+    }
+
+    /**
+     * Adds the neighbours of a vertex to a bitset, 64 at a time
+     * @param index vertex index
+     * @param set bitset with one bit per vertex
+     */
+    protected void addNeighbours(int index, long[] set) {
+        long[] row = adjMatrix[index];
+        for (int w = 0; w < set.length; w++)
+            set[w] |= row[w];
+    }
+
+    /**
+     * Checks if a vertex has a neighbour in a bitset, 64 candidates at a time
+     * @param index vertex index
+     * @param set bitset with one bit per vertex
+     * @return true if at least one neighbour is in the set
+     */
+    protected boolean hasNeighbourIn(int index, long[] set) {
+        long[] row = adjMatrix[index];
+        for (int w = 0; w < set.length; w++)
+            if ((row[w] & set[w]) != 0)
+                return true;
+        return false;
+    }
+
+    /**
+     * Marks the unvisited neighbours of a vertex as visited and appends them to a queue, in ascending index order
+     * @param index vertex index
+     * @param visited bitset of visited vertices
+     * @param queue queue of vertex indices
+     * @param tail position after the last element of the queue
+     * @return new tail of the queue
+     */
+    protected int enqueueUnvisitedNeighbours(int index, long[] visited, int[] queue, int tail) {
+        long[] row = adjMatrix[index];
+        for (int w = 0; w < visited.length; w++) {
+            long unvisited = row[w] & ~visited[w];
+            visited[w] |= unvisited;
+            while (unvisited != 0) {
+                queue[tail++] = (w << 6) + Long.numberOfTrailingZeros(unvisited);
+                unvisited &= unvisited - 1;
+            }
+        }
+        return tail;
+    }
+
+    /**
+     * Checks if there is an edge between two vertices
+     * @param index1 first index
+     * @param index2 second index
+     * @return true if the edge exists
+     */
+    protected boolean hasEdge(int index1, int index2) {
+        return (adjMatrix[index1][index2 >>> 6] & (1L << index2)) != 0;
+    }
+
+    /**
+     * Removes every edge of the vertex at the given index, clearing its row and its column
+     * @param index vertex index
+     */
+    protected void clearVertexBits(int index) {
+        long[] row = adjMatrix[index];
+        for (int w = 0; w < row.length; w++)
+            row[w] = 0;
+
+        long mask = ~(1L << index);
+        for (int i = 0; i < adjMatrix.length; i++)
+            adjMatrix[i][index >>> 6] &= mask;
+    }
+
+    /**
+     * Removes the bit at the given position from a row, moving every higher bit one position down
+     * @param row bitset row
+     * @param index position of the bit to remove
+     */
+    protected static void removeBit(long[] row, int index) {
+        int word = index >>> 6;
+        long low = row[word] & ((1L << index) - 1);
+        long high = (row[word] >>> 1) & ~((1L << index) - 1);
+        row[word] = low | high;
+
+        for (int w = word + 1; w < row.length; w++) {
+            row[w - 1] |= row[w] << 63;
+            row[w] >>>= 1;
+        }
+    }
+
+    /**
+     * Returns the number of 64 bit words needed for the given number of bits
+     * @param bits number of bits
+     * @return number of words
+     */
+    protected static int words(int bits) {
+        return (bits + 63) >>> 6;
+    }
+
+
+    /**
+     * Getter for the index of a given vertex. The index is looked up in a hash table, so the vertex type must
+     * implement hashCode consistently with equals
      * @param vertex target vertex
-     * @return index; -1 if vertex not found
+     * @return index of the first vertex equal to the given one; -1 if vertex not found
      */
     public int getIndex(T vertex) {
+        Integer index = vertexIndex.get(vertex);
+        return (index == null) ? -1 : index;
+    }
+
+    /**
+     * Adds the vertex at the given index to the hash table, unless an equal vertex already has a lower index
+     * @param index index of the vertex
+     */
+    protected void indexVertex(int index) {
+        T vertex = vertices[index];
+        if (vertex != null && !vertexIndex.containsKey(vertex))
+            vertexIndex.put(vertex, index);
+    }
+
+    /**
+     * Rebuilds the hash table of vertex indices, after the vertices array has been shifted or replaced
+     */
+    protected void rebuildIndex() {
+        vertexIndex.clear();
         for (int i = 0; i < numVertices; i++)
-            if (vertices[i].equals(vertex))
-                return i;
-        return -1;
+            indexVertex(i);
     }
 
     /**
@@ -576,4 +945,4 @@ public class Graph<T> implements GraphADT<T> {
         return vertices;
     }
 
-}
\ No newline at end of file
+}
\ No newline at end of file
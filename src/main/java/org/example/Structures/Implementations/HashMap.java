@@ -0,0 +1,198 @@
+package org.example.Structures.Implementations;
+
+import org.example.Structures.Interfaces.MapADT;
+
+/**
+ * Hash table with open addressing and linear probing. Keys and values are kept in two parallel arrays, so a lookup
+ * usually touches a single slot and no node is allocated per entry. The table doubles whenever it becomes more than
+ * half full. Null keys are not supported.
+ *
+ * @param <K> type of the keys, which must implement hashCode consistently with equals
+ * @param <V> type of the values
+ */
+public class HashMap<K, V> implements MapADT<K, V> {
+    protected final int DEFAULT_CAPACITY = 16;
+    private K[] keys;     // keys of the entries, null for an empty slot
+    private V[] values;   // values parallel to the keys
+    private int count;
+
+    /**
+     * Creates an empty map with the default capacity
+     */
+    public HashMap() {
+        this.keys = newArray(DEFAULT_CAPACITY);
+        this.values = newArray(DEFAULT_CAPACITY);
+        this.count = 0;
+    }
+
+    /**
+     * Associates the value with the key, replacing any previous value
+     *
+     * @param key   key of the entry
+     * @param value value of the entry
+     * @return previous value; null if there was none
+     */
+    public V put(K key, V value) {
+        if (key == null)
+            throw new IllegalArgumentException("Null keys are not supported");
+
+        if ((count + 1) * 2 > keys.length)
+            expandCapacity();
+
+        int slot = findSlot(key, keys);
+        V previous = values[slot];
+        if (keys[slot] == null) {
+            keys[slot] = key;
+            count++;
+        }
+        values[slot] = value;
+        return previous;
+    }
+
+    /**
+     * Returns the value associated with the key
+     *
+     * @param key key to look up
+     * @return value; null if the key is not in the map
+     */
+    public V get(K key) {
+        if (key == null)
+            return null;
+        return values[findSlot(key, keys)];
+    }
+
+    /**
+     * Removes the entry of the key. The entries that follow it in the same probe sequence are moved back, so no
+     * deleted markers are left behind
+     *
+     * @param key key to remove
+     * @return removed value; null if the key is not in the map
+     */
+    public V remove(K key) {
+        if (key == null)
+            return null;
+
+        int slot = findSlot(key, keys);
+        if (keys[slot] == null)
+            return null;
+
+        V removed = values[slot];
+        keys[slot] = null;
+        values[slot] = null;
+        count--;
+
+        int mask = keys.length - 1;
+        int next = (slot + 1) & mask;
+        while (keys[next] != null) {
+            int home = hash(keys[next]) & mask;
+            /** Move the entry back if the empty slot lies between its home slot and its current slot */
+            if (((next - home) & mask) >= ((next - slot) & mask)) {
+                keys[slot] = keys[next];
+                values[slot] = values[next];
+                keys[next] = null;
+                values[next] = null;
+                slot = next;
+            }
+            next = (next + 1) & mask;
+        }
+        return removed;
+    }
+
+    /**
+     * Checks if the map has an entry for the key
+     *
+     * @param key key to check
+     * @return true if the key is in the map; false otherwise
+     */
+    public boolean containsKey(K key) {
+        if (key == null)
+            return false;
+        return keys[findSlot(key, keys)] != null;
+    }
+
+    /**
+     * Removes every entry from the map, keeping its capacity
+     */
+    public void clear() {
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = null;
+            values[i] = null;
+        }
+        count = 0;
+    }
+
+    /**
+     * Checks if the map is empty
+     *
+     * @return true if empty; false otherwise
+     */
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Returns the number of entries in the map
+     *
+     * @return number of entries
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Returns the slot holding the key or, if it is not in the table, the empty slot where it would be placed
+     *
+     * @param key   key to look for
+     * @param table table of keys to search
+     * @return slot index
+     */
+    private int findSlot(K key, K[] table) {
+        int mask = table.length - 1;
+        int slot = hash(key) & mask;
+
+        while (table[slot] != null && !table[slot].equals(key))
+            slot = (slot + 1) & mask;
+        return slot;
+    }
+
+    /**
+     * Spreads the bits of the hash code so that keys with similar hash codes do not share the same slots
+     *
+     * @param key key to hash
+     * @return spread hash code
+     */
+    private int hash(K key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Doubles the table and places every entry again
+     */
+    private void expandCapacity() {
+        K[] oldKeys = keys;
+        V[] oldValues = values;
+        keys = newArray(oldKeys.length * 2);
+        values = newArray(oldKeys.length * 2);
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                int slot = findSlot(oldKeys[i], keys);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Creates an array for the keys or the values of the table
+     *
+     * @param length length of the array
+     * @param <E>    type of the elements of the array
+     * @return new array with every slot null
+     */
+    @SuppressWarnings("unchecked")
+    private static <E> E[] newArray(int length) {
+        return (E[]) (new Object[length]);
+    }
+}
@@ -0,0 +1,307 @@
+package org.example.Structures.Implementations;
+
+/**
+ * Best paths towards one target over a {@link Network} where entering each vertex adds a gain to a budget of points,
+ * kept up to date while the gains change. It is Lifelong Planning A* without a heuristic, grown backwards from the
+ * target: every vertex keeps the points lost on its best path to the target, and a change of gain only revisits the
+ * vertices whose paths it can affect, settling just enough of them to answer for the given start.
+ *
+ * <p>Since the tree is rooted at the target, the start may change freely between queries. Paths that lose the same
+ * points are resolved in favour of the one with fewer edges, so they match the points and the number of edges found
+ * by {@link ResourcePathSearch} when no gain is positive. A positive gain counts as no loss, since walking back and
+ * forth between two vertices could otherwise add points without end: the tree keeps the path that loses the fewest
+ * points on the vertices that take some, and any gain on the way is left on top, so a path never ends with fewer
+ * points than its start less {@link #getCost}. Unlike the greedy answer of {@link ResourcePathSearch}, the path does
+ * not go out of its way to collect a gain.</p>
+ *
+ * <p>Every change to the gains must be reported through {@link #gainChanged}. A different target, a different gain
+ * array, or a change to the vertices or edges of the network starts the tree again.</p>
+ */
+public class IncrementalPathPlanner {
+    /** Points lost by a vertex that cannot reach the target. */
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private final Network<?> network;
+    private int[] gain;             // gain array the tree was built for
+    private int[] cost;             // points lost on entering each vertex, the gain with the sign reversed, at least 0
+    private int[] distance;         // points lost from each vertex to the target, as last settled
+    private int[] distanceHops;
+    private int[] lookahead;        // best points lost through the settled distance of a neighbour
+    private int[] lookaheadHops;
+    private int[] next;             // neighbour that gives the lookahead, -1 if there is none
+    private IndexedMinHeap heap;    // vertices whose distance and lookahead differ
+    private int target;
+    private int modCount;
+    private int expansions;
+
+    /**
+     * Creates a planner over the given network
+     *
+     * @param network network to plan over
+     */
+    public IncrementalPathPlanner(Network<?> network) {
+        this.network = network;
+        this.target = -1;
+    }
+
+    /**
+     * Brings the paths from the start to the target up to date with the gains
+     *
+     * @param startIndex  starting index
+     * @param targetIndex target index
+     * @param gain        points added when entering each vertex, by index
+     * @return true if the paths are up to date, even if the target cannot be reached; false if an index is not valid
+     */
+    public boolean plan(int startIndex, int targetIndex, int[] gain) {
+        expansions = 0;
+        if (!network.indexIsValid(startIndex) || !network.indexIsValid(targetIndex))
+            return false;
+
+        if (targetIndex != target || gain != this.gain || modCount != network.modificationCount()
+                || distance.length < network.numVertices)
+            reset(targetIndex, gain);
+
+        computePaths(startIndex);
+        return true;
+    }
+
+    /**
+     * Records that the gain of a vertex has changed, and marks the vertices whose best path goes through it, or could
+     * now go through it, to be settled again
+     *
+     * @param index vertex index
+     * @param gain  new gain of the vertex
+     */
+    public void gainChanged(int index, int gain) {
+        if (target == -1 || index < 0 || index >= cost.length || cost[index] == lost(gain))
+            return;
+
+        int previous = cost[index];
+        cost[index] = lost(gain);
+
+        if (distance[index] == UNREACHABLE)
+            return;
+
+        int through = add(cost[index], distance[index]);
+        for (int e = network.adjacency.firstEdge(index); e != -1; e = network.adjacency.nextEdge(index, e)) {
+            int neighbour = network.adjacency.edgeTarget(index, e);
+            if (neighbour == target)
+                continue;
+
+            if (cost[index] < previous) {
+                if (less(through, distanceHops[index] + 1, lookahead[neighbour], lookaheadHops[neighbour])) {
+                    lookahead[neighbour] = through;
+                    lookaheadHops[neighbour] = distanceHops[index] + 1;
+                    next[neighbour] = index;
+                    queue(neighbour);
+                }
+            } else if (next[neighbour] == index) {
+                recompute(neighbour);
+                queue(neighbour);
+            }
+        }
+    }
+
+    /**
+     * Returns the points lost on the best path from a vertex to the target, not counting positive gains, which is
+     * exact for the start of the last plan and for every vertex on its path
+     *
+     * @param index vertex index
+     * @return points lost; {@link #UNREACHABLE} if the target cannot be reached
+     */
+    public int getCost(int index) {
+        return distance[index];
+    }
+
+    /**
+     * Returns the number of edges of the best path from a vertex to the target
+     *
+     * @param index vertex index
+     * @return number of edges; meaningless if the target cannot be reached
+     */
+    public int getHops(int index) {
+        return distanceHops[index];
+    }
+
+    /**
+     * Returns the vertex that follows the given one on its best path to the target
+     *
+     * @param index vertex index
+     * @return next index; -1 for the target and for vertices that cannot reach it
+     */
+    public int getNext(int index) {
+        return (index == target) ? -1 : next[index];
+    }
+
+    /**
+     * Returns the number of vertices settled by the last plan
+     *
+     * @return number of expansions
+     */
+    public int getExpansions() {
+        return expansions;
+    }
+
+    /**
+     * Starts the tree again for the given target and gains
+     *
+     * @param targetIndex target index
+     * @param gain        points added when entering each vertex, by index
+     */
+    private void reset(int targetIndex, int[] gain) {
+        int size = network.numVertices;
+        this.gain = gain;
+        this.target = targetIndex;
+        this.modCount = network.modificationCount();
+        this.cost = new int[size];
+        this.distance = new int[size];
+        this.distanceHops = new int[size];
+        this.lookahead = new int[size];
+        this.lookaheadHops = new int[size];
+        this.next = new int[size];
+        this.heap = new IndexedMinHeap(size);
+
+        for (int i = 0; i < size; i++) {
+            cost[i] = lost(gain[i]);
+            distance[i] = UNREACHABLE;
+            lookahead[i] = UNREACHABLE;
+            next[i] = -1;
+        }
+
+        lookahead[targetIndex] = 0;
+        lookaheadHops[targetIndex] = 0;
+        heap.add(targetIndex, 0, 0);
+    }
+
+    /**
+     * Settles vertices in order of their points lost until the start is settled and no vertex waiting could give it
+     * a better path
+     *
+     * @param startIndex starting index
+     */
+    private void computePaths(int startIndex) {
+        while (!heap.isEmpty()) {
+            int index = heap.findMin();
+            boolean startSettled = distance[startIndex] == lookahead[startIndex]
+                    && distanceHops[startIndex] == lookaheadHops[startIndex];
+            if (startSettled && !less(keyCost(index), keyHops(index), distance[startIndex], distanceHops[startIndex]))
+                break;
+
+            heap.removeMin();
+            expansions++;
+
+            if (less(lookahead[index], lookaheadHops[index], distance[index], distanceHops[index])) {
+                /** The distance went down: it can only improve the lookahead of the neighbours */
+                distance[index] = lookahead[index];
+                distanceHops[index] = lookaheadHops[index];
+
+                int through = add(cost[index], distance[index]);
+                for (int e = network.adjacency.firstEdge(index); e != -1;
+                     e = network.adjacency.nextEdge(index, e)) {
+                    int neighbour = network.adjacency.edgeTarget(index, e);
+                    if (neighbour != target && less(through, distanceHops[index] + 1,
+                            lookahead[neighbour], lookaheadHops[neighbour])) {
+                        lookahead[neighbour] = through;
+                        lookaheadHops[neighbour] = distanceHops[index] + 1;
+                        next[neighbour] = index;
+                        queue(neighbour);
+                    }
+                }
+            } else {
+                /** The distance went up: the neighbours that relied on it look for another way */
+                distance[index] = UNREACHABLE;
+                distanceHops[index] = 0;
+                queue(index);
+
+                for (int e = network.adjacency.firstEdge(index); e != -1;
+                     e = network.adjacency.nextEdge(index, e)) {
+                    int neighbour = network.adjacency.edgeTarget(index, e);
+                    if (neighbour != target && next[neighbour] == index) {
+                        recompute(neighbour);
+                        queue(neighbour);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Sets the lookahead of a vertex from the settled distances of all its neighbours
+     *
+     * @param index vertex index, other than the target
+     */
+    private void recompute(int index) {
+        lookahead[index] = UNREACHABLE;
+        lookaheadHops[index] = 0;
+        next[index] = -1;
+
+        for (int e = network.adjacency.firstEdge(index); e != -1; e = network.adjacency.nextEdge(index, e)) {
+            int neighbour = network.adjacency.edgeTarget(index, e);
+            if (distance[neighbour] == UNREACHABLE)
+                continue;
+
+            int through = add(cost[neighbour], distance[neighbour]);
+            if (less(through, distanceHops[neighbour] + 1, lookahead[index], lookaheadHops[index])) {
+                lookahead[index] = through;
+                lookaheadHops[index] = distanceHops[neighbour] + 1;
+                next[index] = neighbour;
+            }
+        }
+    }
+
+    /**
+     * Puts a vertex in the heap under the lower of its distance and lookahead, or takes it out if they are equal
+     *
+     * @param index vertex index
+     */
+    private void queue(int index) {
+        if (distance[index] == lookahead[index] && distanceHops[index] == lookaheadHops[index])
+            heap.remove(index);
+        else
+            heap.add(index, keyCost(index), keyHops(index));
+    }
+
+    /**
+     * Returns the points lost of the lower of the distance and the lookahead of a vertex
+     */
+    private int keyCost(int index) {
+        return less(lookahead[index], lookaheadHops[index], distance[index], distanceHops[index])
+                ? lookahead[index] : distance[index];
+    }
+
+    /**
+     * Returns the number of edges of the lower of the distance and the lookahead of a vertex
+     */
+    private int keyHops(int index) {
+        return less(lookahead[index], lookaheadHops[index], distance[index], distanceHops[index])
+                ? lookaheadHops[index] : distanceHops[index];
+    }
+
+    /**
+     * Returns the points lost on entering a vertex with the given gain, which is none for a positive gain
+     */
+    private static int lost(int gain) {
+        return (gain > 0) ? 0 : -gain;
+    }
+
+    /**
+     * Adds two amounts of points lost, keeping {@link #UNREACHABLE} as the largest
+     */
+    private static int add(int cost, int distance) {
+        if (distance == UNREACHABLE)
+            return UNREACHABLE;
+        long sum = (long) cost + distance;
+        return (sum >= UNREACHABLE) ? UNREACHABLE : (int) sum;
+    }
+
+    /**
+     * Compares two paths by the points they lose and then by number of edges. Unreachable paths are all equal
+     *
+     * @return true if the first path is better than the second
+     */
+    private static boolean less(int cost, int hops, int otherCost, int otherHops) {
+        if (cost != otherCost)
+            return cost < otherCost;
+        return cost != UNREACHABLE && hops < otherHops;
+    }
+}
@@ -0,0 +1,237 @@
+package org.example.Structures.Implementations;
+
+import org.example.Structures.Exceptions.EmptyCollectionException;
+
+/**
+ * Array-based binary min heap of integer ids (such as vertex indices) with a priority per id. Every id is in the heap
+ * at most once and its priority can be lowered in place, so graph searches do not need to push duplicates.
+ *
+ * <p>Ids are ordered by their key, then by a secondary integer tie key and finally by the id itself, so equal keys are
+ * always resolved in the same way.</p>
+ */
+public class IndexedMinHeap {
+    private final int[] heap;       // ids ordered as a binary heap
+    private final int[] position;   // position of each id in the heap, -1 if absent
+    private final double[] keys;    // primary priority of each id
+    private final int[] ties;       // secondary priority of each id
+    private int count;
+
+    /**
+     * Creates an empty heap for ids between 0 and capacity - 1
+     *
+     * @param capacity number of possible ids
+     */
+    public IndexedMinHeap(int capacity) {
+        this.heap = new int[capacity];
+        this.position = new int[capacity];
+        this.keys = new double[capacity];
+        this.ties = new int[capacity];
+        this.count = 0;
+
+        for (int i = 0; i < capacity; i++)
+            position[i] = -1;
+    }
+
+    /**
+     * Checks if the heap is empty
+     *
+     * @return true if empty; false otherwise
+     */
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Returns the number of ids in the heap
+     *
+     * @return number of ids
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Checks if an id is in the heap
+     *
+     * @param id id to check
+     * @return true if the id is in the heap
+     */
+    public boolean contains(int id) {
+        return position[id] != -1;
+    }
+
+    /**
+     * Returns the key of an id that is, or has been, in the heap
+     *
+     * @param id id
+     * @return key of the id
+     */
+    public double getKey(int id) {
+        return keys[id];
+    }
+
+    /**
+     * Adds an id with the given priority. If the id is already in the heap its priority is replaced
+     *
+     * @param id  id to add
+     * @param key primary priority
+     * @param tie secondary priority, used when the keys are equal
+     */
+    public void add(int id, double key, int tie) {
+        if (contains(id)) {
+            update(id, key, tie);
+            return;
+        }
+
+        keys[id] = key;
+        ties[id] = tie;
+        heap[count] = id;
+        position[id] = count;
+        count++;
+        heapifyUp(count - 1);
+    }
+
+    /**
+     * Replaces the priority of an id that is already in the heap
+     *
+     * @param id  id to update
+     * @param key new primary priority
+     * @param tie new secondary priority
+     */
+    public void update(int id, double key, int tie) {
+        boolean decreased = (key < keys[id]) || (key == keys[id] && tie < ties[id]);
+        keys[id] = key;
+        ties[id] = tie;
+
+        if (decreased)
+            heapifyUp(position[id]);
+        else
+            heapifyDown(position[id]);
+    }
+
+    /**
+     * Removes an id from the heap, if it is there
+     *
+     * @param id id to remove
+     */
+    public void remove(int id) {
+        int index = position[id];
+        if (index == -1)
+            return;
+
+        count--;
+        position[id] = -1;
+        if (index < count) {
+            int last = heap[count];
+            heap[index] = last;
+            position[last] = index;
+            if (index > 0 && less(last, heap[(index - 1) / 2]))
+                heapifyUp(index);
+            else
+                heapifyDown(index);
+        }
+    }
+
+    /**
+     * Returns the id with the lowest priority without removing it
+     *
+     * @return id with the lowest priority
+     * @throws EmptyCollectionException thrown if the heap is empty
+     */
+    public int findMin() throws EmptyCollectionException {
+        if (isEmpty())
+            throw new EmptyCollectionException("Empty Heap");
+
+        return heap[0];
+    }
+
+    /**
+     * Removes and returns the id with the lowest priority
+     *
+     * @return id with the lowest priority
+     * @throws EmptyCollectionException thrown if the heap is empty
+     */
+    public int removeMin() throws EmptyCollectionException {
+        if (isEmpty())
+            throw new EmptyCollectionException("Empty Heap");
+
+        int min = heap[0];
+        count--;
+        position[min] = -1;
+
+        if (count > 0) {
+            heap[0] = heap[count];
+            position[heap[0]] = 0;
+            heapifyDown(0);
+        }
+        return min;
+    }
+
+    /**
+     * Removes every id from the heap
+     */
+    public void clear() {
+        for (int i = 0; i < count; i++)
+            position[heap[i]] = -1;
+        count = 0;
+    }
+
+    /**
+     * Moves the id at the given position up until its parent has a lower priority
+     *
+     * @param index heap position
+     */
+    private void heapifyUp(int index) {
+        int id = heap[index];
+
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (!less(id, heap[parent]))
+                break;
+            heap[index] = heap[parent];
+            position[heap[index]] = index;
+            index = parent;
+        }
+        heap[index] = id;
+        position[id] = index;
+    }
+
+    /**
+     * Moves the id at the given position down until both children have a higher priority
+     *
+     * @param index heap position
+     */
+    private void heapifyDown(int index) {
+        int id = heap[index];
+
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= count)
+                break;
+            if (child + 1 < count && less(heap[child + 1], heap[child]))
+                child++;
+            if (!less(heap[child], id))
+                break;
+            heap[index] = heap[child];
+            position[heap[index]] = index;
+            index = child;
+        }
+        heap[index] = id;
+        position[id] = index;
+    }
+
+    /**
+     * Compares the priority of two ids
+     *
+     * @param a first id
+     * @param b second id
+     * @return true if a comes before b
+     */
+    private boolean less(int a, int b) {
+        if (keys[a] != keys[b])
+            return keys[a] < keys[b];
+        if (ties[a] != ties[b])
+            return ties[a] < ties[b];
+        return a < b;
+    }
+}
@@ -0,0 +1,377 @@
+package org.example.Structures.Implementations;
+
+import org.example.Structures.Exceptions.EmptyCollectionException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Loopless paths between two vertices of a {@link Network} in order of weight, found one at a time with Yen's
+ * algorithm. Each call to {@link #next()} only does the work for the next path: it branches off the last path found at
+ * each vertex from where that path left its parent (Lawler's refinement), and keeps the candidates in a heap.
+ *
+ * <p>Every branch needs the shortest path from its first vertex to the target that avoids the vertices before it and
+ * the edges already taken by earlier paths with the same beginning. A shortest path tree towards the target is built
+ * once, and its path from the branch vertex is used directly when it avoids those; otherwise an A* search guided by
+ * the distances of the tree finds the branch, usually after expanding only a few vertices.</p>
+ *
+ * <p>The network must not change while the paths are enumerated. Paths of equal weight come out in the order their
+ * candidates were found.</p>
+ *
+ * @param <T> type of the vertices
+ */
+public class KShortestPaths<T> implements Iterator<ArrayUnorderedList<T>> {
+    protected final int DEFAULT_CAPACITY = 10;
+    private final Network<T> network;
+    private final int targetIndex;
+    private final double[] treeWeight;      // weight of the shortest path from each vertex to the target
+    private final int[] treeNext;           // next vertex on that path, -1 at the target and unreachable vertices
+
+    private int[][] accepted;               // paths returned so far, as vertex indices
+    private int[] acceptedDeviation;        // vertex where each of them left the path it branched from
+    private int acceptedCount;
+    private boolean branched;               // whether the last accepted path has been branched
+
+    private int[][] candidates;
+    private double[] candidateWeight;
+    private int[] candidateDeviation;
+    private int candidateCount;
+    private final DoubleIntHeap heap;       // pending candidates by weight
+
+    private double lastWeight;
+
+    /** Working state of the branch searches */
+    private final boolean[] blocked;
+    private final boolean[] skipped;
+    private final double[] searchWeight;
+    private final int[] searchHops;
+    private final int[] searchPredecessor;
+    private final boolean[] searchSettled;
+    private final IndexedMinHeap searchHeap;
+
+    /**
+     * Prepares the enumeration of the paths between two vertices, building the shortest path tree towards the target
+     *
+     * @param network     network to search
+     * @param startIndex  starting index
+     * @param targetIndex target index
+     */
+    public KShortestPaths(Network<T> network, int startIndex, int targetIndex) {
+        int size = network.numVertices;
+        this.network = network;
+        this.targetIndex = targetIndex;
+        this.treeWeight = new double[size];
+        this.treeNext = new int[size];
+        this.accepted = new int[DEFAULT_CAPACITY][];
+        this.acceptedDeviation = new int[DEFAULT_CAPACITY];
+        this.candidates = new int[DEFAULT_CAPACITY][];
+        this.candidateWeight = new double[DEFAULT_CAPACITY];
+        this.candidateDeviation = new int[DEFAULT_CAPACITY];
+        this.heap = new DoubleIntHeap();
+        this.blocked = new boolean[size];
+        this.skipped = new boolean[size];
+        this.searchWeight = new double[size];
+        this.searchHops = new int[size];
+        this.searchPredecessor = new int[size];
+        this.searchSettled = new boolean[size];
+        this.searchHeap = new IndexedMinHeap(size);
+        this.branched = true;
+
+        if (!network.indexIsValid(startIndex) || !network.indexIsValid(targetIndex))
+            return;
+
+        network.shortestPathTree(targetIndex, -1, treeWeight, treeNext, new int[size]);
+        if (treeWeight[startIndex] == Double.POSITIVE_INFINITY)
+            return;
+
+        int[] first = treePath(startIndex, new int[0], 0);
+        addCandidate(first, treeWeight[startIndex], 0);
+    }
+
+    /**
+     * Checks if there is another path
+     *
+     * @return true if there is another path; false otherwise
+     */
+    @Override
+    public boolean hasNext() {
+        if (!branched) {
+            branch(accepted[acceptedCount - 1], acceptedDeviation[acceptedCount - 1]);
+            branched = true;
+        }
+        return !heap.isEmpty();
+    }
+
+    /**
+     * Returns the next path, from the start to the target, with the lowest weight among the paths not returned yet
+     *
+     * @return the vertices of the path
+     * @throws NoSuchElementException if there are no more paths
+     */
+    @Override
+    public ArrayUnorderedList<T> next() {
+        int[] path = nextIndices();
+        ArrayUnorderedList<T> result = new ArrayUnorderedList<>();
+        for (int index : path)
+            result.addToRear(network.vertices[index]);
+        return result;
+    }
+
+    /**
+     * Returns the next path as vertex indices, from the start to the target
+     *
+     * @return the indices of the path
+     * @throws NoSuchElementException if there are no more paths
+     */
+    public int[] nextIndices() {
+        if (!hasNext())
+            throw new NoSuchElementException("No more paths");
+
+        int candidate;
+        try {
+            candidate = heap.removeMin();
+        } catch (EmptyCollectionException e) {
+            throw new NoSuchElementException("No more paths");
+        }
+
+        if (acceptedCount == accepted.length) {
+            int[][] larger = new int[accepted.length * 2][];
+            int[] largerDeviation = new int[accepted.length * 2];
+            for (int i = 0; i < acceptedCount; i++) {
+                larger[i] = accepted[i];
+                largerDeviation[i] = acceptedDeviation[i];
+            }
+            accepted = larger;
+            acceptedDeviation = largerDeviation;
+        }
+
+        accepted[acceptedCount] = candidates[candidate];
+        acceptedDeviation[acceptedCount] = candidateDeviation[candidate];
+        acceptedCount++;
+        candidates[candidate] = null;
+        lastWeight = candidateWeight[candidate];
+        branched = false;
+        return accepted[acceptedCount - 1].clone();
+    }
+
+    /**
+     * Returns the weight of the last path returned
+     *
+     * @return weight of the path
+     */
+    public double getWeight() {
+        return lastWeight;
+    }
+
+    /**
+     * Returns the number of paths returned so far
+     *
+     * @return number of paths
+     */
+    public int count() {
+        return acceptedCount;
+    }
+
+    /**
+     * Adds a candidate for every vertex of a path from where it left the path it branched from, each one keeping the
+     * path up to that vertex and then taking the shortest way to the target that is still unused
+     *
+     * @param path      path to branch
+     * @param deviation first vertex position to branch at
+     */
+    private void branch(int[] path, int deviation) {
+        double rootWeight = 0;
+        for (int i = 0; i < deviation; i++)
+            rootWeight += network.adjacency.getWeight(path[i], path[i + 1]);
+
+        for (int i = deviation; i < path.length - 1; i++) {
+            int spur = path[i];
+
+            for (int j = 0; j < i; j++)
+                blocked[path[j]] = true;
+            for (int k = 0; k < acceptedCount; k++)
+                if (sharesRoot(accepted[k], path, i))
+                    skipped[accepted[k][i + 1]] = true;
+
+            double spurWeight = spurPath(spur);
+            if (spurWeight != Double.POSITIVE_INFINITY) {
+                int[] candidate = (canFollowTree(spur)) ? treePath(spur, path, i)
+                        : searchedPath(spur, path, i);
+                double weight = rootWeight + spurWeight;
+                if (!isCandidate(candidate, weight))
+                    addCandidate(candidate, weight, i);
+            }
+
+            for (int j = 0; j < i; j++)
+                blocked[path[j]] = false;
+            for (int k = 0; k < acceptedCount; k++)
+                if (sharesRoot(accepted[k], path, i))
+                    skipped[accepted[k][i + 1]] = false;
+
+            rootWeight += network.adjacency.getWeight(path[i], path[i + 1]);
+        }
+    }
+
+    /**
+     * Finds the weight of the shortest way from the branch vertex to the target that avoids the blocked vertices and
+     * leaves the branch vertex by an edge that is not skipped
+     *
+     * @param spur branch vertex
+     * @return weight of the way; infinity if there is none
+     */
+    private double spurPath(int spur) {
+        if (canFollowTree(spur))
+            return treeWeight[spur];
+
+        searchHeap.clear();
+        for (int i = 0; i < network.numVertices; i++) {
+            searchWeight[i] = Double.POSITIVE_INFINITY;
+            searchSettled[i] = false;
+            searchPredecessor[i] = -1;
+        }
+        searchWeight[spur] = 0;
+        searchHops[spur] = 0;
+        searchHeap.add(spur, treeWeight[spur], 0);
+
+        while (!searchHeap.isEmpty()) {
+            int index = searchHeap.removeMin();
+            searchSettled[index] = true;
+            if (index == targetIndex)
+                return searchWeight[index];
+
+            for (int e = network.adjacency.firstEdge(index); e != -1; e = network.adjacency.nextEdge(index, e)) {
+                int next = network.adjacency.edgeTarget(index, e);
+                if (searchSettled[next] || blocked[next] || next == index || (index == spur && skipped[next])
+                        || treeWeight[next] == Double.POSITIVE_INFINITY)
+                    continue;
+
+                double weight = searchWeight[index] + network.adjacency.edgeWeight(index, e);
+                int hops = searchHops[index] + 1;
+                if (weight < searchWeight[next] || (weight == searchWeight[next] && hops < searchHops[next])) {
+                    searchWeight[next] = weight;
+                    searchHops[next] = hops;
+                    searchPredecessor[next] = index;
+                    searchHeap.add(next, weight + treeWeight[next], hops);
+                }
+            }
+        }
+        return Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Checks if the path of the tree from the branch vertex avoids the blocked vertices and the skipped first edge,
+     * in which case it is the shortest way left
+     *
+     * @param spur branch vertex
+     * @return true if the tree path can be used
+     */
+    private boolean canFollowTree(int spur) {
+        if (treeWeight[spur] == Double.POSITIVE_INFINITY)
+            return false;
+        if (spur == targetIndex)
+            return true;
+        if (skipped[treeNext[spur]])
+            return false;
+
+        for (int index = treeNext[spur]; index != -1; index = treeNext[index])
+            if (blocked[index])
+                return false;
+        return true;
+    }
+
+    /**
+     * Joins the beginning of a path with the tree path from its vertex at the given position
+     *
+     * @param spur     branch vertex
+     * @param path     path that gives the beginning
+     * @param position position of the branch vertex in the path
+     * @return the joined path
+     */
+    private int[] treePath(int spur, int[] path, int position) {
+        int length = position + 1;
+        for (int index = spur; index != targetIndex; index = treeNext[index])
+            length++;
+
+        int[] joined = new int[length];
+        for (int i = 0; i < position; i++)
+            joined[i] = path[i];
+        int at = position;
+        for (int index = spur; index != -1 && at < length; index = treeNext[index])
+            joined[at++] = index;
+        return joined;
+    }
+
+    /**
+     * Joins the beginning of a path with the way found by the last A* search from its vertex at the given position
+     *
+     * @param spur     branch vertex
+     * @param path     path that gives the beginning
+     * @param position position of the branch vertex in the path
+     * @return the joined path
+     */
+    private int[] searchedPath(int spur, int[] path, int position) {
+        int[] joined = new int[position + 1 + searchHops[targetIndex]];
+        for (int i = 0; i < position; i++)
+            joined[i] = path[i];
+        int at = joined.length - 1;
+        for (int index = targetIndex; index != -1; index = searchPredecessor[index])
+            joined[at--] = index;
+        return joined;
+    }
+
+    /**
+     * Checks if two paths have the same vertices up to the given position
+     */
+    private boolean sharesRoot(int[] path, int[] other, int position) {
+        if (path.length <= position + 1)
+            return false;
+        for (int i = 0; i <= position; i++)
+            if (path[i] != other[i])
+                return false;
+        return true;
+    }
+
+    /**
+     * Checks if a path is already a pending candidate
+     */
+    private boolean isCandidate(int[] path, double weight) {
+        for (int i = 0; i < candidateCount; i++) {
+            int[] candidate = candidates[i];
+            if (candidate == null || candidateWeight[i] != weight || candidate.length != path.length)
+                continue;
+
+            boolean same = true;
+            for (int j = 0; j < path.length && same; j++)
+                same = candidate[j] == path[j];
+            if (same)
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Stores a candidate and adds it to the heap
+     */
+    private void addCandidate(int[] path, double weight, int deviation) {
+        if (candidateCount == candidates.length) {
+            int capacity = candidates.length * 2;
+            int[][] larger = new int[capacity][];
+            double[] largerWeight = new double[capacity];
+            int[] largerDeviation = new int[capacity];
+            for (int i = 0; i < candidateCount; i++) {
+                larger[i] = candidates[i];
+                largerWeight[i] = candidateWeight[i];
+                largerDeviation[i] = candidateDeviation[i];
+            }
+            candidates = larger;
+            candidateWeight = largerWeight;
+            candidateDeviation = largerDeviation;
+        }
+
+        candidates[candidateCount] = path;
+        candidateWeight[candidateCount] = weight;
+        candidateDeviation[candidateCount] = deviation;
+        heap.add(weight, candidateCount);
+        candidateCount++;
+    }
+}
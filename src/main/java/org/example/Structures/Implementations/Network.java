@@ -1,19 +1,39 @@
 package org.example.Structures.Implementations;
 
+import org.example.Structures.ENUMS.SpanningTreeAlgorithm;
+import org.example.Structures.Interfaces.AdjacencyADT;
 import org.example.Structures.Interfaces.NetworkADT;
 
 import java.text.DecimalFormat;
 import java.util.Iterator;
 
 public class Network<T> extends Graph<T> implements NetworkADT<T> {
-    protected double[][] networkAdjMatrix;    // adjacency matrix
+    protected AdjacencyADT adjacency;    // weighted edges of the network
+    protected boolean lazyRemoval;       // whether removed vertices are left behind as tombstones
+    protected boolean[] removed;         // tombstone flag of each vertex slot
+    protected int[] freeSlots;           // stack of the slots of the tombstones
+    protected int removedCount;          // number of tombstones
+    protected int modCount;              // number of changes to the vertices and edges
 
     /**
-     * Creates an empty network
+     * Creates an empty network stored in an adjacency matrix
      */
     public Network() {
+        this(new AdjacencyMatrix());
+    }
+
+    /**
+     * Creates an empty network that keeps its edges in the given storage. An {@link AdjacencyMatrix} suits small and
+     * dense networks, while an {@link AdjacencyList} keeps sparse networks at O(degree) per vertex
+     *
+     * @param adjacency empty edge storage
+     */
+    public Network(AdjacencyADT adjacency) {
         numVertices = 0;
-        this.networkAdjMatrix = new double[DEFAULT_CAPACITY][DEFAULT_CAPACITY];
+        this.adjacency = adjacency;
+        this.removed = new boolean[vertices.length];
+        this.freeSlots = new int[vertices.length];
+        adjacency.expandCapacity(vertices.length);
     }
 
     /**
@@ -41,7 +61,7 @@ public class Network<T> extends Graph<T> implements NetworkADT<T> {
             result += "" + (i+1) + "\t";
 
             for (int j = 0; j < numVertices; j++) {
-                if (networkAdjMatrix[i][j] < Double.POSITIVE_INFINITY)
+                if (adjacency.getWeight(i, j) < Double.POSITIVE_INFINITY)
                     result += "1 ";
                 else
                     result += "0 ";
@@ -54,6 +74,8 @@ public class Network<T> extends Graph<T> implements NetworkADT<T> {
         result += "\n-------------\n";
 
         for (int i = 0; i < numVertices; i++) {
+            if (removed[i])
+                continue;
             result += "" + (i+1) + "\t";
             result += vertices[i].toString() + "\n";
         }
@@ -65,9 +87,9 @@ public class Network<T> extends Graph<T> implements NetworkADT<T> {
         DecimalFormat df = new DecimalFormat("0.00");
         for (int i = 0; i < numVertices; i++) {
             for (int j = numVertices - 1; j > i; j--) {
-                if (networkAdjMatrix[i][j] < Double.POSITIVE_INFINITY) {
+                if (adjacency.getWeight(i, j) < Double.POSITIVE_INFINITY) {
                     result += (i+1) + " to " + (j+1) + "\t";
-                    result += df.format(networkAdjMatrix[i][j]) + "km\n";
+                    result += df.format(adjacency.getWeight(i, j)) + "km\n";
                 }
             }
         }
@@ -85,6 +107,8 @@ public class Network<T> extends Graph<T> implements NetworkADT<T> {
 
         /** Print the vertex values */
         for (int i = 0; i < numVertices; i++) {
+            if (removed[i])
+                continue;
             result += "" + (i+1) + "\t";
             result += vertices[i].toString() + "\n";
         }
@@ -103,9 +127,9 @@ public class Network<T> extends Graph<T> implements NetworkADT<T> {
 
         for (int i = 0; i < numVertices; i++) {
             for (int j = numVertices - 1; j > i; j--) {
-                if (networkAdjMatrix[i][j] < Double.POSITIVE_INFINITY) {
+                if (adjacency.getWeight(i, j) < Double.POSITIVE_INFINITY) {
                     result += i + " para " + j + "\t";
-                    result += networkAdjMatrix[i][j] + "\n";
+                    result += adjacency.getWeight(i, j) + "\n";
                 }
             }
         }
@@ -123,8 +147,9 @@ public class Network<T> extends Graph<T> implements NetworkADT<T> {
      */
     public void addEdge(int index1, int index2, double weight) {
         if (indexIsValid(index1) && indexIsValid(index2)) {
-            networkAdjMatrix[index1][index2] = weight;
-            networkAdjMatrix[index2][index1] = weight;
+            adjacency.setEdge(index1, index2, weight);
+            adjacency.setEdge(index2, index1, weight);
+            modCount++;
         }
     }
 
@@ -136,7 +161,9 @@ public class Network<T> extends Graph<T> implements NetworkADT<T> {
      */
     public void removeEdge(int index1, int index2) {
         if (indexIsValid(index1) && indexIsValid(index2)) {
-            networkAdjMatrix[index1][index2] = Double.POSITIVE_INFINITY;
+            adjacency.removeEdge(index1, index2);
+            adjacency.removeEdge(index2, index1);
+            modCount++;
         }
     }
 
@@ -176,15 +203,18 @@ public class Network<T> extends Graph<T> implements NetworkADT<T> {
      * Adds a vertex to the network, expanding the capacity of the network if necessary
      */
     public void addVertex() {
+        if (removedCount > 0) {
+            reuseSlot();
+            return;
+        }
+
         if (numVertices == vertices.length)
             expandCapacity();
 
         vertices[numVertices] = null;
-        for (int i = 0; i <= numVertices; i++) {
-            networkAdjMatrix[numVertices][i] = Double.POSITIVE_INFINITY;
-            networkAdjMatrix[i][numVertices] = Double.POSITIVE_INFINITY;
-        }
+        adjacency.clearVertex(numVertices);
         numVertices++;
+        modCount++;
     }
 
     /**
@@ -194,15 +224,21 @@ public class Network<T> extends Graph<T> implements NetworkADT<T> {
      * @param vertex vertex element
      */
     public void addVertex(T vertex) {
+        if (removedCount > 0) {
+            int slot = reuseSlot();
+            vertices[slot] = vertex;
+            indexVertex(slot);
+            return;
+        }
+
         if (numVertices == vertices.length)
             expandCapacity();
 
         vertices[numVertices] = vertex;
-        for (int i = 0; i <= numVertices; i++) {
-            networkAdjMatrix[numVertices][i] = Double.POSITIVE_INFINITY;
-            networkAdjMatrix[i][numVertices] = Double.POSITIVE_INFINITY;
-        }
+        indexVertex(numVertices);
+        adjacency.clearVertex(numVertices);
         numVertices++;
+        modCount++;
     }
 
     public T getVertex(int index) {
@@ -219,19 +255,21 @@ public class Network<T> extends Graph<T> implements NetworkADT<T> {
      * @param index index of the vertex to remove
      */
     public void removeVertex(int index) {
+        if (lazyRemoval) {
+            if (indexIsValid(index))
+                tombstone(index);
+            return;
+        }
+
         if (indexIsValid(index)) {
+            adjacency.removeVertex(index, numVertices);
             numVertices--;
+            modCount++;
 
             for (int i = index; i < numVertices; i++)
                 vertices[i] = vertices[i + 1];
-
-            for (int i = index; i < numVertices; i++)
-                for (int j = 0; j <= numVertices; j++)
-                    networkAdjMatrix[i][j] = networkAdjMatrix[i + 1][j];
-
-            for (int i = index; i < numVertices; i++)
-                for (int j = 0; j < numVertices; j++)
-                    networkAdjMatrix[j][i] = networkAdjMatrix[j][i + 1];
+            vertices[numVertices] = null;
+            rebuildIndex();
         }
     }
 
@@ -241,12 +279,195 @@ public class Network<T> extends Graph<T> implements NetworkADT<T> {
      * @param vertex vertex value
      */
     public void removeVertex(T vertex) {
+        removeVertex(getIndex(vertex));
+    }
+
+    /**
+     * Removes several vertices at once. Every vertex is first left as a tombstone, which only costs the removal of
+     * its own edges; unless lazy removal is enabled, the network is then compacted in a single O(V + E) pass instead
+     * of shifting the storage once per vertex
+     *
+     * @param toRemove vertex values to remove; values that are not in the network are ignored
+     */
+    public void removeVertices(Iterable<T> toRemove) {
+        for (T vertex : toRemove) {
+            int index = getIndex(vertex);
+            if (indexIsValid(index))
+                tombstone(index);
+        }
+
+        if (!lazyRemoval)
+            compact();
+    }
+
+    /**
+     * Enables or disables lazy removal. While it is enabled, removing a vertex only removes its edges and leaves its
+     * slot behind as a tombstone, so the indices of every other vertex stay the same. New vertices take the free
+     * slots before the network grows. Disabling it compacts the network
+     *
+     * @param enabled true to leave tombstones; false to shift the later vertices on every removal
+     */
+    public void setLazyRemoval(boolean enabled) {
+        lazyRemoval = enabled;
+        if (!enabled && removedCount > 0)
+            compact();
+    }
+
+    /**
+     * Checks if lazy removal is enabled
+     *
+     * @return true if removed vertices are left as tombstones
+     */
+    public boolean isLazyRemoval() {
+        return lazyRemoval;
+    }
+
+    /**
+     * Removes every tombstone, moving the remaining vertices down so that they take the lowest indices while keeping
+     * their order. The edges are copied into a new storage in one pass
+     *
+     * @return the new index of every old index, or -1 for the tombstones, so that held indices can be translated
+     */
+    public int[] compact() {
+        int[] newIndex = new int[numVertices];
+        int live = 0;
+        for (int i = 0; i < numVertices; i++)
+            newIndex[i] = removed[i] ? -1 : live++;
+
+        if (removedCount == 0)
+            return newIndex;
+
+        AdjacencyADT compacted = adjacency.newInstance(vertices.length);
         for (int i = 0; i < numVertices; i++) {
-            if (vertex.equals(vertices[i])) {
-                removeVertex(i);
-                return;
-            }
+            if (removed[i])
+                continue;
+
+            /** Tombstones have no edges, so every target is a remaining vertex */
+            for (int e = adjacency.firstEdge(i); e != -1; e = adjacency.nextEdge(i, e))
+                compacted.setEdge(newIndex[i], newIndex[adjacency.edgeTarget(i, e)], adjacency.edgeWeight(i, e));
+            vertices[newIndex[i]] = vertices[i];
         }
+
+        for (int i = live; i < numVertices; i++)
+            vertices[i] = null;
+        for (int i = 0; i < numVertices; i++)
+            removed[i] = false;
+
+        adjacency = compacted;
+        numVertices = live;
+        removedCount = 0;
+        modCount++;
+        rebuildIndex();
+        return newIndex;
+    }
+
+    /**
+     * Leaves the vertex at the given index as a tombstone: its edges are removed and its slot is kept free, without
+     * moving any other vertex. If an equal value is stored at another index, it is only found again after compacting
+     *
+     * @param index index of a vertex that is not a tombstone
+     */
+    protected void tombstone(int index) {
+        adjacency.clearVertex(index);
+        modCount++;
+
+        Integer first = vertexIndex.get(vertices[index]);
+        if (first != null && first == index)
+            vertexIndex.remove(vertices[index]);
+
+        vertices[index] = null;
+        removed[index] = true;
+        freeSlots[removedCount] = index;
+        removedCount++;
+    }
+
+    /**
+     * Takes the most recently freed slot for a new vertex
+     *
+     * @return index of the slot, which has no edges
+     */
+    protected int reuseSlot() {
+        removedCount--;
+        int slot = freeSlots[removedCount];
+        removed[slot] = false;
+        vertices[slot] = null;
+        modCount++;
+        return slot;
+    }
+
+    /**
+     * Checks if a given index is valid, that is, within the used slots and not a tombstone
+     *
+     * @param index index to be checked
+     * @return true if valid; false if not valid
+     */
+    protected boolean indexIsValid(int index) {
+        return ((index < numVertices) && (index >= 0) && !removed[index]);
+    }
+
+    /**
+     * Returns the number of vertices in the network, not counting tombstones
+     *
+     * @return number of vertices
+     */
+    public int size() {
+        return numVertices - removedCount;
+    }
+
+    /**
+     * Returns the number of vertex slots, which bounds every vertex index. It equals {@link #size()} unless there are
+     * tombstones
+     *
+     * @return number of slots
+     */
+    public int slotCount() {
+        return numVertices;
+    }
+
+    /**
+     * Returns the number of changes made so far to the vertices and edges of the network, so that anything computed
+     * from them can tell if it is out of date
+     *
+     * @return number of changes
+     */
+    public int modificationCount() {
+        return modCount;
+    }
+
+    /**
+     * Checks if the network has no vertices, not counting tombstones
+     *
+     * @return true if empty; false if not empty
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Getter for the vertices of the network, skipping tombstones
+     *
+     * @return copy of the vertices, in index order
+     */
+    public Object[] getVertices() {
+        Object[] result = new Object[size()];
+        int count = 0;
+
+        for (int i = 0; i < numVertices; i++)
+            if (!removed[i])
+                result[count++] = vertices[i];
+        return result;
+    }
+
+    /**
+     * Returns the lowest index that is not a tombstone
+     *
+     * @return first valid index; -1 if the network is empty
+     */
+    protected int firstIndex() {
+        for (int i = 0; i < numVertices; i++)
+            if (!removed[i])
+                return i;
+        return -1;
     }
 
 
@@ -279,9 +500,9 @@ public class Network<T> extends Graph<T> implements NetworkADT<T> {
 
             /** Find a vertex adjacent to x that has not been visited
              and push it on the stack */
-            for (int i = 0; (i < numVertices) && !found; i++) {
-                if ((networkAdjMatrix[x.intValue()][i] < Double.POSITIVE_INFINITY)
-                        && !visited[i]) {
+            for (int e = adjacency.firstEdge(x); (e != -1) && !found; e = adjacency.nextEdge(x, e)) {
+                int i = adjacency.edgeTarget(x, e);
+                if (!visited[i]) {
                     traversalStack.push(i);
                     resultList.addToRear(vertices[i]);
                     visited[i] = true;
@@ -333,9 +554,9 @@ public class Network<T> extends Graph<T> implements NetworkADT<T> {
 
             /** Find all vertices adjacent to x that have not been
              visited and queue them up */
-            for (int i = 0; i < numVertices; i++) {
-                if ((networkAdjMatrix[x.intValue()][i] < Double.POSITIVE_INFINITY)
-                        && !visited[i]) {
+            for (int e = adjacency.firstEdge(x); e != -1; e = adjacency.nextEdge(x, e)) {
+                int i = adjacency.edgeTarget(x, e);
+                if (!visited[i]) {
                     traversalQueue.enqueue(i);
                     visited[i] = true;
                 }
@@ -355,6 +576,125 @@ public class Network<T> extends Graph<T> implements NetworkADT<T> {
         return iteratorBFS(getIndex(startVertex));
     }
 
+    /**
+     * Checks if the network is connected. The edges of a network live in its {@link AdjacencyADT}, so the bitset
+     * search of {@link Graph} does not apply
+     *
+     * @return true if connected; false if not connected
+     */
+    public boolean isConnected() {
+        if (isEmpty())
+            return false;
+
+        boolean[] reached = reachableIndices(firstIndex());
+        int count = 0;
+        for (int i = 0; i < numVertices; i++)
+            if (reached[i])
+                count++;
+        return (count == size());
+    }
+
+    /**
+     * Checks if there is a path between two vertices
+     *
+     * @param startIndex  starting index
+     * @param targetIndex target index
+     * @return true if the target can be reached from the start; false otherwise or if an index is not valid
+     */
+    public boolean isReachable(int startIndex, int targetIndex) {
+        if (!indexIsValid(startIndex) || !indexIsValid(targetIndex))
+            return false;
+
+        return reachableIndices(startIndex)[targetIndex];
+    }
+
+    /**
+     * Returns the number of edges of a vertex
+     *
+     * @param index vertex index
+     * @return number of neighbours
+     */
+    protected int degree(int index) {
+        return adjacency.degree(index);
+    }
+
+    /**
+     * Adds the neighbours of a vertex to a bitset
+     *
+     * @param index vertex index
+     * @param set   bitset with one bit per vertex
+     */
+    protected void addNeighbours(int index, long[] set) {
+        for (int e = adjacency.firstEdge(index); e != -1; e = adjacency.nextEdge(index, e)) {
+            int i = adjacency.edgeTarget(index, e);
+            set[i >>> 6] |= 1L << i;
+        }
+    }
+
+    /**
+     * Checks if a vertex has a neighbour in a bitset, stopping at the first one found
+     *
+     * @param index vertex index
+     * @param set   bitset with one bit per vertex
+     * @return true if at least one neighbour is in the set
+     */
+    protected boolean hasNeighbourIn(int index, long[] set) {
+        for (int e = adjacency.firstEdge(index); e != -1; e = adjacency.nextEdge(index, e)) {
+            int i = adjacency.edgeTarget(index, e);
+            if ((set[i >>> 6] & (1L << i)) != 0)
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Marks the unvisited neighbours of a vertex as visited and appends them to a queue, in ascending index order
+     *
+     * @param index   vertex index
+     * @param visited bitset of visited vertices
+     * @param queue   queue of vertex indices
+     * @param tail    position after the last element of the queue
+     * @return new tail of the queue
+     */
+    protected int enqueueUnvisitedNeighbours(int index, long[] visited, int[] queue, int tail) {
+        for (int e = adjacency.firstEdge(index); e != -1; e = adjacency.nextEdge(index, e)) {
+            int i = adjacency.edgeTarget(index, e);
+            if ((visited[i >>> 6] & (1L << i)) == 0) {
+                visited[i >>> 6] |= 1L << i;
+                queue[tail++] = i;
+            }
+        }
+        return tail;
+    }
+
+    /**
+     * Marks every vertex reachable from the start, visiting the edges through the adjacency cursor
+     *
+     * @param startIndex starting index
+     * @return array with one flag per vertex, set if the vertex is reachable
+     */
+    protected boolean[] reachableIndices(int startIndex) {
+        boolean[] reached = new boolean[numVertices];
+        int[] queue = new int[numVertices];
+        int head = 0;
+        int tail = 0;
+
+        queue[tail++] = startIndex;
+        reached[startIndex] = true;
+
+        while (head < tail) {
+            int index = queue[head++];
+            for (int e = adjacency.firstEdge(index); e != -1; e = adjacency.nextEdge(index, e)) {
+                int i = adjacency.edgeTarget(index, e);
+                if (!reached[i]) {
+                    reached[i] = true;
+                    queue[tail++] = i;
+                }
+            }
+        }
+        return reached;
+    }
+
     /**
      * Returns an iterator that contains the indices of the vertices that are in the shortest path between two given
      * vertices
@@ -365,72 +705,22 @@ public class Network<T> extends Graph<T> implements NetworkADT<T> {
      */
     protected Iterator<Integer> iteratorShortestPathIndices
     (int startIndex, int targetIndex) {
-        int index;
-        double weight;
-        int[] predecessor = new int[numVertices];
-        Heap<Double> traversalMinHeap = new Heap<>();
         ArrayUnorderedList<Integer> resultList =
                 new ArrayUnorderedList<>();
         LinkedStack<Integer> stack = new LinkedStack<>();
 
-        int[] pathIndex = new int[numVertices];
-        double[] pathWeight = new double[numVertices];
-        for (int i = 0; i < numVertices; i++)
-            pathWeight[i] = Double.POSITIVE_INFINITY;
-
-        boolean[] visited = new boolean[numVertices];
-        for (int i = 0; i < numVertices; i++)
-            visited[i] = false;
-
         if (!indexIsValid(startIndex) || !indexIsValid(targetIndex) ||
                 (startIndex == targetIndex) || isEmpty())
             return resultList.iterator();
 
-        pathWeight[startIndex] = 0;
-        predecessor[startIndex] = -1;
-        visited[startIndex] = true;
-        weight = 0;
-
-        /** Update the pathWeight for each vertex except the
-         startVertex. Notice that all vertices not adjacent
-         to the startVertex  will have a pathWeight of
-         infinity for now. */
-        for (int i = 0; i < numVertices; i++) {
-            if (!visited[i]) {
-                pathWeight[i] = pathWeight[startIndex] +
-                        networkAdjMatrix[startIndex][i];
-                predecessor[i] = startIndex;
-                traversalMinHeap.addElement(pathWeight[i]);
-            }
-        }
-
-        do {
-            weight = (traversalMinHeap.removeMin()).doubleValue();
-            traversalMinHeap.removeAllElements();
-            if (weight == Double.POSITIVE_INFINITY)  // no possible path
-                return resultList.iterator();
-            else {
-                index = getIndexOfAdjVertexWithWeightOf(visited, pathWeight,
-                        weight);
-                visited[index] = true;
-            }
+        double[] pathWeight = new double[numVertices];
+        int[] predecessor = new int[numVertices];
+        shortestPathTree(startIndex, targetIndex, pathWeight, predecessor);
 
-            /** Update the pathWeight for each vertex that has not been
-             visited and is adjacent to the last vertex that was visited.
-             Also, add each unvisited vertex to the heap. */
-            for (int i = 0; i < numVertices; i++) {
-                if (!visited[i]) {
-                    if ((networkAdjMatrix[index][i] < Double.POSITIVE_INFINITY) &&
-                            (pathWeight[index] + networkAdjMatrix[index][i]) < pathWeight[i]) {
-                        pathWeight[i] = pathWeight[index] + networkAdjMatrix[index][i];
-                        predecessor[i] = index;
-                    }
-                    traversalMinHeap.addElement(pathWeight[i]);
-                }
-            }
-        } while (!traversalMinHeap.isEmpty() && !visited[targetIndex]);
+        if (pathWeight[targetIndex] == Double.POSITIVE_INFINITY)  // no possible path
+            return resultList.iterator();
 
-        index = targetIndex;
+        int index = targetIndex;
         stack.push(index);
         do {
             index = predecessor[index];
@@ -444,25 +734,203 @@ public class Network<T> extends Graph<T> implements NetworkADT<T> {
     }
 
     /**
-     * Returns the index of the vertex that is adjacent to the vertex with the given index and also has a pathweight
-     * equal to the weight
+     * Runs Dijkstra's algorithm from the start vertex, using an {@link IndexedMinHeap} so that every vertex is in the
+     * heap at most once and its path weight is lowered in place. Paths with the same weight are resolved in favour of
+     * the one with fewer edges, and then of the vertex with the lowest index. The search stops as soon as the target
+     * vertex is settled; a target of -1 computes the whole tree
      *
-     * @param visited    array of visited elements
-     * @param pathWeight pathWeight
-     * @param weight     weight
-     * @return index
+     * @param startIndex  starting index
+     * @param targetIndex target index, or -1 to reach every vertex
+     * @param pathWeight  filled with the weight of the least weight path to each vertex, infinity if unreachable
+     * @param predecessor filled with the previous vertex of each path, -1 for the start and unreachable vertices
      */
-    protected int getIndexOfAdjVertexWithWeightOf(boolean[] visited,
-                                                  double[] pathWeight,
-                                                  double weight) {
-        for (int i = 0; i < numVertices; i++)
-            if ((pathWeight[i] == weight) && !visited[i])
-                for (int j = 0; j < numVertices; j++)
-                    if ((networkAdjMatrix[i][j] < Double.POSITIVE_INFINITY) &&
-                            visited[j])
-                        return i;
+    protected void shortestPathTree(int startIndex, int targetIndex, double[] pathWeight, int[] predecessor) {
+        shortestPathTree(startIndex, targetIndex, pathWeight, predecessor, new int[numVertices]);
+    }
 
-        return -1;  // should never get to here
+    /**
+     * Runs Dijkstra's algorithm as {@link #shortestPathTree(int, int, double[], int[])} does, also reporting the
+     * number of edges of each path
+     *
+     * @param startIndex  starting index
+     * @param targetIndex target index, or -1 to reach every vertex
+     * @param pathWeight  filled with the weight of the least weight path to each vertex, infinity if unreachable
+     * @param predecessor filled with the previous vertex of each path, -1 for the start and unreachable vertices
+     * @param pathLength  filled with the number of edges of each path; only meaningful for reachable vertices
+     */
+    protected void shortestPathTree(int startIndex, int targetIndex, double[] pathWeight, int[] predecessor,
+                                    int[] pathLength) {
+        if (bidirectionalSearch && targetIndex != -1 && targetIndex != startIndex) {
+            bidirectionalShortestPathTree(startIndex, targetIndex, pathWeight, predecessor, pathLength);
+            return;
+        }
+
+        IndexedMinHeap traversalMinHeap = new IndexedMinHeap(numVertices);
+
+        for (int i = 0; i < numVertices; i++) {
+            pathWeight[i] = Double.POSITIVE_INFINITY;
+            predecessor[i] = -1;
+            pathLength[i] = 0;
+        }
+
+        pathWeight[startIndex] = 0;
+        pathLength[startIndex] = 0;
+        traversalMinHeap.add(startIndex, 0, 0);
+
+        while (!traversalMinHeap.isEmpty()) {
+            int index = traversalMinHeap.removeMin();
+            if (index == targetIndex)
+                return;
+
+            /** Lower the pathWeight of every neighbour that can be reached
+             through the vertex that was just settled. */
+            for (int e = adjacency.firstEdge(index); e != -1; e = adjacency.nextEdge(index, e)) {
+                int i = adjacency.edgeTarget(index, e);
+                double weight = pathWeight[index] + adjacency.edgeWeight(index, e);
+                int length = pathLength[index] + 1;
+
+                if (weight < pathWeight[i] || (weight == pathWeight[i] && length < pathLength[i])) {
+                    pathWeight[i] = weight;
+                    pathLength[i] = length;
+                    predecessor[i] = index;
+                    traversalMinHeap.add(i, weight, length);
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs Dijkstra's algorithm from both ends at once, settling a vertex on the side with the smaller heap each time,
+     * until the best path seen where the searches touch cannot be beaten. That fixes the weight and the number of edges
+     * of the least weight path. The forward search then resumes and only skips the vertices whose paths to the target
+     * are strictly heavier than that path, judged by their exact distance to the target where the backward search
+     * settled them and by the lowest key left in the backward heap elsewhere. The weights are only compared, never
+     * the numbers of edges, and a vertex is only skipped when it is heavier by more than the rounding of the sums can
+     * explain, since the forward search adds the same edges in a different order than the two halves do. The
+     * vertices on the path therefore get the same weights and predecessors as with
+     * {@link #shortestPathTree(int, int, double[], int[], int[])} searching from the start alone; the entries of the
+     * vertices that are off the path are not meaningful
+     *
+     * @param startIndex  starting index
+     * @param targetIndex target index, different from the start
+     * @param pathWeight  filled with the weight of the least weight path to the vertices on it, infinity if unreachable
+     * @param predecessor filled with the previous vertex of each vertex on the path, -1 for the start
+     * @param pathLength  filled with the number of edges of the path to the vertices on it
+     */
+    protected void bidirectionalShortestPathTree(int startIndex, int targetIndex, double[] pathWeight,
+                                                 int[] predecessor, int[] pathLength) {
+        IndexedMinHeap forwardHeap = new IndexedMinHeap(numVertices);
+        IndexedMinHeap backwardHeap = new IndexedMinHeap(numVertices);
+        double[] backwardWeight = new double[numVertices];
+        int[] backwardLength = new int[numVertices];
+        boolean[] backwardSettled = new boolean[numVertices];
+
+        for (int i = 0; i < numVertices; i++) {
+            pathWeight[i] = Double.POSITIVE_INFINITY;
+            predecessor[i] = -1;
+            pathLength[i] = 0;
+            backwardWeight[i] = Double.POSITIVE_INFINITY;
+        }
+
+        pathWeight[startIndex] = 0;
+        forwardHeap.add(startIndex, 0, 0);
+        backwardWeight[targetIndex] = 0;
+        backwardHeap.add(targetIndex, 0, 0);
+
+        double bestWeight = Double.POSITIVE_INFINITY;
+        int bestLength = Integer.MAX_VALUE;
+
+        while (!forwardHeap.isEmpty() && !backwardHeap.isEmpty()) {
+            int forwardTop = forwardHeap.findMin();
+            int backwardTop = backwardHeap.findMin();
+            if (!shorter(pathWeight[forwardTop] + backwardWeight[backwardTop],
+                    pathLength[forwardTop] + backwardLength[backwardTop], bestWeight, bestLength))
+                break;
+
+            if (forwardHeap.size() <= backwardHeap.size()) {
+                int index = forwardHeap.removeMin();
+                if (index == targetIndex)
+                    return;
+
+                for (int e = adjacency.firstEdge(index); e != -1; e = adjacency.nextEdge(index, e)) {
+                    int i = adjacency.edgeTarget(index, e);
+                    double weight = pathWeight[index] + adjacency.edgeWeight(index, e);
+                    int length = pathLength[index] + 1;
+
+                    if (shorter(weight, length, pathWeight[i], pathLength[i])) {
+                        pathWeight[i] = weight;
+                        pathLength[i] = length;
+                        predecessor[i] = index;
+                        forwardHeap.add(i, weight, length);
+                    }
+                    if (shorter(weight + backwardWeight[i], length + backwardLength[i], bestWeight, bestLength)) {
+                        bestWeight = weight + backwardWeight[i];
+                        bestLength = length + backwardLength[i];
+                    }
+                }
+            } else {
+                int index = backwardHeap.removeMin();
+                backwardSettled[index] = true;
+
+                for (int e = adjacency.firstEdge(index); e != -1; e = adjacency.nextEdge(index, e)) {
+                    int i = adjacency.edgeTarget(index, e);
+                    double weight = backwardWeight[index] + adjacency.edgeWeight(index, e);
+                    int length = backwardLength[index] + 1;
+
+                    if (shorter(weight, length, backwardWeight[i], backwardLength[i])) {
+                        backwardWeight[i] = weight;
+                        backwardLength[i] = length;
+                        backwardHeap.add(i, weight, length);
+                    }
+                    if (shorter(weight + pathWeight[i], length + pathLength[i], bestWeight, bestLength)) {
+                        bestWeight = weight + pathWeight[i];
+                        bestLength = length + pathLength[i];
+                    }
+                }
+            }
+        }
+        if (bestWeight == Double.POSITIVE_INFINITY)
+            return;
+
+        /** Lowest distance to the target of the vertices the backward search has not settled. */
+        double boundWeight = Double.POSITIVE_INFINITY;
+        if (!backwardHeap.isEmpty())
+            boundWeight = backwardWeight[backwardHeap.findMin()];
+
+        /** Largest error between two sums of the edges of a simple path added in different orders. */
+        double rounding = 2.0 * numVertices * Math.ulp(bestWeight);
+
+        while (!forwardHeap.isEmpty()) {
+            int index = forwardHeap.removeMin();
+            if (index == targetIndex)
+                return;
+
+            double weight = pathWeight[index] + (backwardSettled[index] ? backwardWeight[index] : boundWeight);
+            if (weight - bestWeight > rounding)
+                continue;
+
+            for (int e = adjacency.firstEdge(index); e != -1; e = adjacency.nextEdge(index, e)) {
+                int i = adjacency.edgeTarget(index, e);
+                double nextWeight = pathWeight[index] + adjacency.edgeWeight(index, e);
+                int nextLength = pathLength[index] + 1;
+
+                if (shorter(nextWeight, nextLength, pathWeight[i], pathLength[i])) {
+                    pathWeight[i] = nextWeight;
+                    pathLength[i] = nextLength;
+                    predecessor[i] = index;
+                    forwardHeap.add(i, nextWeight, nextLength);
+                }
+            }
+        }
+    }
+
+    /**
+     * Compares two paths by weight and then by number of edges
+     *
+     * @return true if the first path is shorter than the second
+     */
+    private static boolean shorter(double weight, int length, double otherWeight, int otherLength) {
+        return weight < otherWeight || (weight == otherWeight && length < otherLength);
     }
 
     /**
@@ -497,6 +965,28 @@ public class Network<T> extends Graph<T> implements NetworkADT<T> {
                 getIndex(targetVertex));
     }
 
+    /**
+     * Returns the loopless paths between two vertices in order of weight, each one computed only when it is asked for
+     *
+     * @param startIndex  starting index
+     * @param targetIndex target index
+     * @return {@link KShortestPaths} over the paths, which must not outlive changes to the network
+     */
+    public KShortestPaths<T> iteratorKShortestPaths(int startIndex, int targetIndex) {
+        return new KShortestPaths<>(this, startIndex, targetIndex);
+    }
+
+    /**
+     * Returns the loopless paths between two vertices in order of weight, each one computed only when it is asked for
+     *
+     * @param startVertex  starting vertex
+     * @param targetVertex target vertex
+     * @return {@link KShortestPaths} over the paths, which must not outlive changes to the network
+     */
+    public KShortestPaths<T> iteratorKShortestPaths(T startVertex, T targetVertex) {
+        return iteratorKShortestPaths(getIndex(startVertex), getIndex(targetVertex));
+    }
+
     /**
      * Returns the weight of the least weight path in the network
      *
@@ -505,26 +995,15 @@ public class Network<T> extends Graph<T> implements NetworkADT<T> {
      * @return path weight; {@link Double}.POSITIVE_INFINITY if not found
      */
     public double shortestPathWeight(int startIndex, int targetIndex) {
-        double result = 0;
-        if (!indexIsValid(startIndex) || !indexIsValid(targetIndex))
-            return Double.POSITIVE_INFINITY;
-
-        int index1, index2;
-        Iterator<Integer> it = iteratorShortestPathIndices(startIndex,
-                targetIndex);
-
-        if (it.hasNext())
-            index1 = it.next().intValue();
-        else
+        if (!indexIsValid(startIndex) || !indexIsValid(targetIndex) ||
+                (startIndex == targetIndex))
             return Double.POSITIVE_INFINITY;
 
-        while (it.hasNext()) {
-            index2 = (it.next()).intValue();
-            result += networkAdjMatrix[index1][index2];
-            index1 = index2;
-        }
+        double[] pathWeight = new double[numVertices];
+        int[] predecessor = new int[numVertices];
+        shortestPathTree(startIndex, targetIndex, pathWeight, predecessor);
 
-        return result;
+        return pathWeight[targetIndex];
     }
 
     /**
@@ -540,119 +1019,165 @@ public class Network<T> extends Graph<T> implements NetworkADT<T> {
     }
 
     /**
-     * Returns a minimum spanning tree of the network
+     * Returns a minimum spanning tree of the network, built with Prim's algorithm
      *
      * @return minimum spanning tree {@link Network}
      */
     public Network minimumSpanningTreeNetwork() {
-        int x, y;
-        int index;
-        double weight;
-        int[] edge = new int[2];
-        Heap<Double> minHeap = new Heap<Double>();
+        return minimumSpanningTreeNetwork(SpanningTreeAlgorithm.PRIM);
+    }
+
+    /**
+     * Returns a minimum spanning tree of the network, built with the given algorithm. The tree keeps every vertex at
+     * its original index and is stored in the same kind of {@link AdjacencyADT} as this network
+     *
+     * @param algorithm algorithm used to choose the edges
+     * @return minimum spanning tree {@link Network}; an empty network if this one is empty or not connected
+     */
+    public Network<T> minimumSpanningTreeNetwork(SpanningTreeAlgorithm algorithm) {
         Network<T> resultGraph = new Network<T>();
 
         if (isEmpty() || !isConnected())
             return resultGraph;
 
-        resultGraph.networkAdjMatrix = new double[numVertices][numVertices];
-        for (int i = 0; i < numVertices; i++)
-            for (int j = 0; j < numVertices; j++)
-                resultGraph.networkAdjMatrix[i][j] = Double.POSITIVE_INFINITY;
+        resultGraph.adjacency = adjacency.newInstance(numVertices);
         resultGraph.vertices = (T[]) (new Object[numVertices]);
+        resultGraph.removed = new boolean[numVertices];
+        resultGraph.freeSlots = new int[numVertices];
+        for (int i = 0; i < numVertices; i++) {
+            resultGraph.vertices[i] = this.vertices[i];
+            resultGraph.removed[i] = this.removed[i];
+        }
+        for (int i = 0; i < removedCount; i++)
+            resultGraph.freeSlots[i] = this.freeSlots[i];
+        resultGraph.numVertices = numVertices;
+        resultGraph.removedCount = removedCount;
+        resultGraph.lazyRemoval = lazyRemoval;
+
+        if (algorithm == SpanningTreeAlgorithm.KRUSKAL)
+            kruskalSpanningTree(resultGraph);
+        else
+            primSpanningTree(resultGraph);
 
-        boolean[] visited = new boolean[numVertices];
-        for (int i = 0; i < numVertices; i++)
-            visited[i] = false;
+        resultGraph.rebuildIndex();
+        return resultGraph;
+    }
 
-        edge[0] = 0;
-        resultGraph.vertices[0] = this.vertices[0];
-        resultGraph.numVertices++;
-        visited[0] = true;
+    /**
+     * Adds to the result the edges chosen by Prim's algorithm. Every vertex outside the tree is in an
+     * {@link IndexedMinHeap} at most once, keyed by the weight of its cheapest edge to the tree
+     *
+     * @param resultGraph network with the same vertices and no edges
+     */
+    protected void primSpanningTree(Network<T> resultGraph) {
+        int[] parent = new int[numVertices];
+        boolean[] inTree = new boolean[numVertices];
+        IndexedMinHeap minHeap = new IndexedMinHeap(numVertices);
 
-        /** Add all edges, which are adjacent to the starting vertex,
-         to the heap */
         for (int i = 0; i < numVertices; i++)
-            minHeap.addElement(networkAdjMatrix[0][i]);
-
-        while ((resultGraph.size() < this.size()) && !minHeap.isEmpty()) {
-            /** Get the edge with the smallest weight that has exactly
-             one vertex already in the resultGraph */
-            do {
-                weight = (minHeap.removeMin()).doubleValue();
-                edge = getEdgeWithWeightOf(weight, visited);
-            } while (!indexIsValid(edge[0]) || !indexIsValid(edge[1]));
-
-            x = edge[0];
-            y = edge[1];
-            if (!visited[x])
-                index = x;
-            else
-                index = y;
-
-            /** Add the new edge and vertex to the resultGraph */
-            resultGraph.vertices[index] = this.vertices[index];
-            visited[index] = true;
-            resultGraph.numVertices++;
-
-            resultGraph.networkAdjMatrix[x][y] = this.networkAdjMatrix[x][y];
-            resultGraph.networkAdjMatrix[y][x] = this.networkAdjMatrix[y][x];
-
-            /** Add all edges, that are adjacent to the newly added vertex,
-             to the heap */
-            for (int i = 0; i < numVertices; i++) {
-                if (!visited[i] && (this.networkAdjMatrix[i][index] <
-                        Double.POSITIVE_INFINITY)) {
-                    edge[0] = index;
-                    edge[1] = i;
-                    minHeap.addElement(networkAdjMatrix[index][i]);
+            parent[i] = -1;
+
+        minHeap.add(firstIndex(), 0, 0);
+
+        while (!minHeap.isEmpty()) {
+            int index = minHeap.removeMin();
+            inTree[index] = true;
+
+            /** Add the edge that connected the vertex to the tree */
+            if (parent[index] != -1)
+                addTreeEdge(resultGraph, parent[index], index);
+
+            /** Lower the key of every neighbour that is now closer to the tree */
+            for (int e = adjacency.firstEdge(index); e != -1; e = adjacency.nextEdge(index, e)) {
+                int i = adjacency.edgeTarget(index, e);
+                double weight = adjacency.edgeWeight(index, e);
+
+                if (!inTree[i] && (!minHeap.contains(i) || weight < minHeap.getKey(i))) {
+                    parent[i] = index;
+                    minHeap.add(i, weight, 0);
                 }
             }
         }
-        return resultGraph;
     }
 
-
     /**
-     * Returns the edge with the given weight. Exactly one vertex of the edge must have been visited
+     * Adds to the result the edges chosen by Kruskal's algorithm. The edges are taken by ascending weight from a
+     * {@link DoubleIntHeap}, which stops as soon as the tree is complete, and a {@link DisjointSet} rejects the edges
+     * that would close a cycle
      *
-     * @param weight  weight
-     * @param visited visited edges array
-     * @return edges with given weight
+     * @param resultGraph network with the same vertices and no edges
      */
-    protected int[] getEdgeWithWeightOf(double weight, boolean[] visited) {
-        int[] edge = new int[2];
+    protected void kruskalSpanningTree(Network<T> resultGraph) {
+        int edges = 0;
         for (int i = 0; i < numVertices; i++)
-            for (int j = 0; j < numVertices; j++)
-                if ((networkAdjMatrix[i][j] == weight) && (visited[i] ^ visited[j])) {
-                    edge[0] = i;
-                    edge[1] = j;
-                    return edge;
+            for (int e = adjacency.firstEdge(i); e != -1; e = adjacency.nextEdge(i, e))
+                if (adjacency.edgeTarget(i, e) > i)
+                    edges++;
+
+        int[] from = new int[edges];
+        int[] to = new int[edges];
+        DoubleIntHeap minHeap = new DoubleIntHeap(4, edges);
+
+        /** Every undirected edge is stored in both directions, so only the one going up is taken */
+        int edge = 0;
+        for (int i = 0; i < numVertices; i++)
+            for (int e = adjacency.firstEdge(i); e != -1; e = adjacency.nextEdge(i, e)) {
+                int j = adjacency.edgeTarget(i, e);
+                if (j > i) {
+                    from[edge] = i;
+                    to[edge] = j;
+                    minHeap.add(adjacency.edgeWeight(i, e), edge);
+                    edge++;
                 }
+            }
 
-        /** Will only get to here if a valid edge is not found */
-        edge[0] = -1;
-        edge[1] = -1;
-        return edge;
+        DisjointSet components = new DisjointSet(numVertices);
+        /** Tombstones stay in sets of their own */
+        while (components.sets() > 1 + removedCount && !minHeap.isEmpty()) {
+            edge = minHeap.removeMin();
+            if (components.union(from[edge], to[edge]))
+                addTreeEdge(resultGraph, from[edge], to[edge]);
+        }
     }
 
     /**
-     * Creates new arrays to store the contents of the network with ten more slots
+     * Copies an edge of this network, in both directions, into the given tree
+     *
+     * @param resultGraph tree being built
+     * @param x           first index
+     * @param y           second index
      */
-    protected void expandCapacity() {
-        T[] largerVertices = (T[]) (new Object[vertices.length + 10]);
-        double[][] largerAdjMatrix =
-                new double[vertices.length * 2][vertices.length + 10];
+    private void addTreeEdge(Network<T> resultGraph, int x, int y) {
+        resultGraph.adjacency.setEdge(x, y, this.adjacency.getWeight(x, y));
+        resultGraph.adjacency.setEdge(y, x, this.adjacency.getWeight(y, x));
+    }
 
-        for (int i = 0; i < numVertices; i++) {
-            for (int j = 0; j < numVertices; j++) {
-                largerAdjMatrix[i][j] = networkAdjMatrix[i][j];
-            }
+    /**
+     * Creates new arrays to store the contents of the network with the given number of slots, and lets the edge
+     * storage grow to match
+     *
+     * @param capacity new number of vertex slots
+     */
+    protected void expandCapacity(int capacity) {
+        if (capacity <= vertices.length)
+            return;
+
+        T[] largerVertices = (T[]) (new Object[capacity]);
+
+        for (int i = 0; i < numVertices; i++)
             largerVertices[i] = vertices[i];
-        }
+
+        boolean[] largerRemoved = new boolean[capacity];
+        int[] largerFreeSlots = new int[capacity];
+        for (int i = 0; i < numVertices; i++)
+            largerRemoved[i] = removed[i];
+        for (int i = 0; i < removedCount; i++)
+            largerFreeSlots[i] = freeSlots[i];
 
         vertices = largerVertices;
-        networkAdjMatrix = largerAdjMatrix;
+        removed = largerRemoved;
+        freeSlots = largerFreeSlots;
+        adjacency.expandCapacity(vertices.length);
     }
 
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,148 @@
+package org.example.Structures.Implementations;
+
+/**
+ * Collects the vertices and edges of a network and then loads them in one pass. The storage of the target network is
+ * sized once for every vertex, and each edge finds its vertices through the hash index of the network, so loading V
+ * vertices and E edges costs O(V + E) plus the edge insertions themselves.
+ *
+ * <pre>
+ * new NetworkBuilder&lt;String&gt;()
+ *         .addVertex("a").addVertex("b")
+ *         .addEdge("a", "b", 2)
+ *         .build(network);
+ * </pre>
+ *
+ * @param <T> type of the vertices
+ */
+public class NetworkBuilder<T> {
+    protected final int DEFAULT_CAPACITY = 10;
+    private T[] vertices;
+    private int numVertices;
+    private T[] edgeFrom;
+    private T[] edgeTo;
+    private double[] edgeWeight;
+    private int numEdges;
+
+    /**
+     * Creates an empty builder
+     */
+    public NetworkBuilder() {
+        this.vertices = newArray(DEFAULT_CAPACITY);
+        this.edgeFrom = newArray(DEFAULT_CAPACITY);
+        this.edgeTo = newArray(DEFAULT_CAPACITY);
+        this.edgeWeight = new double[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Adds a vertex to be loaded
+     *
+     * @param vertex vertex value
+     * @return this builder
+     */
+    public NetworkBuilder<T> addVertex(T vertex) {
+        if (numVertices == vertices.length) {
+            T[] larger = newArray(vertices.length * 2);
+            for (int i = 0; i < numVertices; i++)
+                larger[i] = vertices[i];
+            vertices = larger;
+        }
+
+        vertices[numVertices] = vertex;
+        numVertices++;
+        return this;
+    }
+
+    /**
+     * Adds an edge with a weight of zero to be loaded
+     *
+     * @param vertex1 first vertex
+     * @param vertex2 second vertex
+     * @return this builder
+     */
+    public NetworkBuilder<T> addEdge(T vertex1, T vertex2) {
+        return addEdge(vertex1, vertex2, 0);
+    }
+
+    /**
+     * Adds an edge with a given weight to be loaded. Edges whose vertices are not in the network when it is built are
+     * ignored, as {@link Network#addEdge(Object, Object, double)} does
+     *
+     * @param vertex1 first vertex
+     * @param vertex2 second vertex
+     * @param weight  edge weight
+     * @return this builder
+     */
+    public NetworkBuilder<T> addEdge(T vertex1, T vertex2, double weight) {
+        if (numEdges == edgeFrom.length) {
+            int capacity = edgeFrom.length * 2;
+            T[] largerFrom = newArray(capacity);
+            T[] largerTo = newArray(capacity);
+            double[] largerWeight = new double[capacity];
+
+            for (int i = 0; i < numEdges; i++) {
+                largerFrom[i] = edgeFrom[i];
+                largerTo[i] = edgeTo[i];
+                largerWeight[i] = edgeWeight[i];
+            }
+
+            edgeFrom = largerFrom;
+            edgeTo = largerTo;
+            edgeWeight = largerWeight;
+        }
+
+        edgeFrom[numEdges] = vertex1;
+        edgeTo[numEdges] = vertex2;
+        edgeWeight[numEdges] = weight;
+        numEdges++;
+        return this;
+    }
+
+    /**
+     * Returns the number of vertices collected so far
+     *
+     * @return number of vertices
+     */
+    public int vertexCount() {
+        return numVertices;
+    }
+
+    /**
+     * Returns the number of edges collected so far
+     *
+     * @return number of edges
+     */
+    public int edgeCount() {
+        return numEdges;
+    }
+
+    /**
+     * Loads every collected vertex and then every collected edge into the given network, after growing its storage
+     * once. The builder is left untouched, so the same data can be loaded into several networks
+     *
+     * @param network network to load into
+     * @param <N>     type of the network
+     * @return the given network
+     */
+    public <N extends Network<T>> N build(N network) {
+        network.ensureCapacity(network.size() + numVertices);
+
+        for (int i = 0; i < numVertices; i++)
+            network.addVertex(vertices[i]);
+
+        for (int i = 0; i < numEdges; i++)
+            network.addEdge(edgeFrom[i], edgeTo[i], edgeWeight[i]);
+
+        return network;
+    }
+
+    /**
+     * Creates an array for the vertices or the edge ends
+     *
+     * @param length length of the array
+     * @return new array with every slot null
+     */
+    @SuppressWarnings("unchecked")
+    private T[] newArray(int length) {
+        return (T[]) (new Object[length]);
+    }
+}
@@ -0,0 +1,266 @@
+package org.example.Structures.Implementations;
+
+/**
+ * Multi-criteria path search over a {@link Network} that finds every simple path between two vertices that is not
+ * dominated on three criteria: fewer edges, more points left and more pickups. Entering a vertex adds its gain to the
+ * points, which must stay above zero, and its pickups to the pickups.
+ *
+ * <p>Each partial path is a label. Labels are extended in order of number of edges, so every label already at a vertex
+ * has no more edges than a new one, and the new label is dropped if one of them also has at least its points and its
+ * pickups. A new label that beats an older one with the same number of edges retires it. Labels at the target are not
+ * extended, and those left when the search ends are the Pareto set, ordered by number of edges.</p>
+ *
+ * <p>Labels live in flat arrays that grow up to a limit. If the limit is reached, the search stops early and
+ * {@link #isComplete()} reports it; the routes found by then are still non-dominated among themselves. Keeping the
+ * paths simple means a dropped label could, in rare cases, have been the only one to continue through a vertex that
+ * its dominating label already visited, so the set is exact for the labels kept rather than over all simple
+ * paths.</p>
+ */
+public class ParetoPathSearch {
+    /** Default number of labels a search may create. */
+    public static final int DEFAULT_LABEL_LIMIT = 1 << 16;
+
+    protected final int DEFAULT_CAPACITY = 10;
+    private final Network<?> network;
+    private int[] vertex;           // vertex of each label
+    private int[] hops;             // number of edges of each label
+    private int[] points;           // points left at the vertex
+    private int[] pickups;          // pickups collected up to the vertex
+    private int[] parent;           // label extended to create each label, -1 for the start
+    private int[] nextAtVertex;     // next label at the same vertex, -1 at the end
+    private boolean[] retired;      // whether a later label dominates the label
+    private int[] firstAtVertex;    // first label at each vertex, -1 if there is none
+    private int count;
+    private int[] routes;           // labels of the routes found, by number of edges
+    private int routeCount;
+    private boolean complete;
+
+    /**
+     * Creates a search over the given network
+     *
+     * @param network network to search
+     */
+    public ParetoPathSearch(Network<?> network) {
+        this.network = network;
+        this.vertex = new int[DEFAULT_CAPACITY];
+        this.hops = new int[DEFAULT_CAPACITY];
+        this.points = new int[DEFAULT_CAPACITY];
+        this.pickups = new int[DEFAULT_CAPACITY];
+        this.parent = new int[DEFAULT_CAPACITY];
+        this.nextAtVertex = new int[DEFAULT_CAPACITY];
+        this.retired = new boolean[DEFAULT_CAPACITY];
+        this.firstAtVertex = new int[0];
+        this.routes = new int[0];
+    }
+
+    /**
+     * Searches the non-dominated paths from the start to the target. The start is entered with the given points,
+     * without its own gain or pickups
+     *
+     * @param startIndex  starting index
+     * @param targetIndex target index
+     * @param startPoints points available at the start
+     * @param gain        points added when entering each vertex, by index
+     * @param pickup      pickups collected when entering each vertex, by index
+     * @param labelLimit  largest number of labels to create
+     * @return number of routes found
+     */
+    public int search(int startIndex, int targetIndex, int startPoints, int[] gain, int[] pickup, int labelLimit) {
+        count = 0;
+        routeCount = 0;
+        complete = true;
+        if (!network.indexIsValid(startIndex) || !network.indexIsValid(targetIndex) || startPoints <= 0
+                || labelLimit < 1)
+            return 0;
+
+        if (firstAtVertex.length < network.numVertices)
+            firstAtVertex = new int[network.numVertices];
+        for (int i = 0; i < network.numVertices; i++)
+            firstAtVertex[i] = -1;
+
+        addLabel(startIndex, 0, startPoints, 0, -1);
+
+        for (int label = 0; label < count; label++) {
+            int from = vertex[label];
+            if (retired[label] || from == targetIndex)
+                continue;
+
+            for (int e = network.adjacency.firstEdge(from); e != -1; e = network.adjacency.nextEdge(from, e)) {
+                int next = network.adjacency.edgeTarget(from, e);
+                int nextPoints = points[label] + gain[next];
+                int nextPickups = pickups[label] + pickup[next];
+                if (nextPoints <= 0 || onPath(label, next)
+                        || dominated(next, hops[label] + 1, nextPoints, nextPickups))
+                    continue;
+
+                if (count == labelLimit) {
+                    complete = false;
+                    break;
+                }
+                addLabel(next, hops[label] + 1, nextPoints, nextPickups, label);
+            }
+            if (!complete)
+                break;
+        }
+
+        if (routes.length < count)
+            routes = new int[count];
+        for (int label = firstAtVertex[targetIndex]; label != -1; label = nextAtVertex[label])
+            if (!retired[label])
+                routes[routeCount++] = label;
+
+        /** Labels are linked to their vertex newest first, so reverse them to order by number of edges */
+        for (int i = 0, j = routeCount - 1; i < j; i++, j--) {
+            int swap = routes[i];
+            routes[i] = routes[j];
+            routes[j] = swap;
+        }
+        return routeCount;
+    }
+
+    /**
+     * Checks if the last search explored every label, rather than stopping at the label limit
+     *
+     * @return true if it finished; false if it stopped early
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * Returns the number of routes found by the last search
+     *
+     * @return number of routes
+     */
+    public int getRouteCount() {
+        return routeCount;
+    }
+
+    /**
+     * Returns the number of edges of a route
+     *
+     * @param route route position, from 0
+     * @return number of edges
+     */
+    public int getHops(int route) {
+        return hops[routes[route]];
+    }
+
+    /**
+     * Returns the points left at the end of a route
+     *
+     * @param route route position, from 0
+     * @return points left
+     */
+    public int getPoints(int route) {
+        return points[routes[route]];
+    }
+
+    /**
+     * Returns the pickups collected along a route
+     *
+     * @param route route position, from 0
+     * @return pickups
+     */
+    public int getPickups(int route) {
+        return pickups[routes[route]];
+    }
+
+    /**
+     * Returns the vertices of a route, from the start to the target
+     *
+     * @param route route position, from 0
+     * @return vertex indices
+     */
+    public int[] getPath(int route) {
+        int label = routes[route];
+        int[] path = new int[hops[label] + 1];
+        for (int i = path.length - 1; i >= 0; i--) {
+            path[i] = vertex[label];
+            label = parent[label];
+        }
+        return path;
+    }
+
+    /**
+     * Checks if a label at a vertex is dominated by a label already there, and retires the labels there that the new
+     * one dominates. Every label already there has no more edges than the new one
+     *
+     * @return true if the new label is dominated
+     */
+    private boolean dominated(int index, int labelHops, int labelPoints, int labelPickups) {
+        for (int label = firstAtVertex[index]; label != -1; label = nextAtVertex[label]) {
+            if (retired[label])
+                continue;
+            if (points[label] >= labelPoints && pickups[label] >= labelPickups)
+                return true;
+        }
+
+        for (int label = firstAtVertex[index]; label != -1; label = nextAtVertex[label])
+            if (hops[label] == labelHops && labelPoints >= points[label] && labelPickups >= pickups[label])
+                retired[label] = true;
+        return false;
+    }
+
+    /**
+     * Checks if a vertex is already on the path of a label
+     *
+     * @return true if the path goes through the vertex
+     */
+    private boolean onPath(int label, int index) {
+        for (; label != -1; label = parent[label])
+            if (vertex[label] == index)
+                return true;
+        return false;
+    }
+
+    /**
+     * Adds a label and links it to its vertex, growing the arrays if needed
+     */
+    private void addLabel(int index, int labelHops, int labelPoints, int labelPickups, int labelParent) {
+        if (count == vertex.length)
+            expandCapacity();
+
+        vertex[count] = index;
+        hops[count] = labelHops;
+        points[count] = labelPoints;
+        pickups[count] = labelPickups;
+        parent[count] = labelParent;
+        retired[count] = false;
+        nextAtVertex[count] = firstAtVertex[index];
+        firstAtVertex[index] = count;
+        count++;
+    }
+
+    /**
+     * Doubles the capacity of the label arrays
+     */
+    private void expandCapacity() {
+        int capacity = vertex.length * 2;
+        int[] largerVertex = new int[capacity];
+        int[] largerHops = new int[capacity];
+        int[] largerPoints = new int[capacity];
+        int[] largerPickups = new int[capacity];
+        int[] largerParent = new int[capacity];
+        int[] largerNext = new int[capacity];
+        boolean[] largerRetired = new boolean[capacity];
+
+        for (int i = 0; i < count; i++) {
+            largerVertex[i] = vertex[i];
+            largerHops[i] = hops[i];
+            largerPoints[i] = points[i];
+            largerPickups[i] = pickups[i];
+            largerParent[i] = parent[i];
+            largerNext[i] = nextAtVertex[i];
+            largerRetired[i] = retired[i];
+        }
+
+        vertex = largerVertex;
+        hops = largerHops;
+        points = largerPoints;
+        pickups = largerPickups;
+        parent = largerParent;
+        nextAtVertex = largerNext;
+        retired = largerRetired;
+    }
+}
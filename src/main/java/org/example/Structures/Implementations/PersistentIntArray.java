@@ -0,0 +1,174 @@
+package org.example.Structures.Implementations;
+
+/**
+ * Immutable array of ints of fixed size. Changing an element returns a new array that shares every part of the old
+ * one except the path to the changed element, so both stay valid and a copy costs nothing until it is changed.
+ *
+ * <p>The elements are kept in the leaves of a tree with {@link #WIDTH} children per node, so reading or changing one
+ * element touches O(log n) nodes, and a change copies O(WIDTH log n) entries. Arrays of up to WIDTH elements are a
+ * single leaf.</p>
+ */
+public class PersistentIntArray {
+    /** Number of children of each node, and of elements in each leaf. */
+    public static final int WIDTH = 16;
+
+    private static final int BITS = 4;
+    private static final int MASK = WIDTH - 1;
+
+    private final int size;
+    private final int shift;        // bits of the index consumed above the leaves
+    private final Object root;      // int[] leaf when shift is 0; otherwise Object[] of children
+
+    /**
+     * Creates an array with the given elements
+     *
+     * @param values elements to copy
+     */
+    public PersistentIntArray(int[] values) {
+        this.size = values.length;
+        int levels = 0;
+        while ((long) WIDTH << (levels * BITS) < size)
+            levels++;
+        this.shift = levels * BITS;
+        this.root = build(values, 0, shift);
+    }
+
+    /**
+     * Creates an array of the given size with every element 0
+     *
+     * @param size number of elements
+     */
+    public PersistentIntArray(int size) {
+        this(new int[size]);
+    }
+
+    private PersistentIntArray(int size, int shift, Object root) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+    }
+
+    /**
+     * Returns the number of elements
+     *
+     * @return size of the array
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the element at an index
+     *
+     * @param index element index
+     * @return element
+     * @throws IndexOutOfBoundsException if the index is outside the array
+     */
+    public int get(int index) {
+        checkIndex(index);
+        Object node = root;
+        for (int level = shift; level > 0; level -= BITS)
+            node = ((Object[]) node)[(index >>> level) & MASK];
+        return ((int[]) node)[index & MASK];
+    }
+
+    /**
+     * Returns an array with the element at an index changed, leaving this one as it is
+     *
+     * @param index element index
+     * @param value new element
+     * @return the changed array; this array if the element already has that value
+     * @throws IndexOutOfBoundsException if the index is outside the array
+     */
+    public PersistentIntArray set(int index, int value) {
+        if (get(index) == value)
+            return this;
+        return new PersistentIntArray(size, shift, set(root, shift, index, value));
+    }
+
+    /**
+     * Returns an array with an amount added to the element at an index, leaving this one as it is
+     *
+     * @param index element index
+     * @param delta amount to add
+     * @return the changed array; this array if the amount is 0
+     * @throws IndexOutOfBoundsException if the index is outside the array
+     */
+    public PersistentIntArray add(int index, int delta) {
+        return set(index, get(index) + delta);
+    }
+
+    /**
+     * Copies the elements into the start of an array
+     *
+     * @param target array to copy into, at least as long as this one
+     */
+    public void copyInto(int[] target) {
+        copyInto(root, shift, 0, target);
+    }
+
+    /**
+     * Returns the elements as a new array
+     *
+     * @return copy of the elements
+     */
+    public int[] toArray() {
+        int[] values = new int[size];
+        copyInto(values);
+        return values;
+    }
+
+    /**
+     * Builds the node that holds the elements from the given offset, at the given level
+     */
+    private Object build(int[] values, int offset, int level) {
+        if (level == 0) {
+            int[] leaf = new int[WIDTH];
+            for (int i = 0; i < WIDTH && offset + i < values.length; i++)
+                leaf[i] = values[offset + i];
+            return leaf;
+        }
+
+        Object[] node = new Object[WIDTH];
+        int span = 1 << level;
+        for (int i = 0; i < WIDTH && offset + i * span < values.length; i++)
+            node[i] = build(values, offset + i * span, level - BITS);
+        return node;
+    }
+
+    /**
+     * Copies the path from a node to the element at an index, with the element changed
+     */
+    private static Object set(Object node, int level, int index, int value) {
+        if (level == 0) {
+            int[] leaf = ((int[]) node).clone();
+            leaf[index & MASK] = value;
+            return leaf;
+        }
+
+        Object[] copy = ((Object[]) node).clone();
+        int child = (index >>> level) & MASK;
+        copy[child] = set(copy[child], level - BITS, index, value);
+        return copy;
+    }
+
+    /**
+     * Copies the elements under a node into an array, from the given offset
+     */
+    private void copyInto(Object node, int level, int offset, int[] target) {
+        if (level == 0) {
+            System.arraycopy((int[]) node, 0, target, offset, Math.min(WIDTH, size - offset));
+            return;
+        }
+
+        Object[] children = (Object[]) node;
+        int span = 1 << level;
+        for (int i = 0; i < WIDTH && children[i] != null; i++)
+            copyInto(children[i], level - BITS, offset + i * span, target);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index " + index + " is outside an array of size " + size);
+    }
+}
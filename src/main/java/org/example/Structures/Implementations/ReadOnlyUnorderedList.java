@@ -0,0 +1,159 @@
+package org.example.Structures.Implementations;
+
+import org.example.Structures.Interfaces.UnorderedListADT;
+
+import java.util.Iterator;
+
+/**
+ * Read-only view of an unordered list. Every query is answered by the wrapped list, so the view always shows its
+ * current elements without copying them, and every method that would change the list throws an
+ * {@link UnsupportedOperationException}.
+ *
+ * <p>An iterator taken from the view walks the elements present when it was created, as the iterator of the wrapped
+ * list does; removing elements from the wrapped list during an iteration may skip some of them.</p>
+ *
+ * @param <T> the type of elements of the list
+ */
+public class ReadOnlyUnorderedList<T> implements UnorderedListADT<T> {
+    private final UnorderedListADT<T> list;
+
+    /**
+     * Creates a read-only view of the given list
+     *
+     * @param list the list to wrap
+     */
+    public ReadOnlyUnorderedList(UnorderedListADT<T> list) {
+        this.list = list;
+    }
+
+    /**
+     * Not supported, since the view is read-only
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void addToFront(T element) {
+        throw new UnsupportedOperationException("The list is read-only");
+    }
+
+    /**
+     * Not supported, since the view is read-only
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void addToRear(T element) {
+        throw new UnsupportedOperationException("The list is read-only");
+    }
+
+    /**
+     * Not supported, since the view is read-only
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void addAfter(T element, T previous) {
+        throw new UnsupportedOperationException("The list is read-only");
+    }
+
+    /**
+     * Not supported, since the view is read-only
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public T removeFirst() {
+        throw new UnsupportedOperationException("The list is read-only");
+    }
+
+    /**
+     * Not supported, since the view is read-only
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public T removeLast() {
+        throw new UnsupportedOperationException("The list is read-only");
+    }
+
+    /**
+     * Not supported, since the view is read-only
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public T remove(T element) {
+        throw new UnsupportedOperationException("The list is read-only");
+    }
+
+    /**
+     * Returns the first element of the list
+     *
+     * @return the first element
+     */
+    @Override
+    public T first() {
+        return list.first();
+    }
+
+    /**
+     * Returns the last element of the list
+     *
+     * @return the last element
+     */
+    @Override
+    public T last() {
+        return list.last();
+    }
+
+    /**
+     * Checks if the list contains a given element
+     *
+     * @param target the element to look for
+     * @return true if it contains; false otherwise
+     */
+    @Override
+    public boolean contains(T target) {
+        return list.contains(target);
+    }
+
+    /**
+     * Checks if the list is empty
+     *
+     * @return true if empty; false otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return list.isEmpty();
+    }
+
+    /**
+     * Returns the number of elements of the list
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    /**
+     * Returns an iterator over the elements of the list
+     *
+     * @return {@link Iterator}
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return list.iterator();
+    }
+
+    /**
+     * Returns a string representation of the list
+     *
+     * @return {@link String}
+     */
+    @Override
+    public String toString() {
+        return list.toString();
+    }
+}
@@ -0,0 +1,557 @@
+package org.example.Structures.Implementations;
+
+/**
+ * Best path search over a {@link Network} where every vertex adds a gain (positive or negative) to a budget of points
+ * when it is entered. The search keeps, for each vertex, the path that arrives with the most points left, and never
+ * follows a path whose points drop to zero or below.
+ *
+ * <p>It is a label-setting search in the manner of Dijkstra's algorithm: the vertex with the most points left is
+ * settled next through an {@link IndexedMinHeap}, and a settled vertex is never entered again, so every path is simple
+ * and the search runs in O(E log V). Paths with the same points are resolved in favour of the one with fewer edges,
+ * and then of the vertex with the lowest index. The result is exact when no gain is positive; positive gains make it
+ * a greedy answer, since a vertex may be settled before a richer path to it is found.</p>
+ *
+ * <p>When the network searches in both directions ({@link Graph#setBidirectionalSearch(boolean)}) and no gain is
+ * positive, a search towards a single target also runs backwards from the target, and then finds the same path as the
+ * forward search alone while exploring fewer vertices.</p>
+ *
+ * <p>A goal-directed search ({@link #setGoalDirected(boolean)}) towards a single target runs A* instead. Its lower
+ * bound on the points still to lose is the cheapest cost of a vertex without a positive gain times the number of edges
+ * left to the target, less one edge for every vertex with a positive gain, plus the cost of the target itself, minus
+ * every positive gain the path could still collect. The number of edges left also orders paths with the same points.
+ * The distances come from one breadth-first search from the target, kept until the target or the network changes.
+ * With no positive gain the best path keeps the same points and number of edges, while fewer vertices are expanded, as
+ * {@link #getExpansions()} counts. With positive gains the bound never cuts a path that could still reach the target,
+ * and the answer is greedy, as it is without the heuristic, so the two may settle on different paths. Gains from
+ * vertices already settled are no longer counted, which tightens the bound as the search goes on.</p>
+ *
+ * <p>The working arrays are kept between searches and only grow with the network.</p>
+ */
+public class ResourcePathSearch {
+    /** Points of a vertex that has not been reached. */
+    public static final int UNREACHED = Integer.MIN_VALUE;
+
+    private final Network<?> network;
+    private int[] points;       // points left on arrival, UNREACHED if not reached
+    private int[] predecessor;  // previous vertex of each path, -1 for the start and unreached vertices
+    private int[] hops;         // number of edges of each path
+    private boolean[] settled;
+    private IndexedMinHeap heap;
+    private int[] backwardCost;     // gain lost on the way from each vertex to the target, not counting the vertex
+    private int[] backwardHops;
+    private boolean[] backwardSettled;
+    private IndexedMinHeap backwardHeap;
+    private boolean goalDirected;
+    private int[] targetHops;       // edges from each vertex to the heuristic target, -1 if it cannot reach it
+    private int heuristicTarget;    // target of the distances in targetHops, -1 if there are none
+    private int heuristicModCount;  // modification count of the network when they were computed
+    private int minimumCost;        // least cost of a vertex without a positive gain that leads to the target
+    private int positiveCount;      // vertices with a positive gain left to collect on the way to the target
+    private long positiveGain;      // sum of their gains
+    private int expansions;
+
+    /**
+     * Creates a search over the given network
+     *
+     * @param network network to search
+     */
+    public ResourcePathSearch(Network<?> network) {
+        this.network = network;
+        this.points = new int[0];
+        this.predecessor = new int[0];
+        this.hops = new int[0];
+        this.settled = new boolean[0];
+        this.heap = new IndexedMinHeap(0);
+        this.backwardCost = new int[0];
+        this.backwardHops = new int[0];
+        this.backwardSettled = new boolean[0];
+        this.backwardHeap = new IndexedMinHeap(0);
+        this.targetHops = new int[0];
+        this.heuristicTarget = -1;
+    }
+
+    /**
+     * Enables or disables the goal-directed (A*) search towards a single target
+     *
+     * @param enabled true to use A* when the gains allow it; false to always search without a heuristic
+     */
+    public void setGoalDirected(boolean enabled) {
+        goalDirected = enabled;
+    }
+
+    /**
+     * Checks if the goal-directed search is enabled
+     *
+     * @return true if enabled; false otherwise
+     */
+    public boolean isGoalDirected() {
+        return goalDirected;
+    }
+
+    /**
+     * Returns the number of vertices expanded by the last search, counting both sides of a bidirectional search
+     *
+     * @return number of expansions
+     */
+    public int getExpansions() {
+        return expansions;
+    }
+
+    /**
+     * Searches the paths from the start vertex. The start is entered with the given points, without its own gain. The
+     * search stops once the target is settled; a target of -1 reaches every vertex it can
+     *
+     * @param startIndex  starting index
+     * @param targetIndex target index, or -1 to reach every vertex
+     * @param startPoints points available at the start
+     * @param gain        points added when entering each vertex, by index
+     * @return true if the target was reached, or the start is valid when the target is -1; false otherwise
+     */
+    public boolean search(int startIndex, int targetIndex, int startPoints, int[] gain) {
+        prepare(network.numVertices);
+
+        if (network.indexIsValid(startIndex) && startPoints > 0) {
+            points[startIndex] = startPoints;
+            heap.add(startIndex, -startPoints, 0);
+        }
+
+        if (network.indexIsValid(targetIndex) && targetIndex != startIndex && !heap.isEmpty()) {
+            if (goalDirected)
+                return runGoalDirected(startIndex, targetIndex, startPoints, gain);
+            if (network.isBidirectionalSearch() && !hasPositiveGain(gain))
+                return runBidirectional(targetIndex, startPoints, gain);
+        }
+        return run(targetIndex, gain);
+    }
+
+    /**
+     * Searches the paths from several start vertices at once, as if a virtual vertex led to all of them. Each start is
+     * entered with its own points, and the path to every vertex comes from whichever start leaves it with the most
+     * points. Walking the predecessors from a vertex ends at the start its best path came from
+     *
+     * @param startIndices starting indices
+     * @param startPoints  points available at each start, in the same order
+     * @param startCount   number of starts to use from the arrays
+     * @param targetIndex  target index, or -1 to reach every vertex
+     * @param gain         points added when entering each vertex, by index
+     * @return true if the target was reached, or some start is valid when the target is -1; false otherwise
+     */
+    public boolean search(int[] startIndices, int[] startPoints, int startCount, int targetIndex, int[] gain) {
+        prepare(network.numVertices);
+
+        for (int i = 0; i < startCount; i++) {
+            int start = startIndices[i];
+            if (network.indexIsValid(start) && startPoints[i] > points[start] && startPoints[i] > 0) {
+                points[start] = startPoints[i];
+                heap.add(start, -startPoints[i], 0);
+            }
+        }
+        return run(targetIndex, gain);
+    }
+
+    /**
+     * Settles the vertices from the starts already in the heap, with the most points left first
+     *
+     * @param targetIndex target index, or -1 to reach every vertex
+     * @param gain        points added when entering each vertex, by index
+     * @return true if the target was reached, or some start is valid when the target is -1; false otherwise
+     */
+    private boolean run(int targetIndex, int[] gain) {
+        boolean started = !heap.isEmpty();
+
+        while (!heap.isEmpty()) {
+            int index = heap.removeMin();
+            settled[index] = true;
+            expansions++;
+            if (index == targetIndex)
+                return true;
+
+            for (int e = network.adjacency.firstEdge(index); e != -1; e = network.adjacency.nextEdge(index, e)) {
+                int next = network.adjacency.edgeTarget(index, e);
+                if (settled[next])
+                    continue;
+
+                int nextPoints = points[index] + gain[next];
+                int nextHops = hops[index] + 1;
+                if (nextPoints <= 0)
+                    continue;
+
+                if (nextPoints > points[next] || (nextPoints == points[next] && nextHops < hops[next])) {
+                    points[next] = nextPoints;
+                    hops[next] = nextHops;
+                    predecessor[next] = index;
+                    heap.add(next, -nextPoints, nextHops);
+                }
+            }
+        }
+        return targetIndex == -1 && started;
+    }
+
+    /**
+     * Settles vertices from the start already in the heap and backwards from the target, on the side with the smaller
+     * heap each time, until the best path seen where both sides touch cannot be beaten. With no positive gain the
+     * points only go down along a path, so the points and edges of the best path are then known. The forward search
+     * resumes and only expands the vertices that can still lie on such a path, which leaves the vertices on the path
+     * with the same points and predecessors as {@link #run} would
+     *
+     * @param targetIndex target index
+     * @param startPoints points available at the start
+     * @param gain        points added when entering each vertex, by index, none of them positive
+     * @return true if the target was reached; false otherwise
+     */
+    private boolean runBidirectional(int targetIndex, int startPoints, int[] gain) {
+        backwardCost[targetIndex] = 0;
+        backwardHeap.add(targetIndex, 0, 0);
+
+        int bestPoints = UNREACHED;
+        int bestHops = Integer.MAX_VALUE;
+
+        while (!heap.isEmpty() && !backwardHeap.isEmpty()) {
+            int forwardTop = heap.findMin();
+            int backwardTop = backwardHeap.findMin();
+            if (!better(points[forwardTop] - backwardCost[backwardTop], hops[forwardTop] + backwardHops[backwardTop],
+                    bestPoints, bestHops))
+                break;
+
+            if (heap.size() <= backwardHeap.size()) {
+                int index = heap.removeMin();
+                settled[index] = true;
+                expansions++;
+                if (index == targetIndex)
+                    return true;
+
+                for (int e = network.adjacency.firstEdge(index); e != -1; e = network.adjacency.nextEdge(index, e)) {
+                    int next = network.adjacency.edgeTarget(index, e);
+                    if (settled[next])
+                        continue;
+
+                    int nextPoints = points[index] + gain[next];
+                    int nextHops = hops[index] + 1;
+                    if (nextPoints <= 0)
+                        continue;
+
+                    if (nextPoints > points[next] || (nextPoints == points[next] && nextHops < hops[next])) {
+                        points[next] = nextPoints;
+                        hops[next] = nextHops;
+                        predecessor[next] = index;
+                        heap.add(next, -nextPoints, nextHops);
+                    }
+                    if (backwardCost[next] != Integer.MAX_VALUE && better(nextPoints - backwardCost[next],
+                            nextHops + backwardHops[next], bestPoints, bestHops)) {
+                        bestPoints = nextPoints - backwardCost[next];
+                        bestHops = nextHops + backwardHops[next];
+                    }
+                }
+            } else {
+                int index = backwardHeap.removeMin();
+                backwardSettled[index] = true;
+                expansions++;
+
+                for (int e = network.adjacency.firstEdge(index); e != -1; e = network.adjacency.nextEdge(index, e)) {
+                    int previous = network.adjacency.edgeTarget(index, e);
+                    int cost = backwardCost[index] - gain[index];
+                    int costHops = backwardHops[index] + 1;
+                    if (backwardSettled[previous] || cost >= startPoints)
+                        continue;
+
+                    if (cost < backwardCost[previous]
+                            || (cost == backwardCost[previous] && costHops < backwardHops[previous])) {
+                        backwardCost[previous] = cost;
+                        backwardHops[previous] = costHops;
+                        backwardHeap.add(previous, cost, costHops);
+                    }
+                    if (points[previous] != UNREACHED && better(points[previous] - cost,
+                            hops[previous] + costHops, bestPoints, bestHops)) {
+                        bestPoints = points[previous] - cost;
+                        bestHops = hops[previous] + costHops;
+                    }
+                }
+            }
+        }
+        if (bestPoints <= 0)
+            return false;
+
+        /** Least cost to the target of the vertices the backward search has not settled. */
+        int boundCost = Integer.MAX_VALUE;
+        int boundHops = 0;
+        if (!backwardHeap.isEmpty()) {
+            boundCost = backwardCost[backwardHeap.findMin()];
+            boundHops = backwardHops[backwardHeap.findMin()];
+        }
+
+        while (!heap.isEmpty()) {
+            int index = heap.removeMin();
+            settled[index] = true;
+            expansions++;
+            if (index == targetIndex)
+                return true;
+
+            int cost = backwardSettled[index] ? backwardCost[index] : boundCost;
+            int costHops = hops[index] + (backwardSettled[index] ? backwardHops[index] : boundHops);
+            if (cost == Integer.MAX_VALUE || better(bestPoints, bestHops, points[index] - cost, costHops))
+                continue;
+
+            for (int e = network.adjacency.firstEdge(index); e != -1; e = network.adjacency.nextEdge(index, e)) {
+                int next = network.adjacency.edgeTarget(index, e);
+                if (settled[next])
+                    continue;
+
+                int nextPoints = points[index] + gain[next];
+                int nextHops = hops[index] + 1;
+                if (nextPoints <= 0)
+                    continue;
+
+                if (nextPoints > points[next] || (nextPoints == points[next] && nextHops < hops[next])) {
+                    points[next] = nextPoints;
+                    hops[next] = nextHops;
+                    predecessor[next] = index;
+                    heap.add(next, -nextPoints, nextHops);
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Settles vertices with A*, ordered by the points they would have left at the target at best, as {@link #bound}
+     * gives them, and then by the fewest edges the whole path could have. The positive gains left to collect are the
+     * same for every vertex but the target, so they are added to the key of the target instead, which is raised again
+     * each time one of them is settled. With no positive gain both bounds grow by at most the real cost of every edge,
+     * so each vertex is settled once, with the same points and number of edges the search without a heuristic finds.
+     * With positive gains the bound still never overestimates what a path can keep, so no path that could reach the
+     * target with points left is cut
+     *
+     * @param startIndex  starting index
+     * @param targetIndex target index
+     * @param startPoints points available at the start
+     * @param gain        points added when entering each vertex, by index
+     * @return true if the target was reached; false otherwise
+     */
+    private boolean runGoalDirected(int startIndex, int targetIndex, int startPoints, int[] gain) {
+        computeTargetHops(targetIndex);
+        if (targetHops[startIndex] == -1)
+            return false;
+
+        /** The start is never entered, the target is counted on its own and the rest must lead to the target */
+        minimumCost = Integer.MAX_VALUE;
+        positiveCount = 0;
+        positiveGain = 0;
+        for (int i = 0; i < network.numVertices; i++) {
+            if (i == targetIndex || i == startIndex || !network.indexIsValid(i) || targetHops[i] == -1)
+                continue;
+            if (gain[i] > 0) {
+                positiveCount++;
+                positiveGain += gain[i];
+            } else if (-gain[i] < minimumCost)
+                minimumCost = -gain[i];
+        }
+        if (minimumCost == Integer.MAX_VALUE)
+            minimumCost = 0;
+
+        heap.clear();
+        heap.add(startIndex, -startPoints + estimate(startIndex, targetIndex, gain), targetHops[startIndex]);
+
+        while (!heap.isEmpty()) {
+            int index = heap.removeMin();
+            settled[index] = true;
+            expansions++;
+            if (index == targetIndex)
+                return true;
+
+            /** A settled vertex is never entered again, so its gain can no longer be collected */
+            if (index != startIndex && gain[index] > 0) {
+                positiveCount--;
+                positiveGain -= gain[index];
+                if (heap.contains(targetIndex))
+                    heap.update(targetIndex, -points[targetIndex] + positiveGain, hops[targetIndex]);
+            }
+
+            for (int e = network.adjacency.firstEdge(index); e != -1; e = network.adjacency.nextEdge(index, e)) {
+                int next = network.adjacency.edgeTarget(index, e);
+                if (settled[next] || targetHops[next] == -1)
+                    continue;
+
+                int nextPoints = points[index] + gain[next];
+                int nextHops = hops[index] + 1;
+                if (nextPoints <= 0 || nextPoints - bound(next, targetIndex, gain) <= 0)
+                    continue;
+
+                if (nextPoints > points[next] || (nextPoints == points[next] && nextHops < hops[next])) {
+                    points[next] = nextPoints;
+                    hops[next] = nextHops;
+                    predecessor[next] = index;
+                    if (next == targetIndex)
+                        heap.add(next, -nextPoints + positiveGain, nextHops);
+                    else
+                        heap.add(next, -nextPoints + estimate(next, targetIndex, gain), nextHops + targetHops[next]);
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the key part of {@link #bound} for a vertex other than the target: the bound without the positive gains
+     * left to collect, which are the same for every such vertex
+     *
+     * @param index       vertex index, other than the target
+     * @param targetIndex target index
+     * @param gain        points added when entering each vertex, by index
+     * @return lower bound of the points lost, plus the positive gains left to collect
+     */
+    private long estimate(int index, int targetIndex, int[] gain) {
+        long paid = Math.max(0, targetHops[index] - 1 - positiveCount);
+        return paid * minimumCost - gain[targetIndex];
+    }
+
+    /**
+     * Returns the least points a path from a vertex to the target can lose: the cost of the target, plus the cheapest
+     * cost of a vertex without a positive gain for every other vertex entered on the way that could not be one with a
+     * positive gain, minus every positive gain still left to collect. Vertices already settled are not counted, since
+     * no path enters them again
+     *
+     * @param index       vertex index
+     * @param targetIndex target index
+     * @param gain        points added when entering each vertex, by index
+     * @return lower bound of the points lost, negative if the path could end with more points
+     */
+    private long bound(int index, int targetIndex, int[] gain) {
+        if (index == targetIndex)
+            return 0;
+
+        return estimate(index, targetIndex, gain) - positiveGain;
+    }
+
+    /**
+     * Computes the number of edges from every vertex to the target with a breadth-first search from the target, unless
+     * they are already known for the same target and the network has not changed since
+     *
+     * @param targetIndex target index
+     */
+    private void computeTargetHops(int targetIndex) {
+        if (heuristicTarget == targetIndex && heuristicModCount == network.modificationCount()
+                && targetHops.length >= network.numVertices)
+            return;
+
+        if (targetHops.length < network.numVertices)
+            targetHops = new int[points.length];
+        for (int i = 0; i < targetHops.length; i++)
+            targetHops[i] = -1;
+
+        /** The queue holds every vertex once, so it never wraps */
+        int[] queue = new int[network.numVertices];
+        int head = 0;
+        int tail = 0;
+        targetHops[targetIndex] = 0;
+        queue[tail++] = targetIndex;
+
+        while (head < tail) {
+            int index = queue[head++];
+            for (int e = network.adjacency.firstEdge(index); e != -1; e = network.adjacency.nextEdge(index, e)) {
+                int next = network.adjacency.edgeTarget(index, e);
+                if (targetHops[next] == -1) {
+                    targetHops[next] = targetHops[index] + 1;
+                    queue[tail++] = next;
+                }
+            }
+        }
+
+        heuristicTarget = targetIndex;
+        heuristicModCount = network.modificationCount();
+    }
+
+    /**
+     * Compares two paths by the points they leave and then by number of edges
+     *
+     * @return true if the first path is better than the second
+     */
+    private static boolean better(int points, int hops, int otherPoints, int otherHops) {
+        return points > otherPoints || (points == otherPoints && hops < otherHops);
+    }
+
+    /**
+     * Checks if entering some vertex of the network adds points
+     *
+     * @param gain points added when entering each vertex, by index
+     * @return true if some gain is positive; false otherwise
+     */
+    private boolean hasPositiveGain(int[] gain) {
+        for (int i = 0; i < network.numVertices; i++)
+            if (gain[i] > 0)
+                return true;
+        return false;
+    }
+
+    /**
+     * Checks if the last search reached a vertex
+     *
+     * @param index vertex index
+     * @return true if reached; false otherwise
+     */
+    public boolean isReached(int index) {
+        return index >= 0 && index < points.length && points[index] != UNREACHED;
+    }
+
+    /**
+     * Returns the points left on arrival at a vertex in the last search
+     *
+     * @param index vertex index
+     * @return points left; {@link #UNREACHED} if the vertex was not reached
+     */
+    public int getPoints(int index) {
+        return points[index];
+    }
+
+    /**
+     * Returns the previous vertex on the best path to a vertex in the last search
+     *
+     * @param index vertex index
+     * @return previous index; -1 for the start and unreached vertices
+     */
+    public int getPredecessor(int index) {
+        return predecessor[index];
+    }
+
+    /**
+     * Returns the number of edges of the best path to a vertex in the last search
+     *
+     * @param index vertex index
+     * @return number of edges; meaningless if the vertex was not reached
+     */
+    public int getHops(int index) {
+        return hops[index];
+    }
+
+    /**
+     * Resets the working arrays for a network with the given number of vertices, growing them if needed
+     *
+     * @param size number of vertices
+     */
+    private void prepare(int size) {
+        if (points.length < size) {
+            points = new int[size];
+            predecessor = new int[size];
+            hops = new int[size];
+            settled = new boolean[size];
+            heap = new IndexedMinHeap(size);
+            backwardCost = new int[size];
+            backwardHops = new int[size];
+            backwardSettled = new boolean[size];
+            backwardHeap = new IndexedMinHeap(size);
+        } else {
+            heap.clear();
+            backwardHeap.clear();
+        }
+        expansions = 0;
+
+        for (int i = 0; i < points.length; i++) {
+            points[i] = UNREACHED;
+            predecessor[i] = -1;
+            hops[i] = 0;
+            settled[i] = false;
+            backwardCost[i] = Integer.MAX_VALUE;
+            backwardHops[i] = 0;
+            backwardSettled[i] = false;
+        }
+    }
+}
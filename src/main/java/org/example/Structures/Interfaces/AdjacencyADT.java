@@ -0,0 +1,55 @@
+package org.example.Structures.Interfaces;
+
+/**
+ * Storage for the weighted edges of a network. Vertices are identified by their index and every edge is stored in a
+ * single direction, so an undirected edge is kept as two entries. A missing edge has a weight of
+ * {@link Double}.POSITIVE_INFINITY.
+ *
+ * <p>The edges leaving a vertex are visited with a cursor, without allocating anything:</p>
+ * <pre>
+ * for (int e = adjacency.firstEdge(v); e != -1; e = adjacency.nextEdge(v, e))
+ *     visit(adjacency.edgeTarget(v, e), adjacency.edgeWeight(v, e));
+ * </pre>
+ * Edges are always visited in ascending order of their target index.
+ */
+public interface AdjacencyADT
+{
+    /** Makes room for vertices with an index lower than the given capacity. */
+    public void expandCapacity(int capacity);
+
+    /** Returns the number of vertex slots available. */
+    public int capacity();
+
+    /** Returns a new and empty storage of the same kind, with the given capacity. */
+    public AdjacencyADT newInstance(int capacity);
+
+    /** Removes every edge that leaves or reaches the vertex at the given index. */
+    public void clearVertex(int index);
+
+    /** Removes the vertex at the given index, shifting every later vertex one index down. */
+    public void removeVertex(int index, int numVertices);
+
+    /** Inserts or replaces the edge between two vertices. */
+    public void setEdge(int from, int to, double weight);
+
+    /** Removes the edge between two vertices, if there is one. */
+    public void removeEdge(int from, int to);
+
+    /** Returns the weight of the edge between two vertices, or infinity if there is none. */
+    public double getWeight(int from, int to);
+
+    /** Returns the number of edges leaving the vertex. */
+    public int degree(int from);
+
+    /** Returns the cursor of the first edge leaving the vertex, or -1 if there is none. */
+    public int firstEdge(int from);
+
+    /** Returns the cursor of the edge after the given one, or -1 if there is none. */
+    public int nextEdge(int from, int cursor);
+
+    /** Returns the index of the vertex reached by the edge at the given cursor. */
+    public int edgeTarget(int from, int cursor);
+
+    /** Returns the weight of the edge at the given cursor. */
+    public double edgeWeight(int from, int cursor);
+}
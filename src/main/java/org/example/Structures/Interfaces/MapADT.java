@@ -0,0 +1,56 @@
+package org.example.Structures.Interfaces;
+
+public interface MapADT<K, V> {
+
+    /**
+     * Associates the value with the key, replacing any previous value.
+     *
+     * @param key   key of the entry
+     * @param value value of the entry
+     * @return the previous value of the key, or null if there was none
+     */
+    public V put(K key, V value);
+
+    /**
+     * Returns the value associated with the key.
+     *
+     * @param key key to look up
+     * @return the value of the key, or null if there is none
+     */
+    public V get(K key);
+
+    /**
+     * Removes the entry of the key.
+     *
+     * @param key key to remove
+     * @return the removed value, or null if there was none
+     */
+    public V remove(K key);
+
+    /**
+     * Returns true if this map has an entry for the key.
+     *
+     * @param key key to check
+     * @return boolean whether or not the key is in this map
+     */
+    public boolean containsKey(K key);
+
+    /**
+     * Removes every entry from this map.
+     */
+    public void clear();
+
+    /**
+     * Returns true if this map contains no entries.
+     *
+     * @return boolean whether or not this map is empty
+     */
+    public boolean isEmpty();
+
+    /**
+     * Returns the number of entries in this map.
+     *
+     * @return int number of entries
+     */
+    public int size();
+}